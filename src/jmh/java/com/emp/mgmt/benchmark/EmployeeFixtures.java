@@ -0,0 +1,48 @@
+package com.emp.mgmt.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.entity.Employee;
+
+/** Deterministic sample data shared by the benchmarks. */
+final class EmployeeFixtures {
+
+	private static final String[] DEPARTMENTS = { "Engineering", "Finance", "HR", "Sales", "Support" };
+
+	private EmployeeFixtures() {
+	}
+
+	static EmployeeDTO dto(long i) {
+		EmployeeDTO dto = new EmployeeDTO();
+		dto.setId(i);
+		dto.setName("Employee " + i);
+		dto.setEmail("employee" + i + "@example.com");
+		dto.setDepartment(DEPARTMENTS[(int) (i % DEPARTMENTS.length)]);
+		dto.setSalary(40000.0 + (i % 100) * 750);
+		dto.setJoiningDate(LocalDate.of(2015, 1, 1).plusDays(i % 3650));
+		return dto;
+	}
+
+	static Employee entity(long i) {
+		EmployeeDTO dto = dto(i);
+		Employee employee = new Employee();
+		employee.setId(dto.getId());
+		employee.setName(dto.getName());
+		employee.setEmail(dto.getEmail());
+		employee.setDepartment(dto.getDepartment());
+		employee.setSalary(dto.getSalary());
+		employee.setJoiningDate(dto.getJoiningDate());
+		return employee;
+	}
+
+	static List<EmployeeDTO> dtos(int count) {
+		List<EmployeeDTO> dtos = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			dtos.add(dto(i));
+		}
+		return dtos;
+	}
+}
@@ -0,0 +1,92 @@
+package com.emp.mgmt.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.emp.mgmt.converter.ColumnarHttpMessageConverter;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Encoding cost of a page of employees in each negotiated response format,
+ * with and without gzip. The payload sizes are printed once per fork, as
+ * {@code [format] bytes=... gzipped=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeFormatBenchmark {
+
+	@Param({ "json", "smile", "cbor", "columnar-json", "columnar-cbor" })
+	private String format;
+
+	@Param({ "10000" })
+	private int size;
+
+	private Page<EmployeeDTO> page;
+
+	private ObjectMapper objectMapper;
+
+	private ColumnarHttpMessageConverter columnar;
+
+	@Setup
+	public void setUp() throws IOException {
+		page = new PageImpl<>(EmployeeFixtures.dtos(size), PageRequest.of(0, size), size * 10L);
+		ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+		ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+		switch (format) {
+		case "json" -> objectMapper = jsonMapper;
+		case "smile" -> objectMapper = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+		case "cbor" -> objectMapper = cborMapper;
+		case "columnar-json" -> columnar = new ColumnarHttpMessageConverter(jsonMapper,
+				ColumnarHttpMessageConverter.COLUMNAR_JSON);
+		case "columnar-cbor" -> columnar = new ColumnarHttpMessageConverter(cborMapper,
+				ColumnarHttpMessageConverter.COLUMNAR_CBOR);
+		default -> throw new IllegalArgumentException("Unknown format: " + format);
+		}
+		System.out.printf("[%s] bytes=%d gzipped=%d%n", format, encode().length, encodeGzip().length);
+	}
+
+	@Benchmark
+	public byte[] encode() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+		write(out);
+		return out.toByteArray();
+	}
+
+	/** As served with {@code server.compression}: the encoder writes straight into gzip. */
+	@Benchmark
+	public byte[] encodeGzip() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 18);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+			write(gzip);
+		}
+		return out.toByteArray();
+	}
+
+	private void write(OutputStream out) throws IOException {
+		if (columnar != null) {
+			columnar.write(page, out);
+		} else {
+			objectMapper.writeValue(out, page);
+		}
+	}
+}
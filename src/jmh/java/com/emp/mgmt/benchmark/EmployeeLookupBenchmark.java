@@ -0,0 +1,144 @@
+package com.emp.mgmt.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.emp.mgmt.EmpMgmtSystemApplication;
+import com.emp.mgmt.dto.BulkItemResultDTO;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.service.EmployeeService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Lookups by id from {@code 16} threads with the employee cache off, so every
+ * call reaches the database: single lookups with and without coalescing, and
+ * {@value #BATCH_SIZE} ids fetched one by one versus with one batch call.
+ * Statements per operation are printed after each iteration from the
+ * Hibernate statistics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(16)
+public class EmployeeLookupBenchmark {
+
+	private static final int SEED_SIZE = 10_000;
+
+	private static final int BATCH_SIZE = 50;
+
+	@Param({ "true", "false" })
+	private boolean coalescing;
+
+	private final LongAdder operations = new LongAdder();
+
+	private final AtomicInteger callers = new AtomicInteger();
+
+	private ConfigurableApplicationContext context;
+
+	private EmployeeService employeeService;
+
+	private Statistics statistics;
+
+	private long[] ids;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(EmpMgmtSystemApplication.class).web(WebApplicationType.NONE)
+				// Arguments rather than default properties, which application.properties would override
+				.run("--logging.level.root=WARN", "--logging.level.com.emp.mgmt=WARN",
+						"--spring.cache.type=none",
+						"--spring.jpa.properties.hibernate.generate_statistics=true",
+						"--spring.jpa.properties.hibernate.log_slow_query=0",
+						"--employee.lookup.coalescing.enabled=" + coalescing,
+						"--spring.datasource.url=jdbc:h2:mem:lookup-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+		employeeService = context.getBean(EmployeeService.class);
+		statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+		List<BulkItemResultDTO> seeded = employeeService.addEmployees(EmployeeFixtures.dtos(SEED_SIZE).stream()
+				.peek(dto -> dto.setId(null)).toList());
+		ids = seeded.stream().mapToLong(BulkItemResultDTO::getId).toArray();
+	}
+
+	@Setup(Level.Iteration)
+	public void resetCounts() {
+		statistics.clear();
+		operations.reset();
+	}
+
+	@TearDown(Level.Iteration)
+	public void printCounts() {
+		System.out.printf("%n  coalescing=%s: %.3f statements/op%n", coalescing,
+				(double) statistics.getPrepareStatementCount() / Math.max(1, operations.sum()));
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public EmployeeDTO getEmployeeById(Caller caller) {
+		operations.increment();
+		return employeeService.getEmployeeById(caller.nextId());
+	}
+
+	@Benchmark
+	public List<EmployeeDTO> getEmployeeById50(Caller caller) {
+		operations.increment();
+		List<EmployeeDTO> employees = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			employees.add(employeeService.getEmployeeById(caller.nextId()));
+		}
+		return employees;
+	}
+
+	@Benchmark
+	public List<EmployeeDTO> getEmployeesByIds50(Caller caller) {
+		operations.increment();
+		List<Long> batch = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			batch.add(caller.nextId());
+		}
+		return employeeService.getEmployeesByIds(batch);
+	}
+
+	/** Per-thread id sequence, seeded so every run asks for the same ids. */
+	@State(Scope.Thread)
+	public static class Caller {
+
+		private SplittableRandom random;
+
+		private long[] ids;
+
+		@Setup
+		public void setUp(EmployeeLookupBenchmark benchmark) {
+			random = new SplittableRandom(benchmark.callers.incrementAndGet());
+			ids = benchmark.ids;
+		}
+
+		long nextId() {
+			return ids[random.nextInt(ids.length)];
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.emp.mgmt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.entity.Employee;
+import com.emp.mgmt.mapper.EmployeeMapper;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmployeeMapperBenchmark {
+
+	private Employee employee;
+
+	private EmployeeDTO dto;
+
+	@Setup
+	public void setUp() {
+		employee = EmployeeFixtures.entity(42);
+		dto = EmployeeFixtures.dto(42);
+	}
+
+	@Benchmark
+	public EmployeeDTO toDTO() {
+		return EmployeeMapper.toDTO(employee);
+	}
+
+	@Benchmark
+	public Employee toEntity() {
+		return EmployeeMapper.toEntity(dto);
+	}
+}
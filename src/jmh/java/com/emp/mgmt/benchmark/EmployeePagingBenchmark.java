@@ -0,0 +1,105 @@
+package com.emp.mgmt.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.emp.mgmt.EmpMgmtSystemApplication;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.service.EmployeeService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * One page of {@value #PAGE_SIZE} employees per operation, from the first
+ * {@value #PAGES} pages by id, with each {@code count} mode of
+ * {@code /paged}: {@code exact} runs {@code count(*)} with every page,
+ * {@code none} reads one extra row instead and {@code approximate} takes the
+ * total from the estimator. Statements per operation are printed after each
+ * iteration from the Hibernate statistics.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeePagingBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+
+	private static final int PAGES = 50;
+
+	@Param({ "10000", "100000" })
+	private int rows;
+
+	@Param({ "exact", "none", "approximate" })
+	private String count;
+
+	private final SplittableRandom random = new SplittableRandom(42);
+
+	private long operations;
+
+	private ConfigurableApplicationContext context;
+
+	private EmployeeService employeeService;
+
+	private Statistics statistics;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(EmpMgmtSystemApplication.class).web(WebApplicationType.NONE)
+				// Arguments rather than default properties, which application.properties would override
+				.run("--logging.level.root=WARN", "--logging.level.com.emp.mgmt=WARN",
+						"--spring.jpa.properties.hibernate.generate_statistics=true",
+						"--spring.jpa.properties.hibernate.log_slow_query=0",
+						"--spring.datasource.url=jdbc:h2:mem:paging-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+		employeeService = context.getBean(EmployeeService.class);
+		statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+		employeeService.addEmployees(EmployeeFixtures.dtos(rows).stream().peek(dto -> dto.setId(null)).toList());
+	}
+
+	@Setup(Level.Iteration)
+	public void resetCounts() {
+		statistics.clear();
+		operations = 0;
+	}
+
+	@TearDown(Level.Iteration)
+	public void printCounts() {
+		System.out.printf("%n  rows=%d count=%s: %.3f statements/op%n", rows, count,
+				(double) statistics.getPrepareStatementCount() / Math.max(1, operations));
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Slice<EmployeeDTO> getPage() {
+		operations++;
+		Pageable pageable = PageRequest.of(random.nextInt(PAGES), PAGE_SIZE, Sort.by("id"));
+		return switch (count) {
+			case "none" -> employeeService.getEmployeeSlice(pageable);
+			case "approximate" -> employeeService.getAllEmployeesApproximate(pageable);
+			default -> employeeService.getAllEmployees(pageable);
+		};
+	}
+}
@@ -0,0 +1,62 @@
+package com.emp.mgmt.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** Response-body serialization as done by the list and paged endpoints. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeSerializationBenchmark {
+
+	@Param({ "10", "1000" })
+	private int size;
+
+	/** Built the same way as Spring Boot's auto-configured mapper (java.time support, no timestamps). */
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private List<EmployeeDTO> employees;
+
+	private Page<EmployeeDTO> page;
+
+	private byte[] json;
+
+	@Setup
+	public void setUp() throws JsonProcessingException {
+		employees = EmployeeFixtures.dtos(size);
+		page = new PageImpl<>(employees, PageRequest.of(0, size), size * 10L);
+		json = objectMapper.writeValueAsBytes(employees);
+	}
+
+	@Benchmark
+	public byte[] serializeList() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(employees);
+	}
+
+	@Benchmark
+	public byte[] serializePage() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(page);
+	}
+
+	@Benchmark
+	public EmployeeDTO[] deserializeList() throws Exception {
+		return objectMapper.readValue(json, EmployeeDTO[].class);
+	}
+}
@@ -0,0 +1,100 @@
+package com.emp.mgmt.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.emp.mgmt.EmpMgmtSystemApplication;
+import com.emp.mgmt.dto.BulkItemResultDTO;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.service.EmployeeService;
+
+/**
+ * {@link EmployeeService} reads and writes through the full Spring/JPA stack
+ * against the in-memory H2 database configured for tests. The context is
+ * started once per trial and seeded with {@value #SEED_SIZE} employees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+	private static final int SEED_SIZE = 10_000;
+
+	private final AtomicLong sequence = new AtomicLong(SEED_SIZE);
+
+	private ConfigurableApplicationContext context;
+
+	private EmployeeService employeeService;
+
+	private Long existingId;
+
+	private EmployeeFilterDTO filter;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(EmpMgmtSystemApplication.class).web(WebApplicationType.NONE)
+				.properties("logging.level.root=WARN", "logging.level.com.emp.mgmt=WARN",
+						"spring.jpa.properties.hibernate.generate_statistics=false",
+						"spring.jpa.properties.hibernate.log_slow_query=0",
+						"spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+				.run();
+		employeeService = context.getBean(EmployeeService.class);
+		List<BulkItemResultDTO> seeded = employeeService.addEmployees(EmployeeFixtures.dtos(SEED_SIZE).stream()
+				.peek(dto -> dto.setId(null)).toList());
+		existingId = seeded.get(SEED_SIZE / 2).getId();
+		filter = new EmployeeFilterDTO();
+		filter.setDepartment("Finance");
+		filter.setMinSalary(50000.0);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public EmployeeDTO getEmployeeById() {
+		return employeeService.getEmployeeById(existingId);
+	}
+
+	@Benchmark
+	public Page<EmployeeDTO> getPage() {
+		return employeeService.getAllEmployees(PageRequest.of(10, 20, Sort.by("name")));
+	}
+
+	@Benchmark
+	public Page<EmployeeDTO> search() {
+		return employeeService.searchEmployees(filter, PageRequest.of(0, 20, Sort.by("salary")));
+	}
+
+	@Benchmark
+	public EmployeeDTO addEmployee() {
+		EmployeeDTO dto = EmployeeFixtures.dto(sequence.incrementAndGet());
+		dto.setId(null);
+		return employeeService.addEmployee(dto);
+	}
+
+	@Benchmark
+	public EmployeeDTO updateEmployee() {
+		EmployeeDTO dto = EmployeeFixtures.dto(existingId);
+		dto.setSalary(40000.0 + sequence.incrementAndGet() % 1000);
+		return employeeService.updateEmployee(existingId, dto);
+	}
+}
@@ -0,0 +1,60 @@
+package com.emp.mgmt.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmployeeValidationBenchmark {
+
+	private ValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	private EmployeeDTO valid;
+
+	private EmployeeDTO invalid;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+		valid = EmployeeFixtures.dto(1);
+		invalid = EmployeeFixtures.dto(2);
+		invalid.setName(" ");
+		invalid.setEmail("not-an-email");
+		invalid.setSalary(-1.0);
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<EmployeeDTO>> validateValid() {
+		return validator.validate(valid);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<EmployeeDTO>> validateInvalid() {
+		return validator.validate(invalid);
+	}
+}
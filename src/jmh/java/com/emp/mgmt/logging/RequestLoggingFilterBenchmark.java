@@ -0,0 +1,95 @@
+package com.emp.mgmt.logging;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+
+/**
+ * Request-thread cost of {@link RequestLoggingFilter} per request, with the
+ * same async appender setup as logback-spring.xml but writing to a null
+ * stream. Lives in the filter's package to reach its package-private setters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestLoggingFilterBenchmark {
+
+	/** {@code off}: filter disabled; otherwise the success sample rate. */
+	@Param({ "off", "0.0", "0.1", "1.0" })
+	private String sampleRate;
+
+	private final RequestLoggingFilter filter = new RequestLoggingFilter();
+
+	private AsyncAppender asyncAppender;
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	@Setup
+	public void setUp() {
+		LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{39} : %m%n");
+		encoder.start();
+		OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+		sink.setContext(context);
+		sink.setEncoder(encoder);
+		sink.setOutputStream(OutputStream.nullOutputStream());
+		sink.start();
+		asyncAppender = new AsyncAppender();
+		asyncAppender.setContext(context);
+		asyncAppender.setQueueSize(8192);
+		asyncAppender.addAppender(sink);
+		asyncAppender.start();
+		Logger logger = context.getLogger(RequestLoggingFilter.class);
+		logger.detachAndStopAllAppenders();
+		logger.setAdditive(false);
+		logger.setLevel(Level.INFO);
+		logger.addAppender(asyncAppender);
+
+		filter.setEnabled(!"off".equals(sampleRate));
+		filter.setSampleRate("off".equals(sampleRate) ? 0.0 : Double.parseDouble(sampleRate));
+		filter.setMaskedParams(new String[] { "email", "q", "salary", "minSalary", "maxSalary" });
+		request = new MockHttpServletRequest("GET", "/api/employees/search");
+		request.setQueryString("department=IT&minSalary=50000&page=0&size=20");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/employees/search");
+		response = new MockHttpServletResponse();
+	}
+
+	@TearDown
+	public void tearDown() {
+		asyncAppender.stop();
+	}
+
+	@Benchmark
+	public MockHttpServletResponse filter() throws Exception {
+		// OncePerRequestFilter marks the request; clear it so every invocation is filtered
+		request.removeAttribute(RequestLoggingFilter.class.getName() + ".FILTERED");
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
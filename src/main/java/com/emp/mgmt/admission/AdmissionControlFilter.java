@@ -0,0 +1,294 @@
+package com.emp.mgmt.admission;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.emp.mgmt.exception.ErrorDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admission control for {@code /api/**}, checked in this order:
+ * <ol>
+ * <li>Per-client token bucket ({@code employee.admission.rate-limit.*}), off
+ * by default: 429 with {@code Retry-After} set to when the next token is
+ * due. Clients are told apart by {@code employee.admission.client-id-header}
+ * when set (for a trusted gateway), otherwise by remote address, which
+ * behind a load balancer is the same for every client.</li>
+ * <li>Load shedding: while more threads wait for a pooled connection than
+ * {@code employee.admission.pool.max-pending}, or the mean acquire wait
+ * exceeds {@code employee.admission.pool.max-acquire-wait}, new requests get
+ * 503. Requests already admitted finish, which drains the pool.</li>
+ * <li>Bulkheads: separate concurrency limits for reads (GET, HEAD, OPTIONS)
+ * and writes, so a burst of one cannot take all threads from the other.
+ * A full bulkhead rejects at once with 503 instead of queueing.</li>
+ * </ol>
+ * Rejections are counted in {@code employee.admission.rejected} rather than
+ * logged one by one, so shedding stays cheap when it matters most; the filter
+ * runs before {@link com.emp.mgmt.logging.RequestLoggingFilter} for that
+ * reason. Pool pressure comes from the Hikari meters, so without a meter
+ * registry (e.g. MVC slice tests) there is no shedding.
+ */
+@Component
+@Profile("!reactive")
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class AdmissionControlFilter extends OncePerRequestFilter implements MeterBinder {
+
+	static final String REJECTED_METER = "employee.admission.rejected";
+
+	@Value("${employee.admission.enabled:true}")
+	private boolean enabled = true;
+
+	@Value("${employee.admission.client-id-header:}")
+	private String clientIdHeader = "";
+
+	@Value("${employee.admission.retry-after:PT1S}")
+	private Duration retryAfter = Duration.ofSeconds(1);
+
+	@Value("${employee.admission.pool.max-pending:10}")
+	private int maxPendingConnections = 10;
+
+	@Value("${employee.admission.pool.max-acquire-wait:PT0.2S}")
+	private Duration maxAcquireWait = Duration.ofMillis(200);
+
+	@Value("${employee.admission.pool.sample-interval:PT1S}")
+	private Duration poolSampleInterval = Duration.ofSeconds(1);
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private double requestsPerSecond = 0;
+
+	private double burst = 200;
+
+	private Cache<String, TokenBucket> buckets = newBucketCache();
+
+	private Semaphore reads = new Semaphore(64);
+
+	private Semaphore writes = new Semaphore(32);
+
+	private int maxConcurrentReads = 64;
+
+	private int maxConcurrentWrites = 32;
+
+	private ConnectionPoolPressure poolPressure;
+
+	private MeterRegistry meterRegistry;
+
+	@Value("${employee.admission.rate-limit.requests-per-second:0}")
+	void setRequestsPerSecond(double requestsPerSecond) {
+		this.requestsPerSecond = requestsPerSecond;
+		this.buckets = newBucketCache();
+	}
+
+	@Value("${employee.admission.rate-limit.burst:200}")
+	void setBurst(double burst) {
+		this.burst = burst;
+		this.buckets = newBucketCache();
+	}
+
+	@Value("${employee.admission.bulkhead.max-concurrent-reads:64}")
+	void setMaxConcurrentReads(int maxConcurrentReads) {
+		this.maxConcurrentReads = maxConcurrentReads;
+		this.reads = new Semaphore(maxConcurrentReads);
+	}
+
+	@Value("${employee.admission.bulkhead.max-concurrent-writes:32}")
+	void setMaxConcurrentWrites(int maxConcurrentWrites) {
+		this.maxConcurrentWrites = maxConcurrentWrites;
+		this.writes = new Semaphore(maxConcurrentWrites);
+	}
+
+	void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	void setClientIdHeader(String clientIdHeader) {
+		this.clientIdHeader = clientIdHeader;
+	}
+
+	void setMaxPendingConnections(int maxPendingConnections) {
+		this.maxPendingConnections = maxPendingConnections;
+	}
+
+	void setMaxAcquireWait(Duration maxAcquireWait) {
+		this.maxAcquireWait = maxAcquireWait;
+	}
+
+	void setPoolSampleInterval(Duration poolSampleInterval) {
+		this.poolSampleInterval = poolSampleInterval;
+	}
+
+	void setObjectMapper(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		this.meterRegistry = registry;
+		this.poolPressure = new ConnectionPoolPressure(registry, poolSampleInterval.toNanos());
+		Gauge.builder("employee.admission.in.flight", this, filter -> filter.maxConcurrentReads
+				- filter.reads.availablePermits()).tag("type", "read").description("Admitted requests in progress")
+				.register(registry);
+		Gauge.builder("employee.admission.in.flight", this, filter -> filter.maxConcurrentWrites
+				- filter.writes.availablePermits()).tag("type", "write").description("Admitted requests in progress")
+				.register(registry);
+		Gauge.builder("employee.admission.clients", this, filter -> filter.buckets.estimatedSize())
+				.description("Clients with a rate limit bucket").register(registry);
+		Gauge.builder("employee.admission.overloaded", this, filter -> filter.isOverloaded() ? 1 : 0)
+				.description("1 while new requests are shed because the connection pool is saturated")
+				.register(registry);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled || !request.getRequestURI().startsWith("/api/");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		boolean read = isRead(request.getMethod());
+		String type = read ? "read" : "write";
+
+		if (requestsPerSecond > 0) {
+			TokenBucket bucket = buckets.get(clientId(request),
+					key -> new TokenBucket(requestsPerSecond, Math.max(1, burst), System.nanoTime()));
+			long waitNanos = bucket.tryConsume(System.nanoTime());
+			if (waitNanos > 0) {
+				reject(request, response, HttpStatus.TOO_MANY_REQUESTS, "rate_limited", type,
+						TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L), "Rate limit exceeded");
+				return;
+			}
+		}
+		if (isOverloaded()) {
+			reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, "overloaded", type, retryAfterSeconds(),
+					"Service overloaded, retry later");
+			return;
+		}
+		Semaphore bulkhead = read ? reads : writes;
+		if (!bulkhead.tryAcquire()) {
+			reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, "bulkhead_full", type, retryAfterSeconds(),
+					"Too many concurrent " + (read ? "reads" : "writes") + ", retry later");
+			return;
+		}
+
+		boolean async = false;
+		try {
+			filterChain.doFilter(request, response);
+			// Streaming responses hold their permit until the async cycle ends; event streams only wait for
+			// changes, without a thread or a connection, so they release it as soon as they are open
+			if (request.isAsyncStarted() && !isEventStream(response)) {
+				request.getAsyncContext().addListener(new ReleaseListener(bulkhead));
+				async = true;
+			}
+		} finally {
+			if (!async) {
+				bulkhead.release();
+			}
+		}
+	}
+
+	boolean isOverloaded() {
+		ConnectionPoolPressure pressure = poolPressure;
+		if (pressure == null) {
+			return false;
+		}
+		return pressure.getPendingConnections() > maxPendingConnections
+				|| pressure.getAcquireWaitMillis() > maxAcquireWait.toMillis();
+	}
+
+	private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String reason,
+			String type, long retryAfterSeconds, String message) throws IOException {
+		if (meterRegistry != null) {
+			Counter.builder(REJECTED_METER).tag("reason", reason).tag("type", type)
+					.description("Requests refused by admission control").register(meterRegistry).increment();
+		}
+		response.setStatus(status.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfterSeconds)));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		ErrorDetails errorDetails = new ErrorDetails(new Date(), message, "uri=" + request.getRequestURI());
+		objectMapper.writeValue(response.getOutputStream(), errorDetails);
+	}
+
+	private String clientId(HttpServletRequest request) {
+		if (!clientIdHeader.isEmpty()) {
+			String clientId = request.getHeader(clientIdHeader);
+			if (clientId != null && !clientId.isBlank()) {
+				return clientId;
+			}
+		}
+		return request.getRemoteAddr();
+	}
+
+	private long retryAfterSeconds() {
+		return (retryAfter.toMillis() + 999) / 1000;
+	}
+
+	private static boolean isEventStream(HttpServletResponse response) {
+		String contentType = response.getContentType();
+		return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+	}
+
+	private static boolean isRead(String method) {
+		return "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method) || "OPTIONS".equalsIgnoreCase(method);
+	}
+
+	private static Cache<String, TokenBucket> newBucketCache() {
+		// Evicting an idle client only refills its bucket early
+		return Caffeine.newBuilder().maximumSize(100_000).expireAfterAccess(Duration.ofMinutes(10)).build();
+	}
+
+	private static final class ReleaseListener implements AsyncListener {
+
+		private final Semaphore bulkhead;
+
+		private ReleaseListener(Semaphore bulkhead) {
+			this.bulkhead = bulkhead;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			bulkhead.release();
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
+		}
+	}
+}
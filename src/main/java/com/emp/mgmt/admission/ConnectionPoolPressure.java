@@ -0,0 +1,91 @@
+package com.emp.mgmt.admission;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Connection pool pressure read from the Hikari meters of every pool in the
+ * registry (the primary and, when configured, the replicas).
+ * <p>
+ * The pending count is the sum of {@code hikaricp.connections.pending}, the
+ * threads waiting for a connection; Hikari refreshes it at most once a second.
+ * The acquire wait is the mean of {@code hikaricp.connections.acquire} over
+ * the last sample interval. Samples are taken by the request that finds the
+ * previous one expired, so no scheduler is involved.
+ */
+final class ConnectionPoolPressure {
+
+	static final String PENDING_METER = "hikaricp.connections.pending";
+
+	static final String ACQUIRE_METER = "hikaricp.connections.acquire";
+
+	private final MeterRegistry registry;
+
+	private final long sampleIntervalNanos;
+
+	private volatile long nextSampleAt;
+
+	/** Pools register their meters lazily (replicas on first use), so the lookup is repeated per sample. */
+	private volatile Collection<Gauge> pendingGauges = List.of();
+
+	private volatile double acquireWaitMillis;
+
+	private long lastAcquireCount;
+
+	private double lastAcquireMillis;
+
+	ConnectionPoolPressure(MeterRegistry registry, long sampleIntervalNanos) {
+		this.registry = registry;
+		this.sampleIntervalNanos = sampleIntervalNanos;
+		this.nextSampleAt = System.nanoTime();
+	}
+
+	int getPendingConnections() {
+		sampleIfDue();
+		double pending = 0;
+		for (Gauge gauge : pendingGauges) {
+			double value = gauge.value();
+			if (!Double.isNaN(value)) {
+				pending += value;
+			}
+		}
+		return (int) pending;
+	}
+
+	double getAcquireWaitMillis() {
+		sampleIfDue();
+		return acquireWaitMillis;
+	}
+
+	private void sampleIfDue() {
+		if (System.nanoTime() - nextSampleAt >= 0) {
+			sample();
+		}
+	}
+
+	private synchronized void sample() {
+		long now = System.nanoTime();
+		if (now - nextSampleAt < 0) {
+			return;
+		}
+		nextSampleAt = now + sampleIntervalNanos;
+		pendingGauges = registry.find(PENDING_METER).gauges();
+		long count = 0;
+		double totalMillis = 0;
+		for (Timer timer : registry.find(ACQUIRE_METER).timers()) {
+			count += timer.count();
+			totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+		}
+		// No acquisition completed: either idle or stalled, and a stalled pool shows up in the pending count
+		acquireWaitMillis = count > lastAcquireCount
+				? (totalMillis - lastAcquireMillis) / (count - lastAcquireCount)
+				: 0;
+		lastAcquireCount = count;
+		lastAcquireMillis = totalMillis;
+	}
+}
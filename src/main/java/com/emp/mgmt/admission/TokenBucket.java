@@ -0,0 +1,40 @@
+package com.emp.mgmt.admission;
+
+/**
+ * Token bucket refilled continuously at {@code ratePerSecond} up to
+ * {@code capacity} tokens. Starts full, so a client may burst up to the
+ * capacity before being held to the rate.
+ */
+final class TokenBucket {
+
+	private final double capacity;
+
+	private final double tokensPerNano;
+
+	private double tokens;
+
+	private long refilledAt;
+
+	TokenBucket(double ratePerSecond, double capacity, long now) {
+		this.capacity = capacity;
+		this.tokensPerNano = ratePerSecond / 1_000_000_000.0;
+		this.tokens = capacity;
+		this.refilledAt = now;
+	}
+
+	/**
+	 * Takes one token.
+	 *
+	 * @return 0 if a token was taken, otherwise the nanoseconds until one is
+	 *         available
+	 */
+	synchronized long tryConsume(long now) {
+		tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+		refilledAt = now;
+		if (tokens >= 1) {
+			tokens--;
+			return 0;
+		}
+		return (long) Math.ceil((1 - tokens) / tokensPerNano);
+	}
+}
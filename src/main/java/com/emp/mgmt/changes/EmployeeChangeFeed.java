@@ -0,0 +1,345 @@
+package com.emp.mgmt.changes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.emp.mgmt.config.DedicatedTaskExecutors;
+import com.emp.mgmt.dto.EmployeeChangeDTO;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Server-sent change feed over an {@link EmployeeChangeLog}.
+ * <p>
+ * Committed changes are appended to the log. A dispatcher, one pass at a
+ * time, copies them into each subscriber's bounded queue, and a small pool of
+ * sender threads writes each queue to its socket. Both run on
+ * {@link DedicatedTaskExecutors}, so they are virtual threads under the
+ * {@code virtual} profile and are shut down with the context. The same path replays
+ * missed changes to subscribers that resume with {@code Last-Event-ID}. A
+ * subscriber whose queue is full is left behind in the log until its queue
+ * drains. If it falls out of the log, it gets a resync. Subscriptions are
+ * async servlet requests, so an idle subscriber holds a socket but no
+ * thread.
+ * <p>
+ * Event ids are {@code <epoch>-<sequence>}, where the epoch identifies this
+ * process: an id from before a restart, or one whose changes have already
+ * left the log, gets a {@code resync} event instead. Its id is the current
+ * position, so a client reloads the list and then resumes from there; the
+ * stream is closed after it and {@code EventSource} reconnects on its own.
+ * <p>
+ * A subscriber that stops reading blocks only the sender thread writing to
+ * it. The heartbeat drops any subscriber whose send has been blocked for
+ * longer than {@code send-timeout}. Its thread is freed when Tomcat's write
+ * timeout fails the send. A send that fails because the client went away
+ * just deregisters the subscriber, and the container ends the request.
+ */
+@Component
+@Profile("!reactive")
+public class EmployeeChangeFeed implements MeterBinder, AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeFeed.class);
+
+	static final String RESYNC_EVENT = "resync";
+
+	/** Events queued per subscriber, and changes read from the log per batch while it catches up. */
+	private static final int QUEUE_SIZE = 500;
+
+	private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+	private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+	private final AsyncTaskExecutor dispatcher;
+
+	private final AsyncTaskExecutor senders;
+
+	/** Dispatch requests since the running pass started; only the first one starts a pass. */
+	private final AtomicInteger dispatchRequests = new AtomicInteger();
+
+	private final AtomicLong resyncs = new AtomicLong();
+
+	private final AtomicLong slowDrops = new AtomicLong();
+
+	private EmployeeChangeLog changeLog = new EmployeeChangeLog(10_000);
+
+	@Value("${employee.changes.max-subscribers:10000}")
+	private int maxSubscribers = 10_000;
+
+	@Value("${employee.changes.timeout:PT30M}")
+	private Duration timeout = Duration.ofMinutes(30);
+
+	@Value("${employee.changes.send-timeout:PT10S}")
+	private Duration sendTimeout = Duration.ofSeconds(10);
+
+	public EmployeeChangeFeed(DedicatedTaskExecutors executors,
+			@Value("${employee.changes.sender-threads:4}") int senderThreads) {
+		this.dispatcher = executors.create("employee-change-feed-", 1);
+		this.senders = executors.create("employee-change-feed-sender-", senderThreads);
+	}
+
+	@Value("${employee.changes.buffer-size:10000}")
+	void setBufferSize(int bufferSize) {
+		this.changeLog = new EmployeeChangeLog(bufferSize);
+	}
+
+	void setMaxSubscribers(int maxSubscribers) {
+		this.maxSubscribers = maxSubscribers;
+	}
+
+	void setSendTimeout(Duration sendTimeout) {
+		this.sendTimeout = sendTimeout;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("employee.changes.subscribers", subscribers, Set::size)
+				.description("Open change feed subscriptions").register(registry);
+		Gauge.builder("employee.changes.sequence", this, feed -> feed.changeLog.getLastSequence())
+				.description("Sequence of the latest change").register(registry);
+		FunctionCounter.builder("employee.changes.resyncs", resyncs, AtomicLong::get)
+				.description("Subscribers told to reload because they fell too far behind").register(registry);
+		FunctionCounter.builder("employee.changes.slow-drops", slowDrops, AtomicLong::get)
+				.description("Subscribers dropped because a send was blocked for longer than the send timeout")
+				.register(registry);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		changeLog.append(event);
+		scheduleDispatch();
+	}
+
+	/**
+	 * Opens a subscription that starts after {@code lastEventId}, or at the
+	 * latest change when it is {@code null}.
+	 *
+	 * @return the emitter, or {@code null} when the subscriber limit is reached
+	 */
+	public SseEmitter subscribe(String lastEventId) {
+		if (subscribers.size() >= maxSubscribers) {
+			return null;
+		}
+		SseEmitter emitter = new SseEmitter(timeout.toMillis());
+		emitter.onTimeout(emitter::complete);
+		try {
+			// Flushes the response headers as soon as the subscription is open, rather than with the first change
+			emitter.send(SseEmitter.event().comment("connected"));
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		register(emitter, lastEventId == null ? changeLog.getLastSequence() : parseEventId(lastEventId));
+		return emitter;
+	}
+
+	/** Starts delivering the changes after {@code sequence} to {@code emitter}. */
+	void register(SseEmitter emitter, long sequence) {
+		Subscriber subscriber = new Subscriber(emitter, sequence);
+		emitter.onCompletion(() -> deregister(subscriber));
+		emitter.onError(ex -> deregister(subscriber));
+		subscribers.add(subscriber);
+		scheduleDispatch();
+	}
+
+	public int getSubscriberCount() {
+		return subscribers.size();
+	}
+
+	/**
+	 * Comment line to every idle subscriber, so proxies keep the stream open
+	 * and dead clients are noticed; drops subscribers whose send is blocked.
+	 */
+	@Scheduled(fixedDelayString = "${employee.changes.heartbeat-interval:PT15S}")
+	public void heartbeat() {
+		long now = System.nanoTime();
+		for (Subscriber subscriber : subscribers) {
+			long sendStartedAt = subscriber.sendStartedAt;
+			if (sendStartedAt != 0 && now - sendStartedAt > sendTimeout.toNanos()) {
+				logger.debug("Dropping change feed subscriber: a send has been blocked for more than {}", sendTimeout);
+				slowDrops.incrementAndGet();
+				deregister(subscriber);
+			} else if (subscriber.queue.isEmpty()) {
+				subscriber.queue.offer(new Message(SseEmitter.event().comment("heartbeat"), false));
+				send(subscriber);
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		DedicatedTaskExecutors.shutdown(dispatcher);
+		DedicatedTaskExecutors.shutdown(senders);
+		subscribers.forEach(subscriber -> subscriber.emitter.complete());
+	}
+
+	private void scheduleDispatch() {
+		if (dispatchRequests.getAndIncrement() == 0) {
+			execute(dispatcher, this::dispatch);
+		}
+	}
+
+	/**
+	 * Passes over all subscribers until no request arrived during the last
+	 * one, so passes never overlap, even on an executor that starts a thread
+	 * per task.
+	 */
+	private void dispatch() {
+		int requests = dispatchRequests.get();
+		do {
+			for (Subscriber subscriber : subscribers) {
+				enqueue(subscriber);
+				send(subscriber);
+			}
+		} while ((requests = dispatchRequests.addAndGet(-requests)) != 0);
+	}
+
+	/** Moves the changes after the subscriber's position from the log to its queue, as far as the queue has room. */
+	private void enqueue(Subscriber subscriber) {
+		if (subscriber.closing) {
+			return;
+		}
+		List<EmployeeChangeDTO> changes;
+		while ((changes = changeLog.since(subscriber.sequence, QUEUE_SIZE)) != null && !changes.isEmpty()) {
+			for (EmployeeChangeDTO change : changes) {
+				Message message = new Message(SseEmitter.event().id(eventId(change.getSequence()))
+						.name(change.getType().name().toLowerCase(Locale.ROOT))
+						.data(change, MediaType.APPLICATION_JSON), false);
+				if (!subscriber.queue.offer(message)) {
+					// The rest stays in the log until the queue drains
+					return;
+				}
+				subscriber.sequence = change.getSequence();
+			}
+		}
+		if (changes == null) {
+			long lastSequence = changeLog.getLastSequence();
+			Message resync = new Message(SseEmitter.event().id(eventId(lastSequence)).name(RESYNC_EVENT)
+					.data(Map.of("sequence", lastSequence), MediaType.APPLICATION_JSON), true);
+			if (subscriber.queue.offer(resync)) {
+				resyncs.incrementAndGet();
+				subscriber.closing = true;
+			}
+		}
+	}
+
+	/** Has a sender drain the subscriber's queue unless one already is. */
+	private void send(Subscriber subscriber) {
+		if (!subscriber.queue.isEmpty() && subscriber.sending.compareAndSet(false, true)) {
+			execute(senders, () -> drain(subscriber));
+		}
+	}
+
+	private void drain(Subscriber subscriber) {
+		try {
+			Message message;
+			while ((message = subscriber.queue.poll()) != null) {
+				subscriber.sendStartedAt = System.nanoTime();
+				subscriber.emitter.send(message.event());
+				subscriber.sendStartedAt = 0;
+				// Also when dropped while the send was blocked; the client resumes with Last-Event-ID
+				if (message.last() || !subscribers.contains(subscriber)) {
+					deregister(subscriber);
+					subscriber.emitter.complete();
+					return;
+				}
+			}
+		} catch (IOException | IllegalStateException ex) {
+			// The client is gone: the container ends the request, nothing to report back to it
+			logger.debug("Dropping change feed subscriber: send failed");
+			deregister(subscriber);
+			return;
+		} finally {
+			subscriber.sendStartedAt = 0;
+			subscriber.sending.set(false);
+		}
+		// Queued after the last poll, or left in the log while the queue was full
+		send(subscriber);
+		if (subscriber.sequence < changeLog.getLastSequence()) {
+			scheduleDispatch();
+		}
+	}
+
+	private void deregister(Subscriber subscriber) {
+		subscribers.remove(subscriber);
+		subscriber.queue.clear();
+	}
+
+	private static void execute(AsyncTaskExecutor executor, Runnable task) {
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException ex) {
+			// Shutting down
+		}
+	}
+
+	String eventId(long sequence) {
+		return epoch + "-" + sequence;
+	}
+
+	/** Sequence to resume after; -1, which is always behind the log, for ids of another epoch or malformed ones. */
+	private long parseEventId(String eventId) {
+		int separator = eventId.lastIndexOf('-');
+		if (separator > 0 && eventId.substring(0, separator).equals(epoch)) {
+			try {
+				return Long.parseLong(eventId.substring(separator + 1));
+			} catch (NumberFormatException ex) {
+				// Fall through to a resync
+			}
+		}
+		return -1;
+	}
+
+	/** An event to write; {@code last} closes the stream after it. */
+	private record Message(SseEmitter.SseEventBuilder event, boolean last) {
+	}
+
+	private static final class Subscriber {
+
+		private final SseEmitter emitter;
+
+		private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+
+		/** Whether a sender is draining the queue. */
+		private final AtomicBoolean sending = new AtomicBoolean();
+
+		/** Last sequence queued; only touched by the running dispatch pass after construction. */
+		private volatile long sequence;
+
+		/** A resync is queued; nothing more is added. */
+		private volatile boolean closing;
+
+		/** {@link System#nanoTime()} when the current send started; 0 while none is in progress. */
+		private volatile long sendStartedAt;
+
+		private Subscriber(SseEmitter emitter, long sequence) {
+			this.emitter = emitter;
+			this.sequence = sequence;
+		}
+	}
+}
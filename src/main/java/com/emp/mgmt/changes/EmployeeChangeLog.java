@@ -0,0 +1,79 @@
+package com.emp.mgmt.changes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.emp.mgmt.dto.EmployeeChangeDTO;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+
+/**
+ * Bounded ring buffer of the most recent employee changes, numbered from 1.
+ * Once full, each append overwrites the oldest entry; a reader asking for
+ * changes that were overwritten gets {@code null} and has to resync.
+ */
+public class EmployeeChangeLog {
+
+	private final EmployeeChangeDTO[] entries;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/** Sequence of the newest entry; 0 while empty. */
+	private long lastSequence;
+
+	public EmployeeChangeLog(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		}
+		this.entries = new EmployeeChangeDTO[capacity];
+	}
+
+	public EmployeeChangeDTO append(EmployeeChangedEvent event) {
+		lock.lock();
+		try {
+			EmployeeChangeDTO change = new EmployeeChangeDTO(lastSequence + 1, event.getType(), event.getId(),
+					event.getEmployee(), Instant.now());
+			entries[(int) (change.getSequence() % entries.length)] = change;
+			lastSequence = change.getSequence();
+			return change;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the changes after {@code sequence}, oldest first, at most
+	 * {@code limit} of them; empty when up to date, {@code null} when some of
+	 * them were already overwritten or {@code sequence} is ahead of the log.
+	 */
+	public List<EmployeeChangeDTO> since(long sequence, int limit) {
+		lock.lock();
+		try {
+			if (sequence > lastSequence || sequence < oldestSequence() - 1) {
+				return null;
+			}
+			long end = Math.min(lastSequence, sequence + limit);
+			List<EmployeeChangeDTO> changes = new ArrayList<>((int) (end - sequence));
+			for (long next = sequence + 1; next <= end; next++) {
+				changes.add(entries[(int) (next % entries.length)]);
+			}
+			return changes;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getLastSequence() {
+		lock.lock();
+		try {
+			return lastSequence;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private long oldestSequence() {
+		return Math.max(1, lastSequence - entries.length + 1);
+	}
+}
@@ -0,0 +1,156 @@
+package com.emp.mgmt.changes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.emp.mgmt.dto.EmployeeChangeDTO;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * WebFlux counterpart of {@link EmployeeChangeFeed} for the {@code reactive}
+ * profile, over the same kind of {@link EmployeeChangeLog} and with the same
+ * event ids, {@code resync} event and {@code employee.changes.*} settings.
+ * <p>
+ * There are no queues or sender threads: each subscription reads the log
+ * itself, one change per item the response demands, and an append only
+ * wakes it up. A subscriber that stops reading stops demanding, so its
+ * changes stay in the log and cost no memory or thread until it reads again
+ * or falls out of the log and gets a resync.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveEmployeeChangeFeed implements MeterBinder {
+
+	static final String RESYNC_EVENT = EmployeeChangeFeed.RESYNC_EVENT;
+
+	private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+	/** Signals that the log has grown; subscribers that are busy reading simply miss it. */
+	private final Sinks.Many<Long> appended = Sinks.many().multicast().directBestEffort();
+
+	private final AtomicInteger subscribers = new AtomicInteger();
+
+	private final AtomicLong resyncs = new AtomicLong();
+
+	private EmployeeChangeLog changeLog = new EmployeeChangeLog(10_000);
+
+	@Value("${employee.changes.max-subscribers:10000}")
+	private int maxSubscribers = 10_000;
+
+	@Value("${employee.changes.timeout:PT30M}")
+	private Duration timeout = Duration.ofMinutes(30);
+
+	@Value("${employee.changes.heartbeat-interval:PT15S}")
+	private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+	@Value("${employee.changes.buffer-size:10000}")
+	void setBufferSize(int bufferSize) {
+		this.changeLog = new EmployeeChangeLog(bufferSize);
+	}
+
+	void setMaxSubscribers(int maxSubscribers) {
+		this.maxSubscribers = maxSubscribers;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("employee.changes.subscribers", subscribers, AtomicInteger::get)
+				.description("Open change feed subscriptions").register(registry);
+		Gauge.builder("employee.changes.sequence", this, feed -> feed.changeLog.getLastSequence())
+				.description("Sequence of the latest change").register(registry);
+		FunctionCounter.builder("employee.changes.resyncs", resyncs, AtomicLong::get)
+				.description("Subscribers told to reload because they fell too far behind").register(registry);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		EmployeeChangeDTO change = changeLog.append(event);
+		// Committing threads may emit concurrently; a lost race only means another wake-up is already on its way
+		appended.tryEmitNext(change.getSequence());
+	}
+
+	/**
+	 * Opens a subscription that starts after {@code lastEventId}, or at the
+	 * latest change when it is {@code null}.
+	 *
+	 * @return the events, or {@code null} when the subscriber limit is reached
+	 */
+	public Flux<ServerSentEvent<Object>> subscribe(String lastEventId) {
+		if (subscribers.incrementAndGet() > maxSubscribers) {
+			subscribers.decrementAndGet();
+			return null;
+		}
+		AtomicLong position = new AtomicLong(
+				lastEventId == null ? changeLog.getLastSequence() : parseEventId(lastEventId));
+		// Subscribed to the wake-ups before the first read, so no append can fall in between
+		Flux<ServerSentEvent<Object>> changes = Flux.merge(appended.asFlux(), Mono.just(0L))
+				.onBackpressureLatest().concatMap(wakeUp -> read(position), 1);
+		Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(heartbeatInterval).onBackpressureDrop()
+				.map(tick -> ServerSentEvent.builder().comment("heartbeat").build());
+		return Flux.merge(changes, heartbeats)
+				// Flushes the response headers as soon as the subscription is open, rather than with the first change
+				.startWith(ServerSentEvent.builder().comment("connected").build())
+				.takeUntil(event -> RESYNC_EVENT.equals(event.event())).take(timeout)
+				.doFinally(signal -> subscribers.decrementAndGet());
+	}
+
+	public int getSubscriberCount() {
+		return subscribers.get();
+	}
+
+	/** The changes after {@code position}, read one at a time as they are requested, or a resync. */
+	private Flux<ServerSentEvent<Object>> read(AtomicLong position) {
+		return Flux.generate(sink -> {
+			List<EmployeeChangeDTO> changes = changeLog.since(position.get(), 1);
+			if (changes == null) {
+				long lastSequence = changeLog.getLastSequence();
+				resyncs.incrementAndGet();
+				sink.next(ServerSentEvent.builder().id(eventId(lastSequence)).event(RESYNC_EVENT)
+						.data(Map.of("sequence", lastSequence)).build());
+				sink.complete();
+			} else if (changes.isEmpty()) {
+				sink.complete();
+			} else {
+				EmployeeChangeDTO change = changes.get(0);
+				position.set(change.getSequence());
+				sink.next(ServerSentEvent.builder().id(eventId(change.getSequence()))
+						.event(change.getType().name().toLowerCase(Locale.ROOT)).data(change).build());
+			}
+		});
+	}
+
+	String eventId(long sequence) {
+		return epoch + "-" + sequence;
+	}
+
+	/** Sequence to resume after; -1, which is always behind the log, for ids of another epoch or malformed ones. */
+	private long parseEventId(String eventId) {
+		int separator = eventId.lastIndexOf('-');
+		if (separator > 0 && eventId.substring(0, separator).equals(epoch)) {
+			try {
+				return Long.parseLong(eventId.substring(separator + 1));
+			} catch (NumberFormatException ex) {
+				// Fall through to a resync
+			}
+		}
+		return -1;
+	}
+}
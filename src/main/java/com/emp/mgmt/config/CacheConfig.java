@@ -0,0 +1,12 @@
+package com.emp.mgmt.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	/** EmployeeDTO by id, maintained by {@link com.emp.mgmt.service.EmployeeCache}. */
+	public static final String EMPLOYEES_CACHE = "employees";
+}
@@ -0,0 +1,63 @@
+package com.emp.mgmt.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executors for work that must not queue behind the application task
+ * executor, e.g. writes that block on slow clients. They are built with
+ * Spring Boot's task executor builders and follow the same threading mode
+ * as the application executor: the {@code virtual} profile (see
+ * {@link VirtualThreadConfig}) gets a virtual thread per task, otherwise a
+ * fixed pool whose idle threads time out.
+ * <p>
+ * They are not registered as beans, because any {@code Executor} bean
+ * replaces Boot's {@code applicationTaskExecutor}. Their owner shuts them
+ * down with {@link #shutdown} when the context closes.
+ */
+@Component
+public class DedicatedTaskExecutors {
+
+	private final Environment environment;
+
+	private final ThreadPoolTaskExecutorBuilder threadPoolBuilder;
+
+	private final SimpleAsyncTaskExecutorBuilder virtualThreadBuilder;
+
+	public DedicatedTaskExecutors(Environment environment, ThreadPoolTaskExecutorBuilder threadPoolBuilder,
+			SimpleAsyncTaskExecutorBuilder virtualThreadBuilder) {
+		this.environment = environment;
+		this.threadPoolBuilder = threadPoolBuilder;
+		this.virtualThreadBuilder = virtualThreadBuilder;
+	}
+
+	/** @param poolSize threads of the platform-thread pool; virtual threads are not limited */
+	public AsyncTaskExecutor create(String threadNamePrefix, int poolSize) {
+		if (Threading.VIRTUAL.isActive(environment)) {
+			return virtualThreadBuilder.virtualThreads(true).threadNamePrefix(threadNamePrefix).build();
+		}
+		ThreadPoolTaskExecutor executor = threadPoolBuilder.threadNamePrefix(threadNamePrefix)
+				.corePoolSize(poolSize).maxPoolSize(poolSize).queueCapacity(Integer.MAX_VALUE)
+				.allowCoreThreadTimeOut(true).keepAlive(Duration.ofSeconds(60)).build();
+		executor.setDaemon(true);
+		executor.initialize();
+		return executor;
+	}
+
+	/** Rejects new tasks and interrupts the running ones of a platform-thread pool. */
+	public static void shutdown(AsyncTaskExecutor executor) {
+		if (executor instanceof ThreadPoolTaskExecutor pool) {
+			pool.shutdown();
+		} else if (executor instanceof SimpleAsyncTaskExecutor virtualThreads) {
+			virtualThreads.close();
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.emp.mgmt.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.emp.mgmt.repository.EmployeeIdSequence;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Without Flyway the schema comes from {@code ddl-auto=update}, which creates
+ * {@code employees_seq} at 1 next to the ids a database from the identity
+ * column days already has. Moves the sequence past them once Hibernate has
+ * created it and before the server takes requests; under the {@code prod}
+ * profile, migration V2 does the same.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.flyway.enabled", havingValue = "false")
+public class EmployeeIdSequenceCheck implements InitializingBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeIdSequenceCheck.class);
+
+	/** Injected so the schema update has run before the check. */
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterPropertiesSet() {
+		if (EmployeeIdSequence.advancePastExistingIds(jdbcTemplate)) {
+			logger.warn("employees_seq was behind the existing employee ids and has been moved past them");
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.emp.mgmt.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.emp.mgmt.converter.ColumnarHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Binary and columnar response encodings, chosen by the {@code Accept}
+ * header: {@code application/cbor}, {@code application/x-jackson-smile} and,
+ * for list and page responses, {@link ColumnarHttpMessageConverter#COLUMNAR_JSON}
+ * and {@link ColumnarHttpMessageConverter#COLUMNAR_CBOR}.
+ * <p>
+ * All of them are appended after the JSON converter, so JSON stays the answer
+ * to {@code Accept: *}{@code /*} or no {@code Accept} at all. The binary
+ * mappers come from Boot's builder and share the {@code spring.jackson.*}
+ * settings of the JSON mapper.
+ */
+@Configuration
+@Profile("!reactive")
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		ObjectMapper smileMapper = objectMapperBuilder.getObject().factory(new SmileFactory()).build();
+		ObjectMapper cborMapper = objectMapperBuilder.getObject().factory(new CBORFactory()).build();
+
+		// Spring MVC adds these with its own default mappers when the dataformats are present
+		converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+				|| converter instanceof MappingJackson2CborHttpMessageConverter);
+		for (HttpMessageConverter<?> converter : converters) {
+			if (converter instanceof MappingJackson2HttpMessageConverter json) {
+				// It also claims application/*+json, which would answer the columnar type with plain rows
+				json.registerObjectMappersForType(List.class,
+						mappers -> mappers.put(MediaType.APPLICATION_JSON, json.getObjectMapper()));
+				json.registerObjectMappersForType(Slice.class,
+						mappers -> mappers.put(MediaType.APPLICATION_JSON, json.getObjectMapper()));
+			}
+		}
+		converters.add(new MappingJackson2SmileHttpMessageConverter(smileMapper));
+		converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+		converters.add(new ColumnarHttpMessageConverter(objectMapper, ColumnarHttpMessageConverter.COLUMNAR_JSON));
+		converters.add(new ColumnarHttpMessageConverter(cborMapper, ColumnarHttpMessageConverter.COLUMNAR_CBOR));
+	}
+}
@@ -0,0 +1,29 @@
+package com.emp.mgmt.config;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Keeps a JDBC pool next to R2DBC under the {@code reactive} profile. Spring
+ * Boot skips its DataSource once an R2DBC ConnectionFactory exists, but JPA
+ * still owns the schema and feeds the startup loads of the suggestion index
+ * and department statistics. Request handling only touches this pool for the
+ * occasional recount behind {@code count=approximate}.
+ */
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource dataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+}
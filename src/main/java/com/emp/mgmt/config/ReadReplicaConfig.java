@@ -0,0 +1,82 @@
+package com.emp.mgmt.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.emp.mgmt.datasource.ReplicaSetDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends reads in {@code @Transactional(readOnly = true)} methods to read
+ * replicas when {@code employee.datasource.replicas.urls} is set.
+ * <p>
+ * The application DataSource is a {@link LazyConnectionDataSourceProxy}: it
+ * hands out a placeholder connection and only picks the physical one on the
+ * first statement, by which time the transaction manager has marked it read
+ * only. Read-only connections come from the {@link ReplicaSetDataSource},
+ * everything else, including reads inside a read-write transaction, from the
+ * primary. Replicas reuse the primary pool settings and credentials.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "employee.datasource.replicas.urls")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReadReplicaConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaSetDataSource replicaDataSource(HikariDataSource primaryDataSource,
+			@Value("${employee.datasource.replicas.urls}") List<String> urls,
+			@Value("${employee.datasource.replicas.connection-timeout:PT2S}") Duration connectionTimeout,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+		for (String url : urls) {
+			// Not started until first use, so an unreachable replica does not fail startup
+			HikariDataSource replica = new HikariDataSource();
+			primaryDataSource.copyStateTo(replica);
+			replica.setJdbcUrl(url.trim());
+			replica.setPoolName("replica-" + (replicas.size() + 1));
+			replica.setConnectionTimeout(connectionTimeout.toMillis());
+			replica.setReadOnly(true);
+			replica.setMetricRegistry(null);
+			replica.setMetricsTrackerFactory(null);
+			meterRegistry.ifAvailable(
+					registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+			replicas.add(replica);
+		}
+		return new ReplicaSetDataSource(replicas, primaryDataSource);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaSetDataSource replicaDataSource) {
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+		dataSource.setReadOnlyDataSource(replicaDataSource);
+		return dataSource;
+	}
+}
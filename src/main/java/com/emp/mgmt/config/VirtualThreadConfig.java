@@ -0,0 +1,29 @@
+package com.emp.mgmt.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * Reports whether the {@code virtual} profile actually took effect. Spring Boot
+ * silently falls back to platform threads below Java 21, which would otherwise
+ * go unnoticed in a load test.
+ */
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+	private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+	public VirtualThreadConfig(Environment environment) {
+		if (Threading.VIRTUAL.isActive(environment)) {
+			logger.info("Virtual threads enabled for request handling, async and scheduled tasks");
+		} else {
+			logger.warn("Profile 'virtual' is active but virtual threads are not: Java {} does not support them",
+					System.getProperty("java.version"));
+		}
+	}
+}
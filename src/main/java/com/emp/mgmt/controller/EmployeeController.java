@@ -1,54 +1,111 @@
 package com.emp.mgmt.controller;
 
+import org.apache.commons.csv.CSVPrinter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import com.emp.mgmt.changes.EmployeeChangeFeed;
+import com.emp.mgmt.dto.BulkItemResultDTO;
+import com.emp.mgmt.dto.CsvImportResultDTO;
+import com.emp.mgmt.dto.CursorPageDTO;
+import com.emp.mgmt.dto.DepartmentStatsDTO;
+import com.emp.mgmt.dto.EmployeeBulkPatchDTO;
 import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.dto.EmployeePatchDTO;
+import com.emp.mgmt.dto.EmployeeSuggestionDTO;
+import com.emp.mgmt.exception.DuplicateEmailException;
+import com.emp.mgmt.exception.ResourceNotFoundException;
+import com.emp.mgmt.exception.VersionConflictException;
+import com.emp.mgmt.mapper.EmployeeCsvMapper;
 import com.emp.mgmt.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import jakarta.validation.Valid;
 
+import static com.emp.mgmt.controller.EmployeeETags.eTag;
+import static com.emp.mgmt.controller.EmployeeETags.pageETag;
+import static com.emp.mgmt.controller.EmployeeETags.parseETag;
+
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/employees")
 @Tag(name = "Employee Controller", description = "APIs for managing employees")
 public class EmployeeController {
 
 	private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
+	private static final int MAX_SUGGESTIONS = 50;
+
+	private static final int MAX_BATCH_IDS = 500;
+
+	private static final String TEXT_CSV_VALUE = "text/csv";
+
+	private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
 	@Autowired
 	private EmployeeService employeeService;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EmployeeChangeFeed employeeChangeFeed;
+
 	@PostMapping
 	@Operation(summary = "Add a new employee", description = "Create a new employee in the system")
 	public ResponseEntity<?> addEmployee(@Valid @RequestBody EmployeeDTO employeeDTO) {
 		try {
-			logger.info("Received request to add a new employee: {}", employeeDTO);
-			if (employeeService.existsByEmail(employeeDTO.getEmail())) {
-				logger.warn("Email already exists: {}", employeeDTO.getEmail());
-				return new ResponseEntity<>("Email already exists: " + employeeDTO.getEmail(), HttpStatus.BAD_REQUEST);
-			}
+			logger.debug("Received request to add a new employee");
 			EmployeeDTO savedEmployee = employeeService.addEmployee(employeeDTO);
-			logger.info("Employee added successfully: {}", savedEmployee);
+			logger.debug("Employee added successfully with ID: {}", savedEmployee.getId());
 			return new ResponseEntity<>(savedEmployee, HttpStatus.CREATED);
+		} catch (DuplicateEmailException ex) {
+			logger.debug("Rejected duplicate email");
+			return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
 		} catch (Exception ex) {
 			logger.error("EmployeeController :: addEmployee :: Error while adding employee: {}", ex.getMessage(), ex);
 			return new ResponseEntity<>("An error occurred while adding the employee: " + ex.getMessage(),
@@ -56,14 +113,67 @@ public class EmployeeController {
 		}
 	}
 
+	@PostMapping("/bulk")
+	@Operation(summary = "Add employees in bulk", description = "Create many employees in one request; each item reports its own outcome")
+	public ResponseEntity<?> addEmployees(@RequestBody List<EmployeeDTO> employeeDTOs) {
+		try {
+			logger.debug("Received request to add {} employees in bulk", employeeDTOs.size());
+			if (employeeDTOs.isEmpty()) {
+				return new ResponseEntity<>("No employees provided", HttpStatus.BAD_REQUEST);
+			}
+			List<BulkItemResultDTO> results = employeeService.addEmployees(employeeDTOs);
+			long created = results.stream().filter(r -> r.getStatus() == BulkItemResultDTO.Status.CREATED).count();
+			logger.debug("Bulk add created {} of {} employees", created, results.size());
+			return new ResponseEntity<>(results,
+					created == results.size() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+		} catch (Exception ex) {
+			logger.error("EmployeeController :: addEmployees :: Error while adding employees in bulk: {}",
+					ex.getMessage(), ex);
+			return new ResponseEntity<>("An error occurred while adding employees: " + ex.getMessage(),
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	@PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+	@Operation(summary = "Import employees from CSV", description = "Create employees from a UTF-8 CSV body with a header row, committed in chunks; failed rows are reported by line")
+	public ResponseEntity<?> importEmployees(InputStream body) {
+		try {
+			logger.debug("Received request to import employees from CSV");
+			CsvImportResultDTO report = employeeService
+					.importEmployees(new InputStreamReader(body, StandardCharsets.UTF_8));
+			logger.debug("CSV import created {} of {} employees", report.getCreated(), report.getRows());
+			if (report.getRows() == 0) {
+				return new ResponseEntity<>("No employees provided", HttpStatus.BAD_REQUEST);
+			}
+			return new ResponseEntity<>(report,
+					report.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+		} catch (IllegalArgumentException ex) {
+			logger.debug("Rejected CSV import: {}", ex.getMessage());
+			return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+		} catch (Exception ex) {
+			logger.error("EmployeeController :: importEmployees :: Error while importing employees: {}",
+					ex.getMessage(), ex);
+			return new ResponseEntity<>("An error occurred while importing employees: " + ex.getMessage(),
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
 	@GetMapping
     @Operation(summary = "Get all employees", description = "Retrieve a list of all employees")
-	public ResponseEntity<?> getAllEmployees() {
+	public ResponseEntity<?> getAllEmployees(@RequestParam(name = "fields", required = false) String fields) {
 		try {
-			logger.info("Received request to fetch all employees");
+			logger.debug("Received request to fetch all employees");
+			if (fields != null) {
+				List<Map<String, Object>> employees = employeeService.getAllEmployees(parseFields(fields));
+				logger.debug("Fetched {} employees with fields: {}", employees.size(), fields);
+				return new ResponseEntity<>(employees, HttpStatus.OK);
+			}
 			List<EmployeeDTO> employees = employeeService.getAllEmployees();
-			logger.info("Fetched {} employees", employees.size());
+			logger.debug("Fetched {} employees", employees.size());
 			return new ResponseEntity<>(employees, HttpStatus.OK);
+		} catch (IllegalArgumentException ex) {
+			logger.debug("Invalid fields requested: {}", ex.getMessage());
+			return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
 		} catch (Exception ex) {
 			logger.error("EmployeeController :: getAllEmployees :: Error while fetching all employees: {}",
 					ex.getMessage(), ex);
@@ -72,20 +182,196 @@ public class EmployeeController {
 		}
 	}
 
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "Stream all employees", description = "Stream all employees as newline-delimited JSON, one row at a time")
+	public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+		logger.debug("Received request to stream all employees");
+		StreamingResponseBody body = outputStream -> employeeService.streamAllEmployees(employee -> {
+			try {
+				outputStream.write(objectMapper.writeValueAsBytes(employee));
+				outputStream.write('\n');
+			} catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		});
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+
+	@GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "Subscribe to employee changes", description = "Server-sent events for every committed create, update and delete; resume with Last-Event-ID, reload the list on a resync event")
+	public ResponseEntity<SseEmitter> subscribeToChanges(
+			@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+		logger.debug("Received request to subscribe to employee changes");
+		SseEmitter emitter = employeeChangeFeed.subscribe(lastEventId);
+		if (emitter == null) {
+			logger.warn("Change feed subscriber limit reached, rejecting subscription");
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+		}
+		return ResponseEntity.ok(emitter);
+	}
+
+	@GetMapping(value = "/export", produces = TEXT_CSV_VALUE)
+	@Operation(summary = "Export employees as CSV", description = "Stream all employees as CSV straight from a database cursor")
+	public ResponseEntity<StreamingResponseBody> exportEmployees() {
+		logger.debug("Received request to export employees as CSV");
+		StreamingResponseBody body = outputStream -> {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+			CSVPrinter printer = EmployeeCsvMapper.printer(writer);
+			employeeService.streamAllEmployees(employee -> {
+				try {
+					EmployeeCsvMapper.print(printer, employee);
+				} catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			});
+			printer.flush();
+		};
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						ContentDisposition.attachment().filename("employees.csv").build().toString())
+				.body(body);
+	}
+
 	@GetMapping("/paged")
 	public ResponseEntity<?> getAllEmployeesPaged(@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "size", defaultValue = "10") int size,
+			@RequestParam(name = "sortBy", defaultValue = "id") String sortBy,
+			@RequestParam(name = "fields", required = false) String fields,
+			@RequestParam(name = "count", defaultValue = "exact") String count) {
+		try {
+			logger.debug("Received request to fetch employees with pagination - Page: {}, Size: {}, SortBy: {}, Count: {}",
+					page, size, sortBy, count);
+			Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
+			PageCount pageCount = PageCount.parse(count);
+			if (fields != null) {
+				List<String> requested = parseFields(fields);
+				Slice<Map<String, Object>> employees = switch (pageCount) {
+					case EXACT -> employeeService.getAllEmployees(requested, pageable);
+					case NONE -> employeeService.getEmployeeSlice(requested, pageable);
+					case APPROXIMATE -> employeeService.getAllEmployeesApproximate(requested, pageable);
+				};
+				logger.debug("Fetched {} employees on page {} with fields: {}", employees.getNumberOfElements(), page,
+						fields);
+				return new ResponseEntity<>(employees, HttpStatus.OK);
+			}
+			Slice<EmployeeDTO> employees = switch (pageCount) {
+				case EXACT -> employeeService.getAllEmployees(pageable);
+				case NONE -> employeeService.getEmployeeSlice(pageable);
+				case APPROXIMATE -> employeeService.getAllEmployeesApproximate(pageable);
+			};
+			logger.debug("Fetched {} employees on page {}", employees.getNumberOfElements(), page);
+			// A matching If-None-Match is answered with 304 before the body is serialized
+			return ResponseEntity.ok().eTag(pageETag(employees)).body(employees);
+		} catch (IllegalArgumentException ex) {
+			logger.debug("Invalid paging request: {}", ex.getMessage());
+			return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+		} catch (Exception ex) {
+			logger.error(
+					"EmployeeController :: getAllEmployeesPaged :: Error while fetching employees with pagination: {}",
+					ex.getMessage(), ex);
+			return new ResponseEntity<>("An error occurred while fetching employees: " + ex.getMessage(),
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	@GetMapping("/search")
+	@Operation(summary = "Search employees", description = "Filter employees by department, salary range and joining date range, with paging and sorting")
+	public ResponseEntity<?> searchEmployees(@RequestParam(name = "department", required = false) String department,
+			@RequestParam(name = "minSalary", required = false) Double minSalary,
+			@RequestParam(name = "maxSalary", required = false) Double maxSalary,
+			@RequestParam(name = "joinedFrom", required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedFrom,
+			@RequestParam(name = "joinedTo", required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedTo,
+			@RequestParam(name = "page", defaultValue = "0") int page,
 			@RequestParam(name = "size", defaultValue = "10") int size,
 			@RequestParam(name = "sortBy", defaultValue = "id") String sortBy) {
 		try {
-			logger.info("Received request to fetch employees with pagination - Page: {}, Size: {}, SortBy: {}", page,
-					size, sortBy);
+			EmployeeFilterDTO filter = new EmployeeFilterDTO(department, minSalary, maxSalary, joinedFrom, joinedTo);
+			logger.debug("Received request to search employees - Department: {}, Page: {}, Size: {}, SortBy: {}",
+					department, page, size, sortBy);
 			Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
-			Page<EmployeeDTO> employees = employeeService.getAllEmployees(pageable);
-			logger.info("Fetched {} employees on page {}", employees.getNumberOfElements(), page);
+			Page<EmployeeDTO> employees = employeeService.searchEmployees(filter, pageable);
+			logger.debug("Found {} employees on page {}", employees.getNumberOfElements(), page);
+			return new ResponseEntity<>(employees, HttpStatus.OK);
+		} catch (IllegalArgumentException ex) {
+			logger.debug("Invalid search request: {}", ex.getMessage());
+			return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+		} catch (Exception ex) {
+			logger.error("EmployeeController :: searchEmployees :: Error while searching employees: {}",
+					ex.getMessage(), ex);
+			return new ResponseEntity<>("An error occurred while searching employees: " + ex.getMessage(),
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	@GetMapping("/suggest")
+	@Operation(summary = "Suggest employees", description = "Type-ahead lookup of employees whose name or email starts with the query")
+	public ResponseEntity<?> suggestEmployees(@RequestParam(name = "q") String query,
+			@RequestParam(name = "limit", defaultValue = "10") int limit) {
+		try {
+			if (limit < 1 || limit > MAX_SUGGESTIONS) {
+				return new ResponseEntity<>("limit must be between 1 and " + MAX_SUGGESTIONS, HttpStatus.BAD_REQUEST);
+			}
+			List<EmployeeSuggestionDTO> suggestions = employeeService.suggestEmployees(query, limit);
+			return new ResponseEntity<>(suggestions, HttpStatus.OK);
+		} catch (Exception ex) {
+			logger.error("EmployeeController :: suggestEmployees :: Error while suggesting employees: {}",
+					ex.getMessage(), ex);
+			return new ResponseEntity<>("An error occurred while suggesting employees: " + ex.getMessage(),
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	@GetMapping("/stats")
+	@Operation(summary = "Get department statistics", description = "Headcount, salary totals, average, min/max and joining-year histogram per department")
+	public ResponseEntity<?> getDepartmentStats() {
+		try {
+			List<DepartmentStatsDTO> stats = employeeService.getDepartmentStats();
+			return new ResponseEntity<>(stats, HttpStatus.OK);
+		} catch (Exception ex) {
+			logger.error("EmployeeController :: getDepartmentStats :: Error while fetching department statistics: {}",
+					ex.getMessage(), ex);
+			return new ResponseEntity<>("An error occurred while fetching department statistics: " + ex.getMessage(),
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	@GetMapping("/cursor")
+	@Operation(summary = "Get employees by cursor", description = "Retrieve employees with keyset pagination; pass the returned nextCursor to fetch the following page")
+	public ResponseEntity<?> getAllEmployeesByCursor(@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "10") int size,
+			@RequestParam(name = "sortBy", defaultValue = "id") String sortBy) {
+		try {
+			logger.debug("Received request to fetch employees by cursor - Size: {}, SortBy: {}", size, sortBy);
+			CursorPageDTO<EmployeeDTO> employees = employeeService.getAllEmployees(cursor, size, sortBy);
+			logger.debug("Fetched {} employees, hasNext: {}", employees.getContent().size(), employees.isHasNext());
 			return new ResponseEntity<>(employees, HttpStatus.OK);
+		} catch (IllegalArgumentException ex) {
+			logger.debug("Invalid cursor request: {}", ex.getMessage());
+			return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
 		} catch (Exception ex) {
 			logger.error(
-					"EmployeeController :: getAllEmployeesPaged :: Error while fetching employees with pagination: {}",
+					"EmployeeController :: getAllEmployeesByCursor :: Error while fetching employees by cursor: {}",
+					ex.getMessage(), ex);
+			return new ResponseEntity<>("An error occurred while fetching employees: " + ex.getMessage(),
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	@GetMapping("/batch")
+	@Operation(summary = "Get employees by IDs", description = "Fetch up to 500 employees in one query, in the order requested; unknown IDs are left out")
+	public ResponseEntity<?> getEmployeesByIds(@RequestParam(name = "ids") List<Long> ids) {
+		try {
+			if (ids.isEmpty() || ids.size() > MAX_BATCH_IDS) {
+				return new ResponseEntity<>("ids must contain between 1 and " + MAX_BATCH_IDS + " IDs",
+						HttpStatus.BAD_REQUEST);
+			}
+			logger.debug("Received request to fetch {} employees by ID", ids.size());
+			List<EmployeeDTO> employees = employeeService.getEmployeesByIds(ids);
+			return new ResponseEntity<>(employees, HttpStatus.OK);
+		} catch (Exception ex) {
+			logger.error("EmployeeController :: getEmployeesByIds :: Error while fetching employees by ID: {}",
 					ex.getMessage(), ex);
 			return new ResponseEntity<>("An error occurred while fetching employees: " + ex.getMessage(),
 					HttpStatus.INTERNAL_SERVER_ERROR);
@@ -93,17 +379,25 @@ public class EmployeeController {
 	}
 
 	@GetMapping("/{id}")
-    @Operation(summary = "Get employee by ID", description = "Retrieve an employee by their ID")
-	public ResponseEntity<?> getEmployeeById(@PathVariable("id") Long id) {
+    @Operation(summary = "Get employee by ID", description = "Retrieve an employee by their ID; supports If-None-Match with the returned ETag")
+	public ResponseEntity<?> getEmployeeById(@PathVariable("id") Long id,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+			WebRequest webRequest) {
 		try {
-			logger.info("Received request to fetch employee by ID: {}", id);
-			if (!employeeService.existsById(id)) {
-				logger.warn("Employee not found with ID: {}", id);
-				return new ResponseEntity<>("No employee found with ID: " + id, HttpStatus.NOT_FOUND);
+			logger.debug("Received request to fetch employee by ID: {}", id);
+			if (ifNoneMatch != null) {
+				// Revalidation reads only the version column
+				String eTag = eTag(employeeService.getEmployeeVersion(id));
+				if (webRequest.checkNotModified(eTag)) {
+					return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+				}
 			}
 			EmployeeDTO employee = employeeService.getEmployeeById(id);
-			logger.info("Fetched employee: {}", employee);
-			return new ResponseEntity<>(employee, HttpStatus.OK);
+			logger.debug("Fetched employee with ID: {}", id);
+			return ResponseEntity.ok().eTag(eTag(employee.getVersion())).body(employee);
+		} catch (ResourceNotFoundException ex) {
+			logger.debug("Employee not found with ID: {}", id);
+			return new ResponseEntity<>("No employee found with ID: " + id, HttpStatus.NOT_FOUND);
 		} catch (Exception ex) {
 			logger.error("EmployeeController :: getEmployeeById :: Error while fetching employee by ID {}: {}", id,
 					ex.getMessage(), ex);
@@ -113,17 +407,38 @@ public class EmployeeController {
 	}
 
 	@PutMapping("/{id}")
-    @Operation(summary = "Update employee", description = "Update an existing employee by their ID")
-	public ResponseEntity<?> updateEmployee(@PathVariable("id") Long id, @Valid @RequestBody EmployeeDTO employeeDTO) {
+    @Operation(summary = "Update employee", description = "Update an existing employee by their ID; with If-Match the update only applies to that version, otherwise 412")
+	public ResponseEntity<?> updateEmployee(@PathVariable("id") Long id, @Valid @RequestBody EmployeeDTO employeeDTO,
+			@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 		try {
-			logger.info("Received request to update employee with ID: {}", id);
-			if (!employeeService.existsById(id)) {
-				logger.warn("Employee not found with ID: {}", id);
-				return new ResponseEntity<>("No employee found with ID: " + id, HttpStatus.NOT_FOUND);
+			logger.debug("Received request to update employee with ID: {}", id);
+			EmployeeDTO updatedEmployee;
+			if (ifMatch == null || ifMatch.trim().equals("*")) {
+				updatedEmployee = employeeService.updateEmployee(id, employeeDTO);
+			} else {
+				Long expectedVersion = parseETag(ifMatch);
+				if (expectedVersion == null) {
+					return new ResponseEntity<>("If-Match must be a single ETag returned by this API: " + ifMatch,
+							HttpStatus.PRECONDITION_FAILED);
+				}
+				updatedEmployee = employeeService.updateEmployee(id, employeeDTO, expectedVersion);
 			}
-			EmployeeDTO updatedEmployee = employeeService.updateEmployee(id, employeeDTO);
-			logger.info("Employee updated successfully: {}", updatedEmployee);
-			return new ResponseEntity<>(updatedEmployee, HttpStatus.OK);
+			logger.debug("Employee updated successfully with ID: {}", id);
+			ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+			if (updatedEmployee.getVersion() != null) {
+				response.eTag(eTag(updatedEmployee.getVersion()));
+			}
+			return response.body(updatedEmployee);
+		} catch (ResourceNotFoundException ex) {
+			logger.debug("Employee not found with ID: {}", id);
+			return new ResponseEntity<>("No employee found with ID: " + id, HttpStatus.NOT_FOUND);
+		} catch (VersionConflictException ex) {
+			logger.debug("Version conflict on employee with ID: {}", id);
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(eTag(ex.getCurrentVersion()))
+					.body(ex.getMessage());
+		} catch (DuplicateEmailException ex) {
+			logger.debug("Rejected duplicate email");
+			return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
 		} catch (Exception ex) {
 			logger.error("EmployeeController :: updateEmployee :: Error while updating employee with ID {}: {}", id,
 					ex.getMessage(), ex);
@@ -132,19 +447,81 @@ public class EmployeeController {
 		}
 	}
 
+	@PatchMapping(path = "/{id}", consumes = { MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+	@Operation(summary = "Partially update employee", description = "JSON Merge Patch: only the fields sent are changed, null clears a field; supports If-Match like PUT")
+	public ResponseEntity<?> patchEmployee(@PathVariable("id") Long id, @Valid @RequestBody EmployeePatchDTO patch,
+			@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		try {
+			logger.debug("Received request to patch employee with ID: {}", id);
+			EmployeeDTO patchedEmployee;
+			if (ifMatch == null || ifMatch.trim().equals("*")) {
+				patchedEmployee = employeeService.patchEmployee(id, patch);
+			} else {
+				Long expectedVersion = parseETag(ifMatch);
+				if (expectedVersion == null) {
+					return new ResponseEntity<>("If-Match must be a single ETag returned by this API: " + ifMatch,
+							HttpStatus.PRECONDITION_FAILED);
+				}
+				patchedEmployee = employeeService.patchEmployee(id, patch, expectedVersion);
+			}
+			logger.debug("Employee patched successfully with ID: {}", id);
+			return ResponseEntity.ok().eTag(eTag(patchedEmployee.getVersion())).body(patchedEmployee);
+		} catch (ResourceNotFoundException ex) {
+			logger.debug("Employee not found with ID: {}", id);
+			return new ResponseEntity<>("No employee found with ID: " + id, HttpStatus.NOT_FOUND);
+		} catch (VersionConflictException ex) {
+			logger.debug("Version conflict on employee with ID: {}", id);
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(eTag(ex.getCurrentVersion()))
+					.body(ex.getMessage());
+		} catch (DuplicateEmailException ex) {
+			logger.debug("Rejected duplicate email");
+			return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+		} catch (Exception ex) {
+			logger.error("EmployeeController :: patchEmployee :: Error while patching employee with ID {}: {}", id,
+					ex.getMessage(), ex);
+			return new ResponseEntity<>("An error occurred while updating the employee: " + ex.getMessage(),
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	@PatchMapping(consumes = { MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+	@Operation(summary = "Update employees matching a filter", description = "One set-based update of every employee matching the search filters (at least one required): department, salary and joining date as a merge patch, or a salaryAdjustmentPercent")
+	public ResponseEntity<?> patchEmployees(@RequestParam(name = "department", required = false) String department,
+			@RequestParam(name = "minSalary", required = false) Double minSalary,
+			@RequestParam(name = "maxSalary", required = false) Double maxSalary,
+			@RequestParam(name = "joinedFrom", required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedFrom,
+			@RequestParam(name = "joinedTo", required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedTo,
+			@Valid @RequestBody EmployeeBulkPatchDTO patch) {
+		try {
+			EmployeeFilterDTO filter = new EmployeeFilterDTO(department, minSalary, maxSalary, joinedFrom, joinedTo);
+			logger.debug("Received request to patch employees - Department: {}", department);
+			int updated = employeeService.patchEmployees(filter, patch);
+			logger.debug("Patched {} employees", updated);
+			return new ResponseEntity<>(Map.of("updated", updated), HttpStatus.OK);
+		} catch (IllegalArgumentException ex) {
+			logger.debug("Invalid bulk patch request: {}", ex.getMessage());
+			return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+		} catch (Exception ex) {
+			logger.error("EmployeeController :: patchEmployees :: Error while patching employees: {}",
+					ex.getMessage(), ex);
+			return new ResponseEntity<>("An error occurred while updating employees: " + ex.getMessage(),
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
 	@DeleteMapping("/{id}")
     @Operation(summary = "Delete employee", description = "Delete an employee by their ID")
 	public ResponseEntity<?> deleteEmployee(@PathVariable("id") Long id) {
 		try {
-			logger.info("Received request to delete employee with ID: {}", id);
-			if (!employeeService.existsById(id)) {
-				logger.warn("Employee not found with ID: {}", id);
-				return new ResponseEntity<>("No employee found with ID: " + id, HttpStatus.NOT_FOUND);
-			}
-
+			logger.debug("Received request to delete employee with ID: {}", id);
 			employeeService.deleteEmployee(id);
-			logger.info("Employee deleted successfully with ID: {}", id);
+			logger.debug("Employee deleted successfully with ID: {}", id);
 			return new ResponseEntity<>("Employee deleted successfully with ID: " + id, HttpStatus.OK);
+		} catch (ResourceNotFoundException ex) {
+			logger.debug("Employee not found with ID: {}", id);
+			return new ResponseEntity<>("No employee found with ID: " + id, HttpStatus.NOT_FOUND);
 		} catch (Exception ex) {
 			logger.error("EmployeeController :: deleteEmployee :: Error while deleting employee with ID {}: {}", id,
 					ex.getMessage(), ex);
@@ -152,4 +529,21 @@ public class EmployeeController {
 					HttpStatus.INTERNAL_SERVER_ERROR);
 		}
 	}
+
+	/** Parses a comma-separated {@code fields} parameter, keeping request order and dropping repeats. */
+	private static List<String> parseFields(String fields) {
+		return Arrays.stream(fields.split(",")).map(String::trim).filter(field -> !field.isEmpty()).distinct()
+				.collect(Collectors.toList());
+	}
+
+	/** How {@code /paged} gets its total: {@code count(*)}, no total at all, or an estimate. */
+	private enum PageCount {
+		EXACT, NONE, APPROXIMATE;
+
+		static PageCount parse(String count) {
+			return Arrays.stream(values()).filter(mode -> mode.name().equalsIgnoreCase(count)).findFirst()
+					.orElseThrow(() -> new IllegalArgumentException(
+							"Unsupported count: " + count + ", allowed: exact, none, approximate"));
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.emp.mgmt.controller;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+
+/** ETag format shared by the servlet and reactive controllers. */
+final class EmployeeETags {
+
+	private EmployeeETags() {
+	}
+
+	/** Strong ETag of a single employee: its version. */
+	static String eTag(Long version) {
+		return "\"" + version + "\"";
+	}
+
+	/** Version from a single strong ETag produced by {@link #eTag}; {@code null} if it is anything else. */
+	static Long parseETag(String eTag) {
+		String value = eTag.trim();
+		if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+			return null;
+		}
+		try {
+			return Long.valueOf(value.substring(1, value.length() - 1));
+		} catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Weak ETag of a page of employees, derived from the page position, the
+	 * total (for a slice, whether another page follows) and each row's id and
+	 * version. Any change to a row on the page, to its membership or to the
+	 * total count changes the tag.
+	 */
+	static String pageETag(Slice<EmployeeDTO> page) {
+		long hash = 17;
+		hash = 31 * hash + page.getNumber();
+		hash = 31 * hash + page.getSize();
+		hash = 31 * hash + (page instanceof Page<EmployeeDTO> counted ? counted.getTotalElements() : page.hasNext() ? 1 : 0);
+		for (EmployeeDTO employee : page.getContent()) {
+			hash = 31 * hash + (employee.getId() == null ? 0 : employee.getId());
+			hash = 31 * hash + (employee.getVersion() == null ? 0 : employee.getVersion());
+		}
+		return "W/\"" + Long.toHexString(hash) + "\"";
+	}
+}
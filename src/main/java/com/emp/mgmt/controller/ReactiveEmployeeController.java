@@ -0,0 +1,452 @@
+package com.emp.mgmt.controller;
+
+import static com.emp.mgmt.controller.EmployeeETags.eTag;
+import static com.emp.mgmt.controller.EmployeeETags.pageETag;
+import static com.emp.mgmt.controller.EmployeeETags.parseETag;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.commons.csv.CSVPrinter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.emp.mgmt.changes.ReactiveEmployeeChangeFeed;
+import com.emp.mgmt.dto.BulkItemResultDTO;
+import com.emp.mgmt.dto.EmployeeBulkPatchDTO;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.dto.EmployeePatchDTO;
+import com.emp.mgmt.exception.DuplicateEmailException;
+import com.emp.mgmt.exception.ResourceNotFoundException;
+import com.emp.mgmt.exception.VersionConflictException;
+import com.emp.mgmt.mapper.EmployeeCsvMapper;
+import com.emp.mgmt.service.ReactiveEmployeeService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux variant of {@link EmployeeController}, active with the
+ * {@code reactive} profile. Status codes, messages and ETags match the servlet
+ * API; list endpoints and the CSV export stream rows from R2DBC as the client
+ * consumes them.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/employees")
+@Tag(name = "Employee Controller", description = "APIs for managing employees")
+public class ReactiveEmployeeController {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeController.class);
+
+	private static final int MAX_SUGGESTIONS = 50;
+
+	private static final int MAX_BATCH_IDS = 500;
+
+	/** Exported rows encoded into each buffer written to the response. */
+	private static final int EXPORT_ROWS_PER_BUFFER = 100;
+
+	private static final String TEXT_CSV_VALUE = "text/csv";
+
+	private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+	@Autowired
+	private ReactiveEmployeeService employeeService;
+
+	@Autowired
+	private ReactiveEmployeeChangeFeed employeeChangeFeed;
+
+	@PostMapping
+	@Operation(summary = "Add a new employee", description = "Create a new employee in the system")
+	public Mono<ResponseEntity<Object>> addEmployee(@Valid @RequestBody EmployeeDTO employeeDTO) {
+		logger.debug("Received request to add a new employee");
+		return employeeService.addEmployee(employeeDTO)
+				.map(savedEmployee -> new ResponseEntity<Object>(savedEmployee, HttpStatus.CREATED))
+				.onErrorResume(DuplicateEmailException.class, ex -> {
+					logger.debug("Rejected duplicate email");
+					return Mono.just(new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST));
+				}).onErrorResume(ex -> error("addEmployee", "adding the employee", ex));
+	}
+
+	@PostMapping("/bulk")
+	@Operation(summary = "Add employees in bulk", description = "Create many employees in one request; each item reports its own outcome")
+	public Mono<ResponseEntity<Object>> addEmployees(@RequestBody List<EmployeeDTO> employeeDTOs) {
+		logger.debug("Received request to add {} employees in bulk", employeeDTOs.size());
+		if (employeeDTOs.isEmpty()) {
+			return Mono.just(new ResponseEntity<>("No employees provided", HttpStatus.BAD_REQUEST));
+		}
+		return employeeService.addEmployees(employeeDTOs).map(results -> {
+			long created = results.stream().filter(r -> r.getStatus() == BulkItemResultDTO.Status.CREATED).count();
+			logger.debug("Bulk add created {} of {} employees", created, results.size());
+			return new ResponseEntity<Object>(results,
+					created == results.size() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+		}).onErrorResume(ex -> error("addEmployees", "adding employees", ex));
+	}
+
+	@PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+	@Operation(summary = "Import employees from CSV", description = "Create employees from a UTF-8 CSV body with a header row, committed in chunks; failed rows are reported by line")
+	public Mono<ResponseEntity<Object>> importEmployees(@RequestBody Flux<DataBuffer> body) {
+		logger.debug("Received request to import employees from CSV");
+		return employeeService.importEmployees(body).map(report -> {
+			logger.debug("CSV import created {} of {} employees", report.getCreated(), report.getRows());
+			if (report.getRows() == 0) {
+				return new ResponseEntity<Object>("No employees provided", HttpStatus.BAD_REQUEST);
+			}
+			return new ResponseEntity<Object>(report,
+					report.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+		}).onErrorResume(IllegalArgumentException.class, ex -> {
+			logger.debug("Rejected CSV import: {}", ex.getMessage());
+			return Mono.just(new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST));
+		}).onErrorResume(ex -> error("importEmployees", "importing employees", ex));
+	}
+
+	@GetMapping
+	@Operation(summary = "Get all employees", description = "Retrieve a list of all employees")
+	public Mono<ResponseEntity<Object>> getAllEmployees(
+			@RequestParam(name = "fields", required = false) String fields) {
+		logger.debug("Received request to fetch all employees");
+		if (fields != null) {
+			return employeeService.getAllEmployees(parseFields(fields)).collectList()
+					.map(employees -> ResponseEntity.ok().<Object>body(employees))
+					.onErrorResume(IllegalArgumentException.class, ex -> badRequest("Invalid fields requested", ex))
+					.onErrorResume(ex -> error("getAllEmployees", "fetching employees", ex));
+		}
+		return Mono.just(ResponseEntity.ok(employeeService.getAllEmployees()));
+	}
+
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "Stream all employees", description = "Stream all employees as newline-delimited JSON, one row at a time")
+	public ResponseEntity<?> streamAllEmployees() {
+		logger.debug("Received request to stream all employees");
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(employeeService.getAllEmployees());
+	}
+
+	@GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "Subscribe to employee changes", description = "Server-sent events for every committed create, update and delete; resume with Last-Event-ID, reload the list on a resync event")
+	public ResponseEntity<Flux<ServerSentEvent<Object>>> subscribeToChanges(
+			@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+		logger.debug("Received request to subscribe to employee changes");
+		Flux<ServerSentEvent<Object>> events = employeeChangeFeed.subscribe(lastEventId);
+		if (events == null) {
+			logger.warn("Change feed subscriber limit reached, rejecting subscription");
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+		}
+		return ResponseEntity.ok(events);
+	}
+
+	@GetMapping(value = "/export", produces = TEXT_CSV_VALUE)
+	@Operation(summary = "Export employees as CSV", description = "Stream all employees as CSV straight from a database cursor")
+	public ResponseEntity<Flux<DataBuffer>> exportEmployees(ServerWebExchange exchange) {
+		logger.debug("Received request to export employees as CSV");
+		DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
+		Flux<DataBuffer> body = Flux
+				.concat(Mono.fromCallable(() -> csv(List.of(), true)),
+						employeeService.getAllEmployees().buffer(EXPORT_ROWS_PER_BUFFER).map(rows -> csv(rows, false)))
+				.map(text -> bufferFactory.wrap(text.getBytes(StandardCharsets.UTF_8)));
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						ContentDisposition.attachment().filename("employees.csv").build().toString())
+				.body(body);
+	}
+
+	@GetMapping("/paged")
+	@Operation(summary = "Get employees with pagination", description = "Retrieve employees one page at a time, sorted by the given field")
+	public Mono<ResponseEntity<Object>> getAllEmployeesPaged(@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "size", defaultValue = "10") int size,
+			@RequestParam(name = "sortBy", defaultValue = "id") String sortBy,
+			@RequestParam(name = "fields", required = false) String fields,
+			@RequestParam(name = "count", defaultValue = "exact") String count, ServerWebExchange exchange) {
+		logger.debug("Received request to fetch employees with pagination - Page: {}, Size: {}, SortBy: {}, Count: {}",
+				page, size, sortBy, count);
+		return Mono.defer(() -> {
+			Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
+			PageCount pageCount = PageCount.parse(count);
+			if (fields != null) {
+				List<String> requested = parseFields(fields);
+				Mono<? extends Slice<Map<String, Object>>> employees = switch (pageCount) {
+					case EXACT -> employeeService.getAllEmployees(requested, pageable);
+					case NONE -> employeeService.getEmployeeSlice(requested, pageable);
+					case APPROXIMATE -> employeeService.getAllEmployeesApproximate(requested, pageable);
+				};
+				return employees.map(slice -> ResponseEntity.ok().<Object>body(slice));
+			}
+			Mono<? extends Slice<EmployeeDTO>> employees = switch (pageCount) {
+				case EXACT -> employeeService.getAllEmployees(pageable);
+				case NONE -> employeeService.getEmployeeSlice(pageable);
+				case APPROXIMATE -> employeeService.getAllEmployeesApproximate(pageable);
+			};
+			return employees.map(slice -> {
+				String eTag = pageETag(slice);
+				if (exchange.checkNotModified(eTag)) {
+					return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<Object>build();
+				}
+				return ResponseEntity.ok().eTag(eTag).<Object>body(slice);
+			});
+		}).onErrorResume(IllegalArgumentException.class, ex -> badRequest("Invalid paging request", ex))
+				.onErrorResume(ex -> error("getAllEmployeesPaged", "fetching employees", ex));
+	}
+
+	@GetMapping("/search")
+	@Operation(summary = "Search employees", description = "Filter employees by department, salary range and joining date range, with paging and sorting")
+	public Mono<ResponseEntity<Object>> searchEmployees(
+			@RequestParam(name = "department", required = false) String department,
+			@RequestParam(name = "minSalary", required = false) Double minSalary,
+			@RequestParam(name = "maxSalary", required = false) Double maxSalary,
+			@RequestParam(name = "joinedFrom", required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedFrom,
+			@RequestParam(name = "joinedTo", required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedTo,
+			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "size", defaultValue = "10") int size,
+			@RequestParam(name = "sortBy", defaultValue = "id") String sortBy) {
+		EmployeeFilterDTO filter = new EmployeeFilterDTO(department, minSalary, maxSalary, joinedFrom, joinedTo);
+		logger.debug("Received request to search employees - Department: {}, Page: {}, Size: {}, SortBy: {}",
+				department, page, size, sortBy);
+		return Mono.defer(() -> employeeService.searchEmployees(filter, PageRequest.of(page, size, Sort.by(sortBy))))
+				.map(employees -> ResponseEntity.ok().<Object>body(employees))
+				.onErrorResume(IllegalArgumentException.class, ex -> badRequest("Invalid search request", ex))
+				.onErrorResume(ex -> error("searchEmployees", "searching employees", ex));
+	}
+
+	@GetMapping("/suggest")
+	@Operation(summary = "Suggest employees", description = "Type-ahead lookup of employees whose name or email starts with the query")
+	public ResponseEntity<?> suggestEmployees(@RequestParam(name = "q") String query,
+			@RequestParam(name = "limit", defaultValue = "10") int limit) {
+		if (limit < 1 || limit > MAX_SUGGESTIONS) {
+			return new ResponseEntity<>("limit must be between 1 and " + MAX_SUGGESTIONS, HttpStatus.BAD_REQUEST);
+		}
+		return ResponseEntity.ok(employeeService.suggestEmployees(query, limit));
+	}
+
+	@GetMapping("/stats")
+	@Operation(summary = "Get department statistics", description = "Headcount, salary totals, average, min/max and joining-year histogram per department")
+	public ResponseEntity<?> getDepartmentStats() {
+		return ResponseEntity.ok(employeeService.getDepartmentStats());
+	}
+
+	@GetMapping("/cursor")
+	@Operation(summary = "Get employees by cursor", description = "Retrieve employees with keyset pagination; pass the returned nextCursor to fetch the following page")
+	public Mono<ResponseEntity<Object>> getAllEmployeesByCursor(
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "10") int size,
+			@RequestParam(name = "sortBy", defaultValue = "id") String sortBy) {
+		logger.debug("Received request to fetch employees by cursor - Size: {}, SortBy: {}", size, sortBy);
+		return employeeService.getAllEmployees(cursor, size, sortBy)
+				.map(employees -> ResponseEntity.ok().<Object>body(employees))
+				.onErrorResume(IllegalArgumentException.class, ex -> badRequest("Invalid cursor request", ex))
+				.onErrorResume(ex -> error("getAllEmployeesByCursor", "fetching employees", ex));
+	}
+
+	@GetMapping("/batch")
+	@Operation(summary = "Get employees by IDs", description = "Fetch up to 500 employees in one query, in the order requested; unknown IDs are left out")
+	public Mono<ResponseEntity<Object>> getEmployeesByIds(@RequestParam(name = "ids") List<Long> ids) {
+		if (ids.isEmpty() || ids.size() > MAX_BATCH_IDS) {
+			return Mono.just(new ResponseEntity<>("ids must contain between 1 and " + MAX_BATCH_IDS + " IDs",
+					HttpStatus.BAD_REQUEST));
+		}
+		logger.debug("Received request to fetch {} employees by ID", ids.size());
+		return employeeService.getEmployeesByIds(ids).collectList()
+				.map(employees -> ResponseEntity.ok().<Object>body(employees))
+				.onErrorResume(ex -> error("getEmployeesByIds", "fetching employees", ex));
+	}
+
+	@GetMapping("/{id}")
+	@Operation(summary = "Get employee by ID", description = "Retrieve an employee by their ID; supports If-None-Match with the returned ETag")
+	public Mono<ResponseEntity<Object>> getEmployeeById(@PathVariable("id") Long id,
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+			ServerWebExchange exchange) {
+		logger.debug("Received request to fetch employee by ID: {}", id);
+		// Revalidation reads only the version column
+		Mono<ResponseEntity<Object>> notModified = ifNoneMatch == null ? Mono.empty()
+				: employeeService.getEmployeeVersion(id).map(version -> eTag(version))
+						.filter(eTag -> exchange.checkNotModified(eTag))
+						.map(eTag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+		return notModified
+				.switchIfEmpty(Mono.defer(() -> employeeService.getEmployeeById(id)
+						.map(employee -> ResponseEntity.ok().eTag(eTag(employee.getVersion())).<Object>body(employee))))
+				.onErrorResume(ResourceNotFoundException.class, ex -> notFound(id))
+				.onErrorResume(ex -> error("getEmployeeById", "fetching the employee", ex));
+	}
+
+	@PutMapping("/{id}")
+	@Operation(summary = "Update employee", description = "Update an existing employee by their ID; with If-Match the update only applies to that version, otherwise 412")
+	public Mono<ResponseEntity<Object>> updateEmployee(@PathVariable("id") Long id,
+			@Valid @RequestBody EmployeeDTO employeeDTO,
+			@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		logger.debug("Received request to update employee with ID: {}", id);
+		Mono<EmployeeDTO> update;
+		if (ifMatch == null || ifMatch.trim().equals("*")) {
+			update = employeeService.updateEmployee(id, employeeDTO);
+		} else {
+			Long expectedVersion = parseETag(ifMatch);
+			if (expectedVersion == null) {
+				return Mono.just(new ResponseEntity<>("If-Match must be a single ETag returned by this API: " + ifMatch,
+						HttpStatus.PRECONDITION_FAILED));
+			}
+			update = employeeService.updateEmployee(id, employeeDTO, expectedVersion);
+		}
+		return update.map(updatedEmployee -> {
+			ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+			if (updatedEmployee.getVersion() != null) {
+				response.eTag(eTag(updatedEmployee.getVersion()));
+			}
+			return response.<Object>body(updatedEmployee);
+		}).onErrorResume(ResourceNotFoundException.class, ex -> notFound(id))
+				.onErrorResume(VersionConflictException.class, ex -> versionConflict(id, ex))
+				.onErrorResume(DuplicateEmailException.class, ex -> {
+					logger.debug("Rejected duplicate email");
+					return Mono.just(new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST));
+				}).onErrorResume(ex -> error("updateEmployee", "updating the employee", ex));
+	}
+
+	@PatchMapping(path = "/{id}", consumes = { MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+	@Operation(summary = "Partially update employee", description = "JSON Merge Patch: only the fields sent are changed, null clears a field; supports If-Match like PUT")
+	public Mono<ResponseEntity<Object>> patchEmployee(@PathVariable("id") Long id,
+			@Valid @RequestBody EmployeePatchDTO patch,
+			@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		logger.debug("Received request to patch employee with ID: {}", id);
+		Mono<EmployeeDTO> patched;
+		if (ifMatch == null || ifMatch.trim().equals("*")) {
+			patched = employeeService.patchEmployee(id, patch);
+		} else {
+			Long expectedVersion = parseETag(ifMatch);
+			if (expectedVersion == null) {
+				return Mono.just(new ResponseEntity<>("If-Match must be a single ETag returned by this API: " + ifMatch,
+						HttpStatus.PRECONDITION_FAILED));
+			}
+			patched = employeeService.patchEmployee(id, patch, expectedVersion);
+		}
+		return patched
+				.map(patchedEmployee -> ResponseEntity.ok().eTag(eTag(patchedEmployee.getVersion()))
+						.<Object>body(patchedEmployee))
+				.onErrorResume(ResourceNotFoundException.class, ex -> notFound(id))
+				.onErrorResume(VersionConflictException.class, ex -> versionConflict(id, ex))
+				.onErrorResume(DuplicateEmailException.class, ex -> {
+					logger.debug("Rejected duplicate email");
+					return Mono.just(new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST));
+				}).onErrorResume(ex -> error("patchEmployee", "updating the employee", ex));
+	}
+
+	@PatchMapping(consumes = { MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+	@Operation(summary = "Update employees matching a filter", description = "One set-based update of every employee matching the search filters (at least one required): department, salary and joining date as a merge patch, or a salaryAdjustmentPercent")
+	public Mono<ResponseEntity<Object>> patchEmployees(
+			@RequestParam(name = "department", required = false) String department,
+			@RequestParam(name = "minSalary", required = false) Double minSalary,
+			@RequestParam(name = "maxSalary", required = false) Double maxSalary,
+			@RequestParam(name = "joinedFrom", required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedFrom,
+			@RequestParam(name = "joinedTo", required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate joinedTo,
+			@Valid @RequestBody EmployeeBulkPatchDTO patch) {
+		EmployeeFilterDTO filter = new EmployeeFilterDTO(department, minSalary, maxSalary, joinedFrom, joinedTo);
+		logger.debug("Received request to patch employees - Department: {}", department);
+		return employeeService.patchEmployees(filter, patch).map(updated -> {
+			logger.debug("Patched {} employees", updated);
+			return ResponseEntity.ok().<Object>body(Map.of("updated", updated));
+		}).onErrorResume(IllegalArgumentException.class, ex -> badRequest("Invalid bulk patch request", ex))
+				.onErrorResume(ex -> error("patchEmployees", "updating employees", ex));
+	}
+
+	@DeleteMapping("/{id}")
+	@Operation(summary = "Delete employee", description = "Delete an employee by their ID")
+	public Mono<ResponseEntity<Object>> deleteEmployee(@PathVariable("id") Long id) {
+		logger.debug("Received request to delete employee with ID: {}", id);
+		return employeeService.deleteEmployee(id)
+				.then(Mono.fromSupplier(() -> new ResponseEntity<Object>("Employee deleted successfully with ID: " + id,
+						HttpStatus.OK)))
+				.onErrorResume(ResourceNotFoundException.class, ex -> notFound(id))
+				.onErrorResume(ex -> error("deleteEmployee", "deleting the employee", ex));
+	}
+
+	private static Mono<ResponseEntity<Object>> notFound(Long id) {
+		logger.debug("Employee not found with ID: {}", id);
+		return Mono.just(new ResponseEntity<>("No employee found with ID: " + id, HttpStatus.NOT_FOUND));
+	}
+
+	private static Mono<ResponseEntity<Object>> error(String method, String action, Throwable ex) {
+		logger.error("ReactiveEmployeeController :: {} :: Error while {}: {}", method, action, ex.getMessage(), ex);
+		return Mono.just(new ResponseEntity<>("An error occurred while " + action + ": " + ex.getMessage(),
+				HttpStatus.INTERNAL_SERVER_ERROR));
+	}
+
+	private static Mono<ResponseEntity<Object>> versionConflict(Long id, VersionConflictException ex) {
+		logger.debug("Version conflict on employee with ID: {}", id);
+		return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(eTag(ex.getCurrentVersion()))
+				.body(ex.getMessage()));
+	}
+
+	private static Mono<ResponseEntity<Object>> badRequest(String reason, Throwable ex) {
+		logger.debug("{}: {}", reason, ex.getMessage());
+		return Mono.just(new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST));
+	}
+
+	/** CSV text of {@code employees}, preceded by the header row when {@code header} is set. */
+	private static String csv(List<EmployeeDTO> employees, boolean header) {
+		StringBuilder text = new StringBuilder();
+		try {
+			CSVPrinter printer = header ? EmployeeCsvMapper.printer(text) : EmployeeCsvMapper.rowPrinter(text);
+			for (EmployeeDTO employee : employees) {
+				EmployeeCsvMapper.print(printer, employee);
+			}
+		} catch (IOException ex) {
+			// A StringBuilder does not fail
+			throw new UncheckedIOException(ex);
+		}
+		return text.toString();
+	}
+
+	/** Parses a comma-separated {@code fields} parameter, keeping request order and dropping repeats. */
+	private static List<String> parseFields(String fields) {
+		return Arrays.stream(fields.split(",")).map(String::trim).filter(field -> !field.isEmpty()).distinct()
+				.collect(Collectors.toList());
+	}
+
+	/** How {@code /paged} gets its total: {@code count(*)}, no total at all, or an estimate. */
+	private enum PageCount {
+		EXACT, NONE, APPROXIMATE;
+
+		static PageCount parse(String count) {
+			return Arrays.stream(values()).filter(mode -> mode.name().equalsIgnoreCase(count)).findFirst()
+					.orElseThrow(() -> new IllegalArgumentException(
+							"Unsupported count: " + count + ", allowed: exact, none, approximate"));
+		}
+	}
+}
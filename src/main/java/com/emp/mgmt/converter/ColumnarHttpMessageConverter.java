@@ -0,0 +1,164 @@
+package com.emp.mgmt.converter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes lists and pages column by column, so each field name is sent once
+ * per response instead of once per row:
+ * <pre>
+ * {"count":2,"columns":{"id":[1,51],"name":["Pratik Chavan","Saurabh Patil"],...},
+ *  "page":{"number":0,"size":10,"totalElements":2,"totalPages":1}}
+ * </pre>
+ * A {@link Slice} that is not a {@link Page} has no total, and its
+ * {@code page} object carries {@code hasNext} instead.
+ * The document is encoded by the mapper's factory, which makes one class
+ * serve both {@link #COLUMNAR_JSON} and {@link #COLUMNAR_CBOR}.
+ * {@link EmployeeDTO} rows are read through getters; any other row type,
+ * such as a {@code fields=} projection, is converted to a map first and its
+ * keys become the columns. Write-only.
+ */
+public class ColumnarHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+	public static final String COLUMNAR_JSON_VALUE = "application/vnd.emp.columnar+json";
+
+	public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType(COLUMNAR_JSON_VALUE);
+
+	public static final String COLUMNAR_CBOR_VALUE = "application/vnd.emp.columnar+cbor";
+
+	public static final MediaType COLUMNAR_CBOR = MediaType.parseMediaType(COLUMNAR_CBOR_VALUE);
+
+	private static final Map<String, Function<EmployeeDTO, Object>> EMPLOYEE_COLUMNS = new LinkedHashMap<>();
+
+	static {
+		EMPLOYEE_COLUMNS.put("id", EmployeeDTO::getId);
+		EMPLOYEE_COLUMNS.put("name", EmployeeDTO::getName);
+		EMPLOYEE_COLUMNS.put("email", EmployeeDTO::getEmail);
+		EMPLOYEE_COLUMNS.put("department", EmployeeDTO::getDepartment);
+		EMPLOYEE_COLUMNS.put("salary", EmployeeDTO::getSalary);
+		EMPLOYEE_COLUMNS.put("joiningDate", EmployeeDTO::getJoiningDate);
+		EMPLOYEE_COLUMNS.put("version", EmployeeDTO::getVersion);
+	}
+
+	private final ObjectMapper objectMapper;
+
+	public ColumnarHttpMessageConverter(ObjectMapper objectMapper, MediaType mediaType) {
+		super(mediaType);
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return List.class.isAssignableFrom(clazz) || Slice.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	protected boolean canRead(MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("The columnar encoding is write-only", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+		write(body, outputMessage.getBody());
+	}
+
+	/** Writes a {@link List}, {@link Page} or {@link Slice} to {@code out}, which is left open. */
+	public void write(Object body, OutputStream out) throws IOException {
+		Slice<?> page = body instanceof Slice<?> p ? p : null;
+		List<?> rows = page != null ? page.getContent() : (List<?>) body;
+
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(StreamUtils.nonClosing(out),
+				JsonEncoding.UTF8)) {
+			generator.writeStartObject();
+			generator.writeNumberField("count", rows.size());
+			generator.writeObjectFieldStart("columns");
+			if (rows.stream().allMatch(EmployeeDTO.class::isInstance)) {
+				writeEmployeeColumns(generator, rows);
+			} else {
+				writeMapColumns(generator, rows);
+			}
+			generator.writeEndObject();
+			if (page != null) {
+				generator.writeObjectFieldStart("page");
+				generator.writeNumberField("number", page.getNumber());
+				generator.writeNumberField("size", page.getSize());
+				if (page instanceof Page<?> counted) {
+					generator.writeNumberField("totalElements", counted.getTotalElements());
+					generator.writeNumberField("totalPages", counted.getTotalPages());
+				} else {
+					generator.writeBooleanField("hasNext", page.hasNext());
+				}
+				generator.writeEndObject();
+			}
+			generator.writeEndObject();
+		}
+	}
+
+	private static void writeEmployeeColumns(JsonGenerator generator, List<?> rows) throws IOException {
+		for (Map.Entry<String, Function<EmployeeDTO, Object>> column : EMPLOYEE_COLUMNS.entrySet()) {
+			generator.writeArrayFieldStart(column.getKey());
+			for (Object row : rows) {
+				writeValue(generator, column.getValue().apply((EmployeeDTO) row));
+			}
+			generator.writeEndArray();
+		}
+	}
+
+	private void writeMapColumns(JsonGenerator generator, List<?> rows) throws IOException {
+		List<Map<?, ?>> maps = new ArrayList<>(rows.size());
+		Set<Object> columns = new LinkedHashSet<>();
+		for (Object row : rows) {
+			Map<?, ?> map = row instanceof Map<?, ?> m ? m : objectMapper.convertValue(row, Map.class);
+			maps.add(map);
+			columns.addAll(map.keySet());
+		}
+		for (Object column : columns) {
+			generator.writeArrayFieldStart(String.valueOf(column));
+			for (Map<?, ?> map : maps) {
+				writeValue(generator, map.get(column));
+			}
+			generator.writeEndArray();
+		}
+	}
+
+	/** Fast paths for the column types in use; anything else goes through the mapper. */
+	private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+		if (value == null) {
+			generator.writeNull();
+		} else if (value instanceof String string) {
+			generator.writeString(string);
+		} else if (value instanceof Long number) {
+			generator.writeNumber(number);
+		} else if (value instanceof Double number) {
+			generator.writeNumber(number);
+		} else {
+			generator.writeObject(value);
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package com.emp.mgmt.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Round-robin over a set of read replicas, used as the read-only target of a
+ * {@code LazyConnectionDataSourceProxy}.
+ * <p>
+ * A replica that refuses a connection is taken out of rotation at once and the
+ * next one is tried; when none is left the fallback (the primary) serves the
+ * read. {@link #checkHealth()} probes every replica on a schedule and returns
+ * recovered ones to the rotation. Closing it closes the replicas, not the
+ * fallback.
+ */
+public class ReplicaSetDataSource extends AbstractDataSource implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReplicaSetDataSource.class);
+
+	private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+	private final List<Replica> replicas;
+
+	private final DataSource fallback;
+
+	private final AtomicInteger next = new AtomicInteger();
+
+	public ReplicaSetDataSource(List<? extends DataSource> replicas, DataSource fallback) {
+		List<Replica> members = new ArrayList<>(replicas.size());
+		for (int i = 0; i < replicas.size(); i++) {
+			members.add(new Replica("replica-" + (i + 1), replicas.get(i)));
+		}
+		this.replicas = Collections.unmodifiableList(members);
+		this.fallback = fallback;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return getConnection(null, null);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		int size = replicas.size();
+		int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (!replica.healthy) {
+				continue;
+			}
+			try {
+				return connect(replica.dataSource, username, password);
+			} catch (SQLException ex) {
+				markDown(replica, ex);
+			}
+		}
+		logger.debug("No healthy replica available, reading from the primary");
+		return connect(fallback, username, password);
+	}
+
+	/** Probes every replica and updates its place in the rotation. */
+	@Scheduled(fixedDelayString = "${employee.datasource.replicas.health-check-interval:PT10S}",
+			initialDelayString = "${employee.datasource.replicas.health-check-interval:PT10S}")
+	public void checkHealth() {
+		for (Replica replica : replicas) {
+			try (Connection connection = replica.dataSource.getConnection()) {
+				if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+					throw new SQLException("Connection failed validation");
+				}
+				if (!replica.healthy) {
+					replica.healthy = true;
+					logger.info("Read replica {} is healthy again, returning it to rotation", replica.name);
+				}
+			} catch (SQLException ex) {
+				markDown(replica, ex);
+			}
+		}
+	}
+
+	/** Number of replicas currently in rotation. */
+	public int getHealthyReplicaCount() {
+		return (int) replicas.stream().filter(replica -> replica.healthy).count();
+	}
+
+	@Override
+	public void close() throws Exception {
+		for (Replica replica : replicas) {
+			if (replica.dataSource instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+	}
+
+	private void markDown(Replica replica, SQLException ex) {
+		if (replica.healthy) {
+			replica.healthy = false;
+			logger.warn("Read replica {} is unavailable, taking it out of rotation: {}", replica.name,
+					ex.getMessage());
+		}
+	}
+
+	private static Connection connect(DataSource dataSource, String username, String password) throws SQLException {
+		return username == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+	}
+
+	private static final class Replica {
+
+		private final String name;
+
+		private final DataSource dataSource;
+
+		private volatile boolean healthy = true;
+
+		private Replica(String name, DataSource dataSource) {
+			this.name = name;
+			this.dataSource = dataSource;
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.emp.mgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResultDTO {
+
+	public enum Status {
+		CREATED, DUPLICATE_EMAIL, INVALID
+	}
+
+	/** Position of the item in the submitted list. */
+	private int index;
+
+	private Long id;
+
+	private String email;
+
+	private Status status;
+
+	private String message;
+}
@@ -0,0 +1,20 @@
+package com.emp.mgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CsvImportErrorDTO {
+
+	/** Line of the CSV input the row ends on; the header is line 1. */
+	private long line;
+
+	private String email;
+
+	private BulkItemResultDTO.Status status;
+
+	private String message;
+}
@@ -0,0 +1,27 @@
+package com.emp.mgmt.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CsvImportResultDTO {
+
+	/** Data rows read, excluding the header. */
+	private long rows;
+
+	private long created;
+
+	private long failed;
+
+	/** Failed rows in input order, capped so a bad file cannot grow the report without bound. */
+	private List<CsvImportErrorDTO> errors = new ArrayList<>();
+
+	/** Whether more rows failed than {@link #errors} lists. */
+	private boolean errorsTruncated;
+}
@@ -0,0 +1,20 @@
+package com.emp.mgmt.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+	private List<T> content;
+
+	/** Opaque token for the next page, {@code null} on the last page. */
+	private String nextCursor;
+
+	private boolean hasNext;
+}
@@ -0,0 +1,30 @@
+package com.emp.mgmt.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentStatsDTO {
+
+	/** {@code null} for employees without a department. */
+	private String department;
+
+	private long headcount;
+
+	private double totalSalary;
+
+	/** Salary aggregates cover only employees with a salary; {@code null} when there are none. */
+	private Double averageSalary;
+
+	private Double minSalary;
+
+	private Double maxSalary;
+
+	/** Headcount by joining year, ascending; employees without a joining date are not counted. */
+	private Map<Integer, Long> joiningYearHistogram;
+}
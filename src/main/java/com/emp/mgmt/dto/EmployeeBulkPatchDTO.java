@@ -0,0 +1,27 @@
+package com.emp.mgmt.dto;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * Changes applied to every employee matching a filter. Fields follow the
+ * merge patch rules of {@link EmployeePatchDTO}; name and email are unique
+ * per employee and cannot be set in bulk.
+ */
+@Data
+public class EmployeeBulkPatchDTO {
+
+	private Optional<String> department;
+
+	private Optional<@Positive(message = "Salary must be a positive number") Double> salary;
+
+	private Optional<LocalDate> joiningDate;
+
+	/** Relative salary change, e.g. 5 for a 5% raise; cannot be combined with {@link #salary}. */
+	@DecimalMin(value = "-100", inclusive = false, message = "Salary adjustment must be greater than -100%")
+	private Double salaryAdjustmentPercent;
+}
@@ -0,0 +1,28 @@
+package com.emp.mgmt.dto;
+
+import java.time.Instant;
+
+import com.emp.mgmt.event.EmployeeChangedEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChangeDTO {
+
+	/** Position in the change log; increases by one per committed change. */
+	private long sequence;
+
+	private EmployeeChangedEvent.Type type;
+
+	/** {@code null} for bulk updates, after which clients reload what they show. */
+	private Long id;
+
+	/** State after the change; {@code null} for deletes and bulk updates. */
+	private EmployeeDTO employee;
+
+	private Instant timestamp;
+}
@@ -24,4 +24,7 @@ public class EmployeeDTO {
 	private Double salary;
 
 	private LocalDate joiningDate;
+
+	/** Server-assigned; ignored on create and update. */
+	private Long version;
 }
\ No newline at end of file
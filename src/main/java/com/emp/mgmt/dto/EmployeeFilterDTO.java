@@ -0,0 +1,24 @@
+package com.emp.mgmt.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Optional search filters; {@code null} fields are not applied. Ranges are inclusive. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeFilterDTO {
+
+	private String department;
+
+	private Double minSalary;
+
+	private Double maxSalary;
+
+	private LocalDate joinedFrom;
+
+	private LocalDate joinedTo;
+}
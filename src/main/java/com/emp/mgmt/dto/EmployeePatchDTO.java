@@ -0,0 +1,29 @@
+package com.emp.mgmt.dto;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * JSON Merge Patch (RFC 7396) of an employee. Each field tells the three
+ * cases apart: {@code null} when the member is absent (left unchanged),
+ * empty when it is {@code null} in the document (column cleared), present
+ * otherwise (column set).
+ */
+@Data
+public class EmployeePatchDTO {
+
+	private Optional<@NotBlank(message = "Name is mandatory") String> name;
+
+	private Optional<@Email(message = "Email should be valid") String> email;
+
+	private Optional<String> department;
+
+	private Optional<@Positive(message = "Salary must be a positive number") Double> salary;
+
+	private Optional<LocalDate> joiningDate;
+}
@@ -0,0 +1,17 @@
+package com.emp.mgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSuggestionDTO {
+
+	private Long id;
+
+	private String name;
+
+	private String email;
+}
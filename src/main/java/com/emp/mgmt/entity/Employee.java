@@ -2,12 +2,18 @@ package com.emp.mgmt.entity;
 
 import java.time.LocalDate;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
@@ -15,18 +21,31 @@ import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "employees")
+@Table(name = "employees",
+		uniqueConstraints = @UniqueConstraint(name = Employee.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+		indexes = {
+				// Leading department column also serves department-only filters
+				@Index(name = "idx_employees_department_salary", columnList = "department, salary"),
+				@Index(name = "idx_employees_salary", columnList = "salary"),
+				@Index(name = "idx_employees_joining_date", columnList = "joining_date") })
 public class Employee {
 
+	/** Named so a violation can be told apart from other integrity errors. */
+	public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_employees_email";
+
+	/** Ids reserved per call to employees_seq, starting at the value drawn; also used by the reactive id allocator. */
+	public static final int ID_ALLOCATION_SIZE = 50;
+
+	/** Databases from the identity column days are moved past their ids by migration V2 or EmployeeIdSequenceCheck. */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+	@SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = ID_ALLOCATION_SIZE)
 	private Long id;
 
 	@NotBlank(message = "Name is mandatory")
 	private String name;
 
 	@Email(message = "Email should be valid")
-	@Column(unique = true)
 	private String email;
 
 	private String department;
@@ -35,4 +54,10 @@ public class Employee {
 	private Double salary;
 
 	private LocalDate joiningDate;
+
+	/** Incremented on every update; exposed to clients as the ETag. Defaults to 0 for pre-existing rows. */
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private Long version;
 }
\ No newline at end of file
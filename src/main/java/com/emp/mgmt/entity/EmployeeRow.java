@@ -0,0 +1,37 @@
+package com.emp.mgmt.entity;
+
+import java.time.LocalDate;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.Data;
+
+/**
+ * R2DBC mapping of the {@code employees} table used by the reactive stack.
+ * The schema itself is owned by the JPA {@link Employee} entity.
+ * <p>
+ * A {@code null} version marks a row as new, so a row with a pre-allocated id
+ * is still inserted rather than updated.
+ */
+@Data
+@Table("employees")
+public class EmployeeRow {
+
+	@Id
+	private Long id;
+
+	private String name;
+
+	private String email;
+
+	private String department;
+
+	private Double salary;
+
+	private LocalDate joiningDate;
+
+	@Version
+	private Long version;
+}
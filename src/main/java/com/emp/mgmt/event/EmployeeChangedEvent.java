@@ -0,0 +1,32 @@
+package com.emp.mgmt.event;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the service layer for every successful employee write.
+ * Listeners use {@code @TransactionalEventListener(fallbackExecution = true)}
+ * so they only observe committed changes.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class EmployeeChangedEvent {
+
+	public enum Type {
+		CREATED, UPDATED, DELETED,
+		/** Set-based update of any number of employees; carries neither id nor state. */
+		BULK_UPDATED
+	}
+
+	private final Type type;
+
+	/** {@code null} for {@link Type#BULK_UPDATED}. */
+	private final Long id;
+
+	/** State after the change; {@code null} for {@link Type#DELETED} and {@link Type#BULK_UPDATED}. */
+	private final EmployeeDTO employee;
+}
@@ -0,0 +1,13 @@
+package com.emp.mgmt.exception;
+
+public class DuplicateEmailException extends RuntimeException {
+	
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public DuplicateEmailException(String email) {
+		super("Email already exists: " + email);
+	}
+}
@@ -0,0 +1,49 @@
+package com.emp.mgmt.exception;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * WebFlux counterpart of {@link GlobalExceptionHandler}, producing the same
+ * {@link ErrorDetails} bodies and status codes.
+ */
+@ControllerAdvice
+@Profile("reactive")
+public class ReactiveGlobalExceptionHandler {
+
+	@ExceptionHandler(ResourceNotFoundException.class)
+	public ResponseEntity<?> resourceNotFoundException(ResourceNotFoundException ex, ServerWebExchange exchange) {
+		ErrorDetails errorDetails = new ErrorDetails(new Date(), ex.getMessage(), description(exchange));
+		return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
+	}
+
+	@ExceptionHandler(WebExchangeBindException.class)
+	public ResponseEntity<?> handleValidationExceptions(WebExchangeBindException ex, ServerWebExchange exchange) {
+		Map<String, String> errors = new HashMap<>();
+		ex.getBindingResult().getFieldErrors()
+				.forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
+
+		ErrorDetails errorDetails = new ErrorDetails(new Date(), "Validation Failed", errors.toString());
+		return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(Exception.class)
+	public ResponseEntity<?> handleGenericException(Exception ex, ServerWebExchange exchange) {
+		ErrorDetails errorDetails = new ErrorDetails(new Date(), ex.getMessage(), description(exchange));
+		return new ResponseEntity<>(errorDetails, HttpStatus.INTERNAL_SERVER_ERROR);
+	}
+
+	/** Same format as the servlet {@code WebRequest.getDescription(false)}. */
+	private static String description(ServerWebExchange exchange) {
+		return "uri=" + exchange.getRequest().getPath().value();
+	}
+}
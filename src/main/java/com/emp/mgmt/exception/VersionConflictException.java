@@ -0,0 +1,20 @@
+package com.emp.mgmt.exception;
+
+public class VersionConflictException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	private final Long currentVersion;
+
+	public VersionConflictException(Long id, Long currentVersion) {
+		super("Employee with ID " + id + " has been modified; current version is " + currentVersion);
+		this.currentVersion = currentVersion;
+	}
+
+	public Long getCurrentVersion() {
+		return currentVersion;
+	}
+}
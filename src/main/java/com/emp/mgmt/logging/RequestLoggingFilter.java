@@ -0,0 +1,167 @@
+package com.emp.mgmt.logging;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Emits one structured record per request, replacing per-layer log lines:
+ * <pre>
+ * method=GET route=/api/employees/{id} uri=/api/employees/42 query="" status=200 latencyMs=1.84
+ * </pre>
+ * Successful requests are sampled at {@code employee.request-log.sample-rate};
+ * responses with status 400 and above are always logged, at WARN. Values of
+ * the query parameters in {@code employee.request-log.masked-params} are
+ * replaced with {@code ***}; bodies are never logged. Async requests (e.g.
+ * streaming) are logged when the async cycle completes.
+ * <p>
+ * The sampling decision for successes is made before any formatting, so an
+ * unsampled request costs two {@code nanoTime} calls and one random draw.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+
+	static final String MASK = "***";
+
+	@Value("${employee.request-log.enabled:true}")
+	private boolean enabled = true;
+
+	@Value("${employee.request-log.sample-rate:1.0}")
+	private double sampleRate = 1.0;
+
+	private Set<String> maskedParams = Set.of("email", "q", "salary", "minsalary", "maxsalary");
+
+	@Value("${employee.request-log.masked-params:email,q,salary,minSalary,maxSalary}")
+	void setMaskedParams(String[] maskedParams) {
+		this.maskedParams = Arrays.stream(maskedParams).map(String::trim).map(param -> param.toLowerCase(Locale.ROOT))
+				.collect(Collectors.toUnmodifiableSet());
+	}
+
+	void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	void setSampleRate(double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		if (!enabled) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			filterChain.doFilter(request, response);
+			failed = false;
+		} finally {
+			if (!failed && request.isAsyncStarted()) {
+				request.getAsyncContext().addListener(new CompletionListener(request, response, start));
+			} else {
+				// An exception escaping the chain becomes a 500 once the container handles it
+				log(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(), start);
+			}
+		}
+	}
+
+	private void log(HttpServletRequest request, int status, long start) {
+		boolean error = status >= 400;
+		if (!error && (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate))) {
+			return;
+		}
+		if (error ? !logger.isWarnEnabled() : !logger.isInfoEnabled()) {
+			return;
+		}
+		double latencyMs = (System.nanoTime() - start) / 1_000_000.0;
+		Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		StringBuilder record = new StringBuilder(160).append("method=").append(request.getMethod())
+				.append(" route=").append(route == null ? "UNMATCHED" : route)
+				.append(" uri=").append(request.getRequestURI())
+				.append(" query=\"").append(maskQuery(request.getQueryString()))
+				.append("\" status=").append(status)
+				.append(" latencyMs=").append(String.format(Locale.ROOT, "%.2f", latencyMs));
+		if (error) {
+			logger.warn(record.toString());
+		} else {
+			logger.info(record.toString());
+		}
+	}
+
+	String maskQuery(String query) {
+		if (query == null || query.isEmpty()) {
+			return "";
+		}
+		StringBuilder masked = new StringBuilder(query.length());
+		for (String pair : query.split("&")) {
+			if (masked.length() > 0) {
+				masked.append('&');
+			}
+			int equals = pair.indexOf('=');
+			String name = equals < 0 ? pair : pair.substring(0, equals);
+			if (equals >= 0 && maskedParams.contains(name.toLowerCase(Locale.ROOT))) {
+				masked.append(name).append('=').append(MASK);
+			} else {
+				masked.append(pair);
+			}
+		}
+		return masked.toString().replace("\"", "%22");
+	}
+
+	private final class CompletionListener implements AsyncListener {
+
+		private final HttpServletRequest request;
+
+		private final HttpServletResponse response;
+
+		private final long start;
+
+		private CompletionListener(HttpServletRequest request, HttpServletResponse response, long start) {
+			this.request = request;
+			this.response = response;
+			this.start = start;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			log(request, response.getStatus(), start);
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.emp.mgmt.mapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.CSVRecord;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+
+/**
+ * Maps employees to and from CSV rows with the columns
+ * {@code id,name,email,department,salary,joiningDate}.
+ * <p>
+ * Imports match columns by header name, ignoring case and order; {@code name}
+ * and {@code email} are required, unknown columns and {@code id} are ignored,
+ * and empty cells become {@code null}. Dates use ISO {@code yyyy-MM-dd}.
+ */
+public class EmployeeCsvMapper {
+
+	public static final String[] HEADERS = { "id", "name", "email", "department", "salary", "joiningDate" };
+
+	private static final List<String> REQUIRED_HEADERS = List.of("name", "email");
+
+	private static final CSVFormat ROW_FORMAT = CSVFormat.DEFAULT.builder().setRecordSeparator('\n').build();
+
+	private static final CSVFormat WRITE_FORMAT = ROW_FORMAT.builder().setHeader(HEADERS).build();
+
+	private static final CSVFormat READ_FORMAT = CSVFormat.DEFAULT.builder().setHeader().setSkipHeaderRecord(true)
+			.setIgnoreHeaderCase(true).setIgnoreEmptyLines(true).setTrim(true).build();
+
+	private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+	/** Opens a printer that has already written the header row. */
+	public static CSVPrinter printer(Appendable out) throws IOException {
+		return WRITE_FORMAT.print(out);
+	}
+
+	/** Opens a printer for rows that continue output already started by {@link #printer}. */
+	public static CSVPrinter rowPrinter(Appendable out) throws IOException {
+		return ROW_FORMAT.print(out);
+	}
+
+	public static void print(CSVPrinter printer, EmployeeDTO dto) throws IOException {
+		printer.printRecord(dto.getId(), dto.getName(), dto.getEmail(), dto.getDepartment(),
+				dto.getSalary() == null ? null : BigDecimal.valueOf(dto.getSalary()).toPlainString(),
+				dto.getJoiningDate());
+	}
+
+	/**
+	 * Opens a lazy parser over {@code reader}; records are read one at a time as
+	 * the parser is iterated. A leading byte order mark is skipped.
+	 *
+	 * @throws IllegalArgumentException if the header row is missing a required column
+	 */
+	public static CSVParser parser(Reader reader) throws IOException {
+		BufferedReader buffered = reader instanceof BufferedReader ? (BufferedReader) reader
+				: new BufferedReader(reader);
+		buffered.mark(1);
+		if (buffered.read() != BYTE_ORDER_MARK) {
+			buffered.reset();
+		}
+		CSVParser parser = READ_FORMAT.parse(buffered);
+		List<String> missing = REQUIRED_HEADERS.stream()
+				.filter(header -> parser.getHeaderNames().stream().noneMatch(header::equalsIgnoreCase)).toList();
+		if (!missing.isEmpty()) {
+			parser.close();
+			throw new IllegalArgumentException("CSV header is missing required columns: " + missing
+					+ "; expected " + Arrays.toString(HEADERS));
+		}
+		return parser;
+	}
+
+	/**
+	 * Converts one record; bean validation is left to the caller.
+	 *
+	 * @throws IllegalArgumentException if salary or joiningDate cannot be parsed
+	 */
+	public static EmployeeDTO toDTO(CSVRecord record) {
+		EmployeeDTO dto = new EmployeeDTO();
+		dto.setName(value(record, "name"));
+		dto.setEmail(value(record, "email"));
+		dto.setDepartment(value(record, "department"));
+		String salary = value(record, "salary");
+		if (salary != null) {
+			try {
+				dto.setSalary(Double.valueOf(salary));
+			} catch (NumberFormatException ex) {
+				throw new IllegalArgumentException("salary: not a number: " + salary);
+			}
+		}
+		String joiningDate = value(record, "joiningDate");
+		if (joiningDate != null) {
+			try {
+				dto.setJoiningDate(LocalDate.parse(joiningDate));
+			} catch (DateTimeParseException ex) {
+				throw new IllegalArgumentException("joiningDate: expected yyyy-MM-dd: " + joiningDate);
+			}
+		}
+		return dto;
+	}
+
+	/** Email of a record for error reports, even when the rest of the row is unusable. */
+	public static String email(CSVRecord record) {
+		return value(record, "email");
+	}
+
+	private static String value(CSVRecord record, String column) {
+		if (!record.isMapped(column) || !record.isSet(column)) {
+			return null;
+		}
+		String value = record.get(column);
+		return value.isEmpty() ? null : value;
+	}
+}
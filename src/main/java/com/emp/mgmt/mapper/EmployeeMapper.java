@@ -2,6 +2,7 @@ package com.emp.mgmt.mapper;
 
 import com.emp.mgmt.dto.EmployeeDTO;
 import com.emp.mgmt.entity.Employee;
+import com.emp.mgmt.entity.EmployeeRow;
 
 public class EmployeeMapper {
 
@@ -13,6 +14,7 @@ public class EmployeeMapper {
 		dto.setDepartment(employee.getDepartment());
 		dto.setSalary(employee.getSalary());
 		dto.setJoiningDate(employee.getJoiningDate());
+		dto.setVersion(employee.getVersion());
 		return dto;
 	}
 
@@ -25,4 +27,26 @@ public class EmployeeMapper {
 		employee.setJoiningDate(dto.getJoiningDate());
 		return employee;
 	}
+
+	public static EmployeeDTO toDTO(EmployeeRow row) {
+		EmployeeDTO dto = new EmployeeDTO();
+		dto.setId(row.getId());
+		dto.setName(row.getName());
+		dto.setEmail(row.getEmail());
+		dto.setDepartment(row.getDepartment());
+		dto.setSalary(row.getSalary());
+		dto.setJoiningDate(row.getJoiningDate());
+		dto.setVersion(row.getVersion());
+		return dto;
+	}
+
+	public static EmployeeRow toRow(EmployeeDTO dto) {
+		EmployeeRow row = new EmployeeRow();
+		row.setName(dto.getName());
+		row.setEmail(dto.getEmail());
+		row.setDepartment(dto.getDepartment());
+		row.setSalary(dto.getSalary());
+		row.setJoiningDate(dto.getJoiningDate());
+		return row;
+	}
 }
\ No newline at end of file
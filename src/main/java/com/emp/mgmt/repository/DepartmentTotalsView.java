@@ -0,0 +1,17 @@
+package com.emp.mgmt.repository;
+
+/** One row of the per-department {@code GROUP BY} used to reconcile statistics. */
+public interface DepartmentTotalsView {
+
+	String getDepartment();
+
+	Long getHeadcount();
+
+	Long getSalaryCount();
+
+	Double getSalarySum();
+
+	Double getMinSalary();
+
+	Double getMaxSalary();
+}
@@ -0,0 +1,11 @@
+package com.emp.mgmt.repository;
+
+/** Headcount per department and joining year. */
+public interface DepartmentYearCountView {
+
+	String getDepartment();
+
+	Integer getJoiningYear();
+
+	Long getHeadcount();
+}
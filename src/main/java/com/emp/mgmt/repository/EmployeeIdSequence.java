@@ -0,0 +1,39 @@
+package com.emp.mgmt.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.emp.mgmt.entity.Employee;
+
+/**
+ * Keeps {@code employees_seq} ahead of the ids already in the table. Ids were
+ * once assigned by an identity column, so a database created back then has
+ * rows the sequence knows nothing about and would hand out their ids again.
+ */
+public final class EmployeeIdSequence {
+
+	private EmployeeIdSequence() {
+	}
+
+	/**
+	 * Restarts the sequence after {@code max(id)} if its next block could
+	 * reach an existing id. Both stacks use each value they draw as the start
+	 * of a block of {@link Employee#ID_ALLOCATION_SIZE} ids (Hibernate's
+	 * {@code pooled-lo} optimizer), so the next value has to be above
+	 * {@code max(id)}. One block is drawn to find out; at most that many ids
+	 * are skipped.
+	 *
+	 * @return whether the sequence had to be restarted
+	 */
+	public static boolean advancePastExistingIds(JdbcTemplate jdbcTemplate) {
+		Long maxId = jdbcTemplate.queryForObject("select max(id) from employees", Long.class);
+		if (maxId == null) {
+			return false;
+		}
+		Long next = jdbcTemplate.queryForObject("select nextval('employees_seq')", Long.class);
+		if (next > maxId) {
+			return false;
+		}
+		jdbcTemplate.execute("alter sequence employees_seq restart with " + (maxId + 1));
+		return true;
+	}
+}
@@ -0,0 +1,11 @@
+package com.emp.mgmt.repository;
+
+/** Closed projection carrying only the columns the suggestion index needs. */
+public interface EmployeeNameView {
+
+	Long getId();
+
+	String getName();
+
+	String getEmail();
+}
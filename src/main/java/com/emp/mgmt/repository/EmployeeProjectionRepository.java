@@ -0,0 +1,26 @@
+package com.emp.mgmt.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Sparse-fieldset reads: selects only the requested columns as tuples, so no
+ * entities are hydrated or tracked by the persistence context.
+ */
+public interface EmployeeProjectionRepository {
+
+	/** Attributes of {@code Employee} that may be requested through {@code fields}. */
+	Set<String> PROJECTABLE_FIELDS = Set.of("id", "name", "email", "department", "salary", "joiningDate");
+
+	List<Map<String, Object>> findAllProjected(List<String> fields);
+
+	Page<Map<String, Object>> findAllProjected(List<String> fields, Pageable pageable);
+
+	/** Like {@link #findAllProjected(List, Pageable)} without the count query, reading one extra row instead. */
+	Slice<Map<String, Object>> findSliceProjected(List<String> fields, Pageable pageable);
+}
@@ -0,0 +1,81 @@
+package com.emp.mgmt.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.emp.mgmt.entity.Employee;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+public class EmployeeProjectionRepositoryImpl implements EmployeeProjectionRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<Map<String, Object>> findAllProjected(List<String> fields) {
+		return toMaps(entityManager.createQuery(tupleQuery(fields, Pageable.unpaged())).getResultList(), fields);
+	}
+
+	@Override
+	public Page<Map<String, Object>> findAllProjected(List<String> fields, Pageable pageable) {
+		TypedQuery<Tuple> query = entityManager.createQuery(tupleQuery(fields, pageable));
+		query.setFirstResult((int) pageable.getOffset());
+		query.setMaxResults(pageable.getPageSize());
+		List<Map<String, Object>> content = toMaps(query.getResultList(), fields);
+		// Skips the count query when the page is the first and not full, as Spring Data does
+		return PageableExecutionUtils.getPage(content, pageable, this::count);
+	}
+
+	@Override
+	public Slice<Map<String, Object>> findSliceProjected(List<String> fields, Pageable pageable) {
+		TypedQuery<Tuple> query = entityManager.createQuery(tupleQuery(fields, pageable));
+		query.setFirstResult((int) pageable.getOffset());
+		query.setMaxResults(pageable.getPageSize() + 1);
+		List<Map<String, Object>> content = toMaps(query.getResultList(), fields);
+		boolean hasNext = content.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+
+	private CriteriaQuery<Tuple> tupleQuery(List<String> fields, Pageable pageable) {
+		if (fields.isEmpty() || !PROJECTABLE_FIELDS.containsAll(fields)) {
+			throw new IllegalArgumentException("Unsupported fields: " + fields + ", allowed: " + PROJECTABLE_FIELDS);
+		}
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Employee> root = query.from(Employee.class);
+		query.multiselect(fields.stream().map(field -> root.get(field).alias(field)).collect(Collectors.toList()));
+		query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+		return query;
+	}
+
+	private long count() {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		query.select(cb.count(query.from(Employee.class)));
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	private static List<Map<String, Object>> toMaps(List<Tuple> tuples, List<String> fields) {
+		return tuples.stream().map(tuple -> {
+			Map<String, Object> row = new LinkedHashMap<>();
+			fields.forEach(field -> row.put(field, tuple.get(field)));
+			return row;
+		}).collect(Collectors.toList());
+	}
+}
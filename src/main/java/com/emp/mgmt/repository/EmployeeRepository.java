@@ -1,12 +1,111 @@
 package com.emp.mgmt.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.emp.mgmt.entity.Employee;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository
+		extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>, EmployeeProjectionRepository,
+		EmployeeUpdateRepository {
 	
 	 boolean existsByEmail(String email); 
-}
\ No newline at end of file
+
+	/**
+	 * Single-statement update; returns the number of rows changed so a missing id
+	 * is detected without a prior existence check.
+	 */
+	@Transactional
+	@Modifying
+	@Query("update Employee e set e.name = :name, e.email = :email, e.department = :department, "
+			+ "e.salary = :salary, e.joiningDate = :joiningDate, e.version = e.version + 1 where e.id = :id")
+	int updateById(@Param("id") Long id, @Param("name") String name, @Param("email") String email,
+			@Param("department") String department, @Param("salary") Double salary,
+			@Param("joiningDate") LocalDate joiningDate);
+
+	/**
+	 * Compare-and-set variant of {@link #updateById}: only applies when the row
+	 * is still at {@code version}. Zero rows means missing or modified.
+	 */
+	@Transactional
+	@Modifying
+	@Query("update Employee e set e.name = :name, e.email = :email, e.department = :department, "
+			+ "e.salary = :salary, e.joiningDate = :joiningDate, e.version = e.version + 1 "
+			+ "where e.id = :id and e.version = :version")
+	int updateByIdAndVersion(@Param("id") Long id, @Param("version") Long version, @Param("name") String name,
+			@Param("email") String email, @Param("department") String department, @Param("salary") Double salary,
+			@Param("joiningDate") LocalDate joiningDate);
+
+	/** Version only, for answering conditional requests without loading the row. */
+	@Query("select e.version from Employee e where e.id = :id")
+	Optional<Long> findVersionById(@Param("id") Long id);
+
+	/** Single-statement delete; returns the number of rows removed. */
+	@Transactional
+	@Modifying
+	@Query("delete from Employee e where e.id = :id")
+	int deleteEmployeeById(@Param("id") Long id);
+
+	@Query("select e.email from Employee e where e.email in :emails")
+	List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+	/**
+	 * Forward-only cursor over the whole table. Must be consumed inside a
+	 * transaction; rows are fetched in chunks of
+	 * {@code hibernate.jdbc.fetch_size}.
+	 */
+	@QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+	@Query("select e from Employee e order by e.id")
+	Stream<Employee> streamAllBy();
+
+	/** Forward-only cursor over id, name and email without hydrating entities. */
+	@Query("select e.id as id, e.name as name, e.email as email from Employee e")
+	Stream<EmployeeNameView> streamNamesBy();
+
+	/** Forward-only cursor over the columns the department statistics aggregate. */
+	Stream<EmployeeStatsView> streamStatsBy();
+
+	/** A {@code null} department matches employees without one. */
+	List<EmployeeStatsView> findStatsByDepartment(String department);
+
+	@Query("select e.department as department, count(e) as headcount, count(e.salary) as salaryCount, "
+			+ "sum(e.salary) as salarySum, min(e.salary) as minSalary, max(e.salary) as maxSalary "
+			+ "from Employee e group by e.department")
+	List<DepartmentTotalsView> findDepartmentTotals();
+
+	@Query("select e.department as department, year(e.joiningDate) as joiningYear, count(e) as headcount "
+			+ "from Employee e where e.joiningDate is not null group by e.department, year(e.joiningDate)")
+	List<DepartmentYearCountView> findDepartmentJoiningYearCounts();
+
+	/**
+	 * Seek-based page: with a keyset position the query becomes
+	 * {@code WHERE (sortKey, id) > (?, ?) ... LIMIT n} and issues no count.
+	 */
+	Window<Employee> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+	/** Page without a count query: reads one row more than the page size to tell whether another follows. */
+	Slice<Employee> findSliceBy(Pageable pageable);
+}
@@ -0,0 +1,47 @@
+package com.emp.mgmt.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.entity.Employee;
+
+/**
+ * Search predicates over the indexed columns of {@link Employee}. Each
+ * factory returns {@code null} for an absent value, which
+ * {@link Specification#where} and {@code and} treat as "no restriction".
+ */
+public final class EmployeeSpecifications {
+
+	private EmployeeSpecifications() {
+	}
+
+	public static Specification<Employee> matching(EmployeeFilterDTO filter) {
+		return Specification.where(hasDepartment(filter.getDepartment()))
+				.and(salaryAtLeast(filter.getMinSalary()))
+				.and(salaryAtMost(filter.getMaxSalary()))
+				.and(joinedOnOrAfter(filter.getJoinedFrom()))
+				.and(joinedOnOrBefore(filter.getJoinedTo()));
+	}
+
+	public static Specification<Employee> hasDepartment(String department) {
+		return department == null ? null : (root, query, cb) -> cb.equal(root.get("department"), department);
+	}
+
+	public static Specification<Employee> salaryAtLeast(Double minSalary) {
+		return minSalary == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("salary"), minSalary);
+	}
+
+	public static Specification<Employee> salaryAtMost(Double maxSalary) {
+		return maxSalary == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("salary"), maxSalary);
+	}
+
+	public static Specification<Employee> joinedOnOrAfter(LocalDate from) {
+		return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("joiningDate"), from);
+	}
+
+	public static Specification<Employee> joinedOnOrBefore(LocalDate to) {
+		return to == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("joiningDate"), to);
+	}
+}
@@ -0,0 +1,15 @@
+package com.emp.mgmt.repository;
+
+import java.time.LocalDate;
+
+/** Closed projection carrying only the columns the department statistics need. */
+public interface EmployeeStatsView {
+
+	Long getId();
+
+	String getDepartment();
+
+	Double getSalary();
+
+	LocalDate getJoiningDate();
+}
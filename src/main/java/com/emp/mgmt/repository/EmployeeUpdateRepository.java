@@ -0,0 +1,31 @@
+package com.emp.mgmt.repository;
+
+import java.util.Map;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.emp.mgmt.entity.Employee;
+
+/**
+ * Partial updates as single Criteria {@code UPDATE} statements that set only
+ * the given columns, without loading the rows first. Values are keyed by
+ * attribute name; a {@code null} value clears the column.
+ */
+public interface EmployeeUpdateRepository {
+
+	/**
+	 * Sets {@code values} on one employee and increments its version; with a
+	 * {@code version} only while the row is still at it.
+	 *
+	 * @return the number of rows changed, 0 when missing or modified
+	 */
+	int patchById(Long id, Long version, Map<String, Object> values);
+
+	/**
+	 * Sets {@code values} on every employee matching {@code specification} and,
+	 * with a {@code salaryFactor}, multiplies their salaries by it.
+	 *
+	 * @return the number of rows changed
+	 */
+	int patchMatching(Specification<Employee> specification, Map<String, Object> values, Double salaryFactor);
+}
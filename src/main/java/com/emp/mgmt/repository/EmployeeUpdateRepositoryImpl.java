@@ -0,0 +1,57 @@
+package com.emp.mgmt.repository;
+
+import java.util.Map;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.emp.mgmt.entity.Employee;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class EmployeeUpdateRepositoryImpl implements EmployeeUpdateRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@Transactional
+	public int patchById(Long id, Long version, Map<String, Object> values) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+		Root<Employee> root = update.from(Employee.class);
+		set(update, root, cb, values);
+		Predicate byId = cb.equal(root.get("id"), id);
+		update.where(version == null ? byId : cb.and(byId, cb.equal(root.get("version"), version)));
+		return entityManager.createQuery(update).executeUpdate();
+	}
+
+	@Override
+	@Transactional
+	public int patchMatching(Specification<Employee> specification, Map<String, Object> values, Double salaryFactor) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+		Root<Employee> root = update.from(Employee.class);
+		set(update, root, cb, values);
+		if (salaryFactor != null) {
+			update.set(root.<Double>get("salary"), cb.prod(root.<Double>get("salary"), salaryFactor));
+		}
+		// The search predicates only use the root, so there is no query to pass
+		Predicate predicate = specification.toPredicate(root, null, cb);
+		if (predicate != null) {
+			update.where(predicate);
+		}
+		return entityManager.createQuery(update).executeUpdate();
+	}
+
+	private static void set(CriteriaUpdate<Employee> update, Root<Employee> root, CriteriaBuilder cb,
+			Map<String, Object> values) {
+		values.forEach((attribute, value) -> update.set(root.get(attribute), value));
+		update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+	}
+}
@@ -0,0 +1,56 @@
+package com.emp.mgmt.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.emp.mgmt.entity.EmployeeRow;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeRepository} for the reactive
+ * stack. Writes are single statements that report the affected row count, as
+ * in the JPA repository.
+ */
+@Repository
+public interface ReactiveEmployeeRepository
+		extends R2dbcRepository<EmployeeRow, Long>, ReactiveEmployeeUpdateRepository {
+
+	Flux<EmployeeRow> findAllBy(Pageable pageable);
+
+	/** Rows in id order, fetched as the subscriber requests them. */
+	Flux<EmployeeRow> findAllByOrderById();
+
+	/** Reserves the block of ids starting at the returned value from the sequence shared with Hibernate. */
+	@Query("select nextval('employees_seq')")
+	Mono<Long> nextIdBlock();
+
+	@Modifying
+	@Query("update employees set name = :name, email = :email, department = :department, salary = :salary, "
+			+ "joining_date = :joiningDate, version = version + 1 where id = :id")
+	Mono<Integer> updateById(@Param("id") Long id, @Param("name") String name, @Param("email") String email,
+			@Param("department") String department, @Param("salary") Double salary,
+			@Param("joiningDate") LocalDate joiningDate);
+
+	/** Compare-and-set variant of {@link #updateById}. Zero rows means missing or modified. */
+	@Modifying
+	@Query("update employees set name = :name, email = :email, department = :department, salary = :salary, "
+			+ "joining_date = :joiningDate, version = version + 1 where id = :id and version = :version")
+	Mono<Integer> updateByIdAndVersion(@Param("id") Long id, @Param("version") Long version,
+			@Param("name") String name, @Param("email") String email, @Param("department") String department,
+			@Param("salary") Double salary, @Param("joiningDate") LocalDate joiningDate);
+
+	@Query("select version from employees where id = :id")
+	Mono<Long> findVersionById(@Param("id") Long id);
+
+	@Modifying
+	@Query("delete from employees where id = :id")
+	Mono<Integer> deleteEmployeeById(@Param("id") Long id);
+}
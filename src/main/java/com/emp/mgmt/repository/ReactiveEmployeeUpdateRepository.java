@@ -0,0 +1,32 @@
+package com.emp.mgmt.repository;
+
+import java.util.Map;
+
+import org.springframework.data.relational.core.query.Criteria;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeUpdateRepository}: partial
+ * updates as single {@code UPDATE} statements over the rows matching a
+ * {@link Criteria}. Values are keyed by property name; a {@code null} value
+ * clears the column.
+ */
+public interface ReactiveEmployeeUpdateRepository {
+
+	/**
+	 * Sets {@code values} on one employee and increments its version; with a
+	 * {@code version} only while the row is still at it.
+	 *
+	 * @return the number of rows changed, 0 when missing or modified
+	 */
+	Mono<Integer> patchById(Long id, Long version, Map<String, Object> values);
+
+	/**
+	 * Sets {@code values} on every employee matching {@code criteria} and, with
+	 * a {@code salaryFactor}, multiplies their salaries by it.
+	 *
+	 * @return the number of rows changed
+	 */
+	Mono<Integer> patchMatching(Criteria criteria, Map<String, Object> values, Double salaryFactor);
+}
@@ -0,0 +1,115 @@
+package com.emp.mgmt.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.R2dbcDialect;
+import org.springframework.data.r2dbc.query.BoundAssignments;
+import org.springframework.data.r2dbc.query.BoundCondition;
+import org.springframework.data.r2dbc.query.UpdateMapper;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Update;
+import org.springframework.data.relational.core.sql.Assignment;
+import org.springframework.data.relational.core.sql.Assignments;
+import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.r2dbc.core.binding.BindMarker;
+import org.springframework.r2dbc.core.binding.BindMarkers;
+import org.springframework.r2dbc.core.binding.BindTarget;
+import org.springframework.r2dbc.core.binding.Bindings;
+import org.springframework.r2dbc.core.binding.MutableBindings;
+
+import com.emp.mgmt.entity.EmployeeRow;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Maps criteria and values with Spring Data's {@link UpdateMapper}, as
+ * {@link R2dbcEntityTemplate#update} does, and adds the assignments that an
+ * {@link Update} cannot express because they read the column they set:
+ * {@code version = version + 1} and {@code salary = salary * factor}.
+ */
+public class ReactiveEmployeeUpdateRepositoryImpl implements ReactiveEmployeeUpdateRepository {
+
+	@Autowired
+	private R2dbcEntityTemplate template;
+
+	@Override
+	public Mono<Integer> patchById(Long id, Long version, Map<String, Object> values) {
+		Criteria byId = Criteria.where("id").is(id);
+		return patchMatching(version == null ? byId : byId.and("version").is(version), values, null);
+	}
+
+	@Override
+	public Mono<Integer> patchMatching(Criteria criteria, Map<String, Object> values, Double salaryFactor) {
+		R2dbcDialect dialect = (R2dbcDialect) template.getDataAccessStrategy().getDialect();
+		UpdateMapper mapper = new UpdateMapper(dialect, template.getConverter());
+		RelationalPersistentEntity<?> entity = template.getConverter().getMappingContext()
+				.getRequiredPersistentEntity(EmployeeRow.class);
+		Table table = Table.create(entity.getQualifiedTableName());
+		// One marker sequence for the whole statement, so placeholders do not collide
+		BindMarkers markers = dialect.getBindMarkersFactory().create();
+
+		List<Assignment> assignments = new ArrayList<>();
+		Bindings bindings = Bindings.empty();
+		if (!values.isEmpty()) {
+			Map<SqlIdentifier, Object> properties = new LinkedHashMap<>();
+			values.forEach((property, value) -> properties.put(SqlIdentifier.unquoted(property), value));
+			BoundAssignments set = mapper.getMappedObject(markers, Update.from(properties), table, entity);
+			assignments.addAll(set.getAssignments());
+			bindings = set.getBindings();
+		}
+		String version = column(mapper, entity, "version");
+		assignments.add(Assignments.value(table.column(version), Expressions.just(version + " + 1")));
+		if (salaryFactor != null) {
+			MutableBindings factorBinding = new MutableBindings(markers);
+			BindMarker factor = factorBinding.bind(salaryFactor);
+			String salary = column(mapper, entity, "salary");
+			assignments.add(Assignments.value(table.column(salary),
+					Expressions.just(salary + " * " + factor.getPlaceholder())));
+			bindings = bindings.and(factorBinding);
+		}
+		BoundCondition where = mapper.getMappedObject(markers, criteria, table, entity);
+
+		org.springframework.data.relational.core.sql.Update statement = StatementBuilder.update(table)
+				.set(assignments).where(where.getCondition()).build();
+		String sql = SqlRenderer.create(new RenderContextFactory(dialect).createRenderContext()).render(statement);
+		return template.getDatabaseClient()
+				.sql(new BoundUpdate(statement, sql, bindings.and(where.getBindings()))).fetch().rowsUpdated()
+				.map(Long::intValue);
+	}
+
+	private static String column(UpdateMapper mapper, RelationalPersistentEntity<?> entity, String property) {
+		return mapper.toSql(entity.getRequiredPersistentProperty(property).getColumnName());
+	}
+
+	/** Rendered statement with its values, in the form {@code DatabaseClient} binds by itself. */
+	private record BoundUpdate(org.springframework.data.relational.core.sql.Update source, String sql,
+			Bindings bindings) implements PreparedOperation<org.springframework.data.relational.core.sql.Update> {
+
+		@Override
+		public org.springframework.data.relational.core.sql.Update getSource() {
+			return source;
+		}
+
+		@Override
+		public void bindTo(BindTarget target) {
+			bindings.apply(target);
+		}
+
+		@Override
+		public String toQuery() {
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,238 @@
+package com.emp.mgmt.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.emp.mgmt.dto.EmployeeSuggestionDTO;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+import com.emp.mgmt.repository.EmployeeNameView;
+import com.emp.mgmt.repository.EmployeeRepository;
+
+/**
+ * In-memory prefix index over normalized employee names and emails, used for
+ * type-ahead suggestions.
+ * <p>
+ * Every employee contributes a handful of tokens to a sorted map: the full
+ * name, each later name word and the full email. The first name word and the
+ * email local part are prefixes of those, so they need no token of their own.
+ * A prefix lookup is a range scan from {@code prefix} that stops after
+ * {@code limit} distinct ids.
+ * <p>
+ * Posting lists are sorted {@code long[]} arrays with spare capacity, which
+ * costs far less memory per token than a concurrent set. Writes are
+ * serialized; an id past the end goes into a spare slot, and a new
+ * {@link Postings} covering it is published, so reads stay lock-free and
+ * inserting into a common token is amortized O(log n) rather than a copy of
+ * the whole list. Removals, and inserts into the middle, copy.
+ */
+@Component
+public class EmployeeSuggestionIndex implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeSuggestionIndex.class);
+
+	private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+	private static final Pattern WORD_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private final NavigableMap<String, Postings> tokens = new ConcurrentSkipListMap<>();
+
+	private final Map<Long, EmployeeSuggestionDTO> entries = new ConcurrentHashMap<>();
+
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Override
+	@Transactional(readOnly = true)
+	public void run(ApplicationArguments args) {
+		long start = System.nanoTime();
+		try (Stream<EmployeeNameView> names = employeeRepository.streamNamesBy()) {
+			// Skip ids already indexed: a write that committed while loading carries newer data
+			names.forEach(view -> {
+				if (!entries.containsKey(view.getId())) {
+					put(new EmployeeSuggestionDTO(view.getId(), view.getName(), view.getEmail()));
+				}
+			});
+		}
+		logger.info("Loaded {} employees into the suggestion index ({} tokens) in {} ms", entries.size(),
+				tokens.size(), (System.nanoTime() - start) / 1_000_000);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (event.getType() == EmployeeChangedEvent.Type.BULK_UPDATED) {
+			// Bulk updates cannot change names or emails
+			return;
+		}
+		if (event.getType() == EmployeeChangedEvent.Type.DELETED) {
+			remove(event.getId());
+		} else {
+			put(new EmployeeSuggestionDTO(event.getId(), event.getEmployee().getName(),
+					event.getEmployee().getEmail()));
+		}
+	}
+
+	/**
+	 * Returns up to {@code limit} employees with a name word, full name, email or
+	 * email local part starting with {@code query}, ordered by matching token.
+	 */
+	public List<EmployeeSuggestionDTO> suggest(String query, int limit) {
+		String prefix = normalize(query);
+		if (prefix.isEmpty() || limit < 1) {
+			return Collections.emptyList();
+		}
+		Set<Long> ids = new LinkedHashSet<>();
+		for (Postings matches : tokens.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+			for (int i = 0; i < matches.size(); i++) {
+				if (ids.add(matches.ids()[i]) && ids.size() == limit) {
+					return toSuggestions(ids);
+				}
+			}
+		}
+		return toSuggestions(ids);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public void put(EmployeeSuggestionDTO employee) {
+		writeLock.lock();
+		try {
+			EmployeeSuggestionDTO previous = entries.put(employee.getId(), employee);
+			if (previous != null) {
+				tokensOf(previous).forEach(token -> unlink(token, previous.getId()));
+			}
+			tokensOf(employee).forEach(token -> link(token, employee.getId()));
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	public void remove(Long id) {
+		writeLock.lock();
+		try {
+			EmployeeSuggestionDTO previous = entries.remove(id);
+			if (previous != null) {
+				tokensOf(previous).forEach(token -> unlink(token, id));
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	private void link(String token, long id) {
+		Postings postings = tokens.get(token);
+		if (postings == null) {
+			tokens.put(token, new Postings(new long[] { id }, 1));
+			return;
+		}
+		long[] ids = postings.ids();
+		int size = postings.size();
+		int position = Arrays.binarySearch(ids, 0, size, id);
+		if (position >= 0) {
+			return;
+		}
+		position = -position - 1;
+		if (position == size && size < ids.length) {
+			// Beyond what any published Postings covers, so readers never see it change
+			ids[size] = id;
+			tokens.put(token, new Postings(ids, size + 1));
+			return;
+		}
+		long[] grown = new long[size < ids.length ? ids.length : size + (size >> 1) + 1];
+		System.arraycopy(ids, 0, grown, 0, position);
+		grown[position] = id;
+		System.arraycopy(ids, position, grown, position + 1, size - position);
+		tokens.put(token, new Postings(grown, size + 1));
+	}
+
+	private void unlink(String token, long id) {
+		Postings postings = tokens.get(token);
+		if (postings == null) {
+			return;
+		}
+		int position = Arrays.binarySearch(postings.ids(), 0, postings.size(), id);
+		if (position < 0) {
+			return;
+		}
+		int size = postings.size() - 1;
+		if (size == 0) {
+			tokens.remove(token);
+		} else {
+			long[] remaining = new long[size];
+			System.arraycopy(postings.ids(), 0, remaining, 0, position);
+			System.arraycopy(postings.ids(), position + 1, remaining, position, size - position);
+			tokens.put(token, new Postings(remaining, size));
+		}
+	}
+
+	private List<EmployeeSuggestionDTO> toSuggestions(Set<Long> ids) {
+		List<EmployeeSuggestionDTO> suggestions = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			EmployeeSuggestionDTO entry = entries.get(id);
+			if (entry != null) {
+				suggestions.add(entry);
+			}
+		}
+		return suggestions;
+	}
+
+	private static Set<String> tokensOf(EmployeeSuggestionDTO employee) {
+		Set<String> result = new LinkedHashSet<>();
+		String name = normalize(employee.getName());
+		if (!name.isEmpty()) {
+			result.add(name);
+			String[] words = WORD_SEPARATORS.split(name);
+			for (int i = 1; i < words.length; i++) {
+				if (!words[i].isEmpty()) {
+					result.add(words[i]);
+				}
+			}
+		}
+		String email = normalize(employee.getEmail());
+		if (!email.isEmpty()) {
+			result.add(email);
+		}
+		return result;
+	}
+
+	/** Lower-cases, strips diacritics and collapses whitespace. */
+	static String normalize(String value) {
+		if (value == null) {
+			return "";
+		}
+		String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+		return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+	}
+
+	/**
+	 * The ids of one token: the first {@code size} slots of {@code ids}, in
+	 * ascending order. Slots before {@code size} never change once published.
+	 */
+	private record Postings(long[] ids, int size) {
+	}
+}
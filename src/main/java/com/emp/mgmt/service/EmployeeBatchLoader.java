@@ -0,0 +1,205 @@
+package com.emp.mgmt.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.entity.Employee;
+import com.emp.mgmt.exception.ResourceNotFoundException;
+import com.emp.mgmt.mapper.EmployeeMapper;
+import com.emp.mgmt.repository.EmployeeRepository;
+
+/**
+ * Loads employees by id with one {@code IN} query per batch.
+ * <p>
+ * With {@code employee.lookup.coalescing.enabled}, concurrent
+ * {@link #load(Long)} calls share queries, dataloader style, but without a
+ * timer: a caller that finds fewer than {@code max-concurrent-batches} queries
+ * in flight runs one at once for every id queued so far (up to
+ * {@code max-batch-size}), the others wait for a running query to finish and
+ * then repeat. A lone caller therefore never waits, while under concurrency
+ * the queue fills during each query and the next one fetches it all. The same
+ * id requested twice is fetched once. A caller waits at most
+ * {@code timeout} for its query, and a query that fails, with any throwable,
+ * fails every caller in its batch.
+ * <p>
+ * Queries run in a read-write transaction so they stay on the primary, for
+ * the reason given on {@link EmployeeServiceImpl#getEmployeeById(Long)}.
+ */
+@Component
+public class EmployeeBatchLoader {
+
+	/** Upper bound on bind parameters per IN list. */
+	private static final int MAX_IDS_PER_QUERY = 1000;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Value("${employee.lookup.coalescing.enabled:true}")
+	private boolean coalescing = true;
+
+	@Value("${employee.lookup.coalescing.max-batch-size:100}")
+	private int maxBatchSize = 100;
+
+	@Value("${employee.lookup.coalescing.max-concurrent-batches:2}")
+	private int maxConcurrentBatches = 2;
+
+	@Value("${employee.lookup.coalescing.timeout:PT10S}")
+	private Duration timeout = Duration.ofSeconds(10);
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition batchDone = lock.newCondition();
+
+	/** Ids waiting for a query, in arrival order. */
+	private final Map<Long, CompletableFuture<EmployeeDTO>> queued = new LinkedHashMap<>();
+
+	private int runningBatches;
+
+	void setCoalescing(boolean coalescing) {
+		this.coalescing = coalescing;
+	}
+
+	void setMaxBatchSize(int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	void setMaxConcurrentBatches(int maxConcurrentBatches) {
+		this.maxConcurrentBatches = maxConcurrentBatches;
+	}
+
+	void setTimeout(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * @throws ResourceNotFoundException if there is no employee with {@code id}
+	 * @throws QueryTimeoutException if no query has answered within {@code timeout}
+	 */
+	public EmployeeDTO load(Long id) {
+		if (!coalescing) {
+			return loadAll(List.of(id)).values().stream().findFirst()
+					.orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+		}
+		CompletableFuture<EmployeeDTO> result;
+		long remaining = timeout.toNanos();
+		boolean interrupted = false;
+		lock.lock();
+		try {
+			result = queued.computeIfAbsent(id, key -> new CompletableFuture<>());
+			while (!result.isDone()) {
+				// Only while its own id is still queued: otherwise a running query already covers it
+				if (runningBatches < maxConcurrentBatches && queued.containsKey(id)) {
+					runBatch(takeQueued());
+				} else if (remaining <= 0) {
+					// Callers waiting on the same id give up with it; a running query completes it for no one
+					queued.remove(id, result);
+					result.completeExceptionally(new QueryTimeoutException(
+							"No query answered the lookup of employee " + id + " within " + timeout));
+				} else {
+					try {
+						remaining = batchDone.awaitNanos(remaining);
+					} catch (InterruptedException ex) {
+						// Waited out like before, as the query may hold other callers' ids; the flag is restored below
+						interrupted = true;
+					}
+				}
+			}
+		} finally {
+			lock.unlock();
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		try {
+			return result.join();
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw (RuntimeException) ex.getCause();
+		}
+	}
+
+	/**
+	 * Employees with the given ids, keyed by id in the order requested; ids
+	 * that do not exist are left out. One query per {@value #MAX_IDS_PER_QUERY}
+	 * ids.
+	 */
+	public Map<Long, EmployeeDTO> loadAll(Collection<Long> ids) {
+		List<Long> distinct = ids.stream().distinct().toList();
+		Map<Long, EmployeeDTO> found = new HashMap<>();
+		for (int start = 0; start < distinct.size(); start += MAX_IDS_PER_QUERY) {
+			List<Long> chunk = distinct.subList(start, Math.min(start + MAX_IDS_PER_QUERY, distinct.size()));
+			transactionTemplate.execute(status -> {
+				for (Employee employee : employeeRepository.findAllById(chunk)) {
+					found.put(employee.getId(), EmployeeMapper.toDTO(employee));
+				}
+				return null;
+			});
+		}
+		Map<Long, EmployeeDTO> ordered = new LinkedHashMap<>();
+		for (Long id : distinct) {
+			EmployeeDTO employee = found.get(id);
+			if (employee != null) {
+				ordered.put(id, employee);
+			}
+		}
+		return ordered;
+	}
+
+	/** Removes up to {@code maxBatchSize} queued ids; called with the lock held. */
+	private Map<Long, CompletableFuture<EmployeeDTO>> takeQueued() {
+		Map<Long, CompletableFuture<EmployeeDTO>> batch = new HashMap<>();
+		Iterator<Map.Entry<Long, CompletableFuture<EmployeeDTO>>> entries = queued.entrySet().iterator();
+		while (entries.hasNext() && batch.size() < maxBatchSize) {
+			Map.Entry<Long, CompletableFuture<EmployeeDTO>> entry = entries.next();
+			batch.put(entry.getKey(), entry.getValue());
+			entries.remove();
+		}
+		return batch;
+	}
+
+	/** Queries one batch without the lock, so more ids can queue meanwhile; called with the lock held. */
+	private void runBatch(Map<Long, CompletableFuture<EmployeeDTO>> batch) {
+		runningBatches++;
+		lock.unlock();
+		try {
+			Map<Long, EmployeeDTO> found = loadAll(new ArrayList<>(batch.keySet()));
+			batch.forEach((id, future) -> {
+				EmployeeDTO employee = found.get(id);
+				if (employee == null) {
+					future.completeExceptionally(new ResourceNotFoundException("Employee not found with id: " + id));
+				} else {
+					future.complete(employee);
+				}
+			});
+		} catch (Throwable ex) {
+			// Errors too: a future left incomplete would keep its callers waiting until they time out
+			batch.values().forEach(future -> future.completeExceptionally(ex));
+		} finally {
+			lock.lock();
+			runningBatches--;
+			batchDone.signalAll();
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.emp.mgmt.service;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.emp.mgmt.config.CacheConfig;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * The {@link CacheConfig#EMPLOYEES_CACHE} cache, written so that a lookup
+ * racing a write can never leave the pre-write row behind.
+ * <p>
+ * A lookup that misses takes a {@link #stamp()}, loads the row and offers it
+ * with {@link #putLoaded}. Writes are applied after commit from their
+ * {@link EmployeeChangedEvent}. Every change to an entry is an atomic
+ * {@code compute} on Caffeine's map, so a write and a load of the same id
+ * cannot interleave:
+ * <ul>
+ * <li>an entry is only replaced by a newer version, so a row loaded before
+ * an update loses to the update's state;</li>
+ * <li>a delete leaves a tombstone that nothing replaces (ids are never
+ * reused), until it expires with the cache's TTL;</li>
+ * <li>a change whose new state is unknown (an update without a version, a
+ * bulk update) removes entries and advances the generation, and a load
+ * stamped with an older generation is not cached.</li>
+ * </ul>
+ * Without a Caffeine cache behind the name, e.g. {@code spring.cache.type=none},
+ * every lookup misses and nothing is stored.
+ */
+@Component
+public class EmployeeCache {
+
+	/** Value of a deleted employee's entry. */
+	private static final Object DELETED = new Object();
+
+	private final AtomicLong generation = new AtomicLong();
+
+	private Cache<Object, Object> cache;
+
+	@Autowired
+	void setCacheManager(CacheManager cacheManager) {
+		org.springframework.cache.Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+		if (cache != null && cache.getNativeCache() instanceof Cache<?, ?> nativeCache) {
+			@SuppressWarnings("unchecked")
+			Cache<Object, Object> caffeine = (Cache<Object, Object>) nativeCache;
+			this.cache = caffeine;
+		}
+	}
+
+	/** The cached employee, or {@code null} when it has to be loaded (also for a deleted one). */
+	public EmployeeDTO get(Long id) {
+		Object cached = cache == null ? null : cache.getIfPresent(id);
+		return cached instanceof EmployeeDTO employee ? employee : null;
+	}
+
+	/** Taken before loading a missed employee from the database. */
+	public long stamp() {
+		return generation.get();
+	}
+
+	/** Caches a loaded employee unless a write since {@code stamp} makes it possibly stale. */
+	public void putLoaded(EmployeeDTO employee, long stamp) {
+		if (cache == null) {
+			return;
+		}
+		cache.asMap().compute(employee.getId(), (id, current) -> {
+			if (generation.get() != stamp || current == DELETED) {
+				return current;
+			}
+			return current == null || isNewer(employee, (EmployeeDTO) current) ? employee : current;
+		});
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (cache == null) {
+			return;
+		}
+		ConcurrentMap<Object, Object> entries = cache.asMap();
+		switch (event.getType()) {
+			case CREATED -> {
+				// Cached on first lookup; an import would otherwise push out the hot entries
+			}
+			case UPDATED -> {
+				EmployeeDTO employee = event.getEmployee();
+				entries.compute(event.getId(), (id, current) -> {
+					if (current == DELETED) {
+						return current;
+					}
+					if (employee.getVersion() == null) {
+						generation.incrementAndGet();
+						return null;
+					}
+					return current == null || isNewer(employee, (EmployeeDTO) current) ? employee : current;
+				});
+			}
+			case DELETED -> entries.put(event.getId(), DELETED);
+			case BULK_UPDATED -> {
+				// Advanced before the removal, so a load stamped earlier cannot put an old row back afterwards
+				generation.incrementAndGet();
+				entries.values().removeIf(value -> value != DELETED);
+			}
+		}
+	}
+
+	/** Whether {@code employee} is at least as new as {@code current}; an unknown version is the oldest. */
+	private static boolean isNewer(EmployeeDTO employee, EmployeeDTO current) {
+		long version = employee.getVersion() == null ? -1 : employee.getVersion();
+		long currentVersion = current.getVersion() == null ? -1 : current.getVersion();
+		return version >= currentVersion;
+	}
+}
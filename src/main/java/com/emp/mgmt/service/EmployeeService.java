@@ -1,27 +1,103 @@
 package com.emp.mgmt.service;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import com.emp.mgmt.dto.BulkItemResultDTO;
+import com.emp.mgmt.dto.CsvImportResultDTO;
+import com.emp.mgmt.dto.CursorPageDTO;
+import com.emp.mgmt.dto.DepartmentStatsDTO;
+import com.emp.mgmt.dto.EmployeeBulkPatchDTO;
 import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.dto.EmployeePatchDTO;
+import com.emp.mgmt.dto.EmployeeSuggestionDTO;
 import com.emp.mgmt.exception.ResourceNotFoundException;
+import com.emp.mgmt.exception.VersionConflictException;
 
 public interface EmployeeService {
 
 	EmployeeDTO addEmployee(EmployeeDTO employeeDTO);
 
+	List<BulkItemResultDTO> addEmployees(List<EmployeeDTO> employeeDTOs);
+
+	CsvImportResultDTO importEmployees(Reader reader) throws IOException;
+
 	List<EmployeeDTO> getAllEmployees();
 
 	Page<EmployeeDTO> getAllEmployees(Pageable pageable);
 
+	List<Map<String, Object>> getAllEmployees(List<String> fields);
+
+	Page<Map<String, Object>> getAllEmployees(List<String> fields, Pageable pageable);
+
+	/** Page without a total: one extra row tells whether another page follows, instead of a count query. */
+	Slice<EmployeeDTO> getEmployeeSlice(Pageable pageable);
+
+	Slice<Map<String, Object>> getEmployeeSlice(List<String> fields, Pageable pageable);
+
+	/**
+	 * Page whose total is estimated instead of counted; exact on the last page,
+	 * otherwise at most {@code employee.paging.approximate-count.max-age} stale.
+	 */
+	Page<EmployeeDTO> getAllEmployeesApproximate(Pageable pageable);
+
+	Page<Map<String, Object>> getAllEmployeesApproximate(List<String> fields, Pageable pageable);
+
+	void streamAllEmployees(Consumer<EmployeeDTO> consumer);
+
+	CursorPageDTO<EmployeeDTO> getAllEmployees(String cursor, int size, String sortBy);
+
+	Page<EmployeeDTO> searchEmployees(EmployeeFilterDTO filter, Pageable pageable);
+
+	List<EmployeeSuggestionDTO> suggestEmployees(String query, int limit);
+
+	List<DepartmentStatsDTO> getDepartmentStats();
+
 	EmployeeDTO getEmployeeById(Long id) throws ResourceNotFoundException;
 
+	/** Employees with the given ids in the order requested; unknown ids are left out. */
+	List<EmployeeDTO> getEmployeesByIds(List<Long> ids);
+
+	/** Current version of the employee, read without loading the row. */
+	long getEmployeeVersion(Long id) throws ResourceNotFoundException;
+
 	EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO);
 
+	/**
+	 * Applies the update only if the employee is still at {@code expectedVersion}.
+	 *
+	 * @throws VersionConflictException if the employee has been modified since
+	 */
+	EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO, long expectedVersion)
+			throws VersionConflictException;
+
+	/** Changes only the fields present in {@code patch} and returns the resulting employee. */
+	EmployeeDTO patchEmployee(Long id, EmployeePatchDTO patch);
+
+	/**
+	 * Applies the patch only if the employee is still at {@code expectedVersion}.
+	 *
+	 * @throws VersionConflictException if the employee has been modified since
+	 */
+	EmployeeDTO patchEmployee(Long id, EmployeePatchDTO patch, long expectedVersion)
+			throws VersionConflictException;
+
+	/**
+	 * Applies {@code patch} to every employee matching {@code filter}, which must
+	 * restrict at least one field.
+	 *
+	 * @return the number of employees updated
+	 */
+	int patchEmployees(EmployeeFilterDTO filter, EmployeeBulkPatchDTO patch);
+
 	void deleteEmployee(Long id);
 
 	boolean existsById(Long id);
 
-	boolean existsByEmail(String email);
-
 }
@@ -1,89 +1,753 @@
 package com.emp.mgmt.service;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.emp.mgmt.dto.BulkItemResultDTO;
+import com.emp.mgmt.dto.CsvImportErrorDTO;
+import com.emp.mgmt.dto.CsvImportResultDTO;
+import com.emp.mgmt.dto.CursorPageDTO;
+import com.emp.mgmt.dto.DepartmentStatsDTO;
+import com.emp.mgmt.dto.EmployeeBulkPatchDTO;
 import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.dto.EmployeePatchDTO;
+import com.emp.mgmt.dto.EmployeeSuggestionDTO;
+import com.emp.mgmt.event.EmployeeChangedEvent;
 import com.emp.mgmt.entity.Employee;
+import com.emp.mgmt.exception.DuplicateEmailException;
 import com.emp.mgmt.exception.ResourceNotFoundException;
+import com.emp.mgmt.exception.VersionConflictException;
+import com.emp.mgmt.mapper.EmployeeCsvMapper;
 import com.emp.mgmt.mapper.EmployeeMapper;
+import com.emp.mgmt.repository.EmployeeProjectionRepository;
 import com.emp.mgmt.repository.EmployeeRepository;
+import com.emp.mgmt.repository.EmployeeSpecifications;
+import com.emp.mgmt.search.EmployeeSuggestionIndex;
+import com.emp.mgmt.stats.DepartmentStatsAggregator;
+import com.emp.mgmt.stats.EmployeeCountEstimator;
+
+import io.r2dbc.spi.R2dbcException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
 
 	private static final Logger logger = LoggerFactory.getLogger(EmployeeServiceImpl.class);
 
+	/**
+	 * Columns usable for keyset pagination. Seek predicates skip rows whose sort
+	 * key is NULL, so only columns that are always populated qualify.
+	 */
+	static final Set<String> CURSOR_SORT_COLUMNS = Set.of("id", "name");
+
+	/** SQLState of a unique constraint violation. */
+	private static final String UNIQUE_VIOLATION = "23505";
+
 	@Autowired
 	private EmployeeRepository employeeRepository;
 
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private Validator validator;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EmployeeSuggestionIndex suggestionIndex;
+
+	@Autowired
+	private DepartmentStatsAggregator statsAggregator;
+
+	@Autowired
+	private EmployeeBatchLoader batchLoader;
+
+	@Autowired
+	private EmployeeCountEstimator countEstimator;
+
+	@Autowired
+	private EmployeeCache employeeCache;
+
+	/** Flush/clear interval for bulk inserts; matches the JDBC batch size. */
+	@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+	private int batchSize = 50;
+
+	/** Rows per transaction when importing CSV. */
+	@Value("${employee.import.batch-size:1000}")
+	private int importBatchSize = 1000;
+
+	@Value("${employee.import.max-reported-errors:1000}")
+	private int maxReportedImportErrors = 1000;
+
+	/** Upper bound on bind parameters per IN list when checking for existing emails. */
+	private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+
 	@Override
 	public EmployeeDTO addEmployee(EmployeeDTO employeeDTO) {
-		logger.info("Adding employee: {}", employeeDTO);
+		logger.debug("Adding employee");
 		Employee employee = EmployeeMapper.toEntity(employeeDTO);
-		Employee savedEmployee = employeeRepository.save(employee);
-		return EmployeeMapper.toDTO(savedEmployee);
+		try {
+			// Flush now so a duplicate email surfaces here as a constraint violation
+			EmployeeDTO savedEmployee = EmployeeMapper.toDTO(employeeRepository.saveAndFlush(employee));
+			eventPublisher.publishEvent(
+					new EmployeeChangedEvent(EmployeeChangedEvent.Type.CREATED, savedEmployee.getId(), savedEmployee));
+			return savedEmployee;
+		} catch (DataIntegrityViolationException ex) {
+			throw translateIntegrityViolation(ex, employeeDTO.getEmail());
+		}
+	}
+
+	@Override
+	@Transactional
+	public List<BulkItemResultDTO> addEmployees(List<EmployeeDTO> employeeDTOs) {
+		logger.debug("Adding {} employees in bulk", employeeDTOs.size());
+		return insertAll(employeeDTOs);
+	}
+
+	/**
+	 * Reads the CSV one record at a time and commits every
+	 * {@code employee.import.batch-size} rows in their own transaction, so
+	 * memory is bounded by one chunk whatever the file size. A row that fails
+	 * to parse or validate is reported and skipped; rows after a malformed
+	 * record (e.g. an unterminated quote) are not read. Chunks committed before
+	 * an unexpected error stay committed.
+	 */
+	@Override
+	public CsvImportResultDTO importEmployees(Reader reader) throws IOException {
+		long start = System.nanoTime();
+		CsvImportResultDTO report = new CsvImportResultDTO();
+		List<EmployeeDTO> chunk = new ArrayList<>(importBatchSize);
+		List<Long> chunkLines = new ArrayList<>(importBatchSize);
+		try (CSVParser parser = EmployeeCsvMapper.parser(reader)) {
+			Iterator<CSVRecord> records = parser.iterator();
+			while (true) {
+				CSVRecord record;
+				try {
+					if (!records.hasNext()) {
+						break;
+					}
+					record = records.next();
+				} catch (UncheckedIOException ex) {
+					// The parser cannot resynchronize after malformed input, so stop at this record
+					reportImportError(report, parser.getCurrentLineNumber(), null, BulkItemResultDTO.Status.INVALID,
+							"Malformed CSV, import stopped: " + ex.getCause().getMessage());
+					break;
+				}
+				report.setRows(report.getRows() + 1);
+				long line = parser.getCurrentLineNumber();
+				try {
+					chunk.add(EmployeeCsvMapper.toDTO(record));
+					chunkLines.add(line);
+				} catch (IllegalArgumentException ex) {
+					reportImportError(report, line, EmployeeCsvMapper.email(record), BulkItemResultDTO.Status.INVALID,
+							ex.getMessage());
+				}
+				if (chunk.size() >= importBatchSize) {
+					importChunk(chunk, chunkLines, report);
+				}
+			}
+		}
+		importChunk(chunk, chunkLines, report);
+		// Parse errors are reported as rows are read, the rest when their chunk is inserted
+		report.getErrors().sort(Comparator.comparingLong(CsvImportErrorDTO::getLine));
+		logger.debug("Imported {} of {} CSV rows in {} ms", report.getCreated(), report.getRows(),
+				(System.nanoTime() - start) / 1_000_000);
+		return report;
+	}
+
+	private void importChunk(List<EmployeeDTO> chunk, List<Long> chunkLines, CsvImportResultDTO report) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		List<BulkItemResultDTO> results = transactionTemplate.execute(status -> insertAll(chunk));
+		for (int i = 0; i < results.size(); i++) {
+			BulkItemResultDTO result = results.get(i);
+			if (result.getStatus() == BulkItemResultDTO.Status.CREATED) {
+				report.setCreated(report.getCreated() + 1);
+			} else {
+				reportImportError(report, chunkLines.get(i), result.getEmail(), result.getStatus(),
+						result.getMessage());
+			}
+		}
+		chunk.clear();
+		chunkLines.clear();
+	}
+
+	private void reportImportError(CsvImportResultDTO report, long line, String email, BulkItemResultDTO.Status status,
+			String message) {
+		report.setFailed(report.getFailed() + 1);
+		if (report.getErrors().size() < maxReportedImportErrors) {
+			report.getErrors().add(new CsvImportErrorDTO(line, email, status, message));
+		} else {
+			report.setErrorsTruncated(true);
+		}
+	}
+
+	/**
+	 * Validates, de-duplicates by email and inserts in JDBC batches; runs in the
+	 * caller's transaction.
+	 */
+	private List<BulkItemResultDTO> insertAll(List<EmployeeDTO> employeeDTOs) {
+		Set<String> takenEmails = findExistingEmails(employeeDTOs);
+
+		List<BulkItemResultDTO> results = new ArrayList<>(employeeDTOs.size());
+		List<Employee> pending = new ArrayList<>(batchSize);
+		List<BulkItemResultDTO> pendingResults = new ArrayList<>(batchSize);
+		for (int i = 0; i < employeeDTOs.size(); i++) {
+			EmployeeDTO dto = employeeDTOs.get(i);
+			BulkItemResultDTO result = new BulkItemResultDTO(i, null, dto.getEmail(), null, null);
+			results.add(result);
+
+			Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(dto);
+			if (!violations.isEmpty()) {
+				result.setStatus(BulkItemResultDTO.Status.INVALID);
+				result.setMessage(violations.stream().map(v -> v.getPropertyPath() + ": " + v.getMessage()).sorted()
+						.collect(Collectors.joining(", ")));
+				continue;
+			}
+			// takenEmails also absorbs repeats within the same request
+			if (dto.getEmail() != null && !takenEmails.add(dto.getEmail())) {
+				result.setStatus(BulkItemResultDTO.Status.DUPLICATE_EMAIL);
+				result.setMessage("Email already exists: " + dto.getEmail());
+				continue;
+			}
+
+			pending.add(EmployeeMapper.toEntity(dto));
+			pendingResults.add(result);
+			if (pending.size() >= batchSize) {
+				flushBatch(pending, pendingResults);
+			}
+		}
+		flushBatch(pending, pendingResults);
+		return results;
+	}
+
+	private Set<String> findExistingEmails(List<EmployeeDTO> employeeDTOs) {
+		List<String> emails = employeeDTOs.stream().map(EmployeeDTO::getEmail).filter(email -> email != null)
+				.distinct().collect(Collectors.toList());
+		Set<String> existing = new HashSet<>();
+		for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+			List<String> chunk = emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE, emails.size()));
+			existing.addAll(employeeRepository.findExistingEmails(chunk));
+		}
+		return existing;
+	}
+
+	private void flushBatch(List<Employee> pending, List<BulkItemResultDTO> pendingResults) {
+		if (pending.isEmpty()) {
+			return;
+		}
+		List<Employee> saved = employeeRepository.saveAll(pending);
+		// Send the batched INSERTs now and drop the entities so memory stays bounded
+		entityManager.flush();
+		entityManager.clear();
+		for (int i = 0; i < saved.size(); i++) {
+			BulkItemResultDTO result = pendingResults.get(i);
+			result.setId(saved.get(i).getId());
+			result.setStatus(BulkItemResultDTO.Status.CREATED);
+			eventPublisher.publishEvent(new EmployeeChangedEvent(EmployeeChangedEvent.Type.CREATED,
+					result.getId(), EmployeeMapper.toDTO(saved.get(i))));
+		}
+		pending.clear();
+		pendingResults.clear();
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public List<EmployeeDTO> getAllEmployees() {
-		logger.info("Fetching all employees");
+		logger.debug("Fetching all employees");
 		return employeeRepository.findAll().stream().map(EmployeeMapper::toDTO).collect(Collectors.toList());
 	}
 
 	@Override
+	@Transactional(readOnly = true)
 	public Page<EmployeeDTO> getAllEmployees(Pageable pageable) {
-		logger.info("Fetching employees with pagination: {}", pageable);
+		logger.debug("Fetching employees with pagination: {}", pageable);
 		return employeeRepository.findAll(pageable).map(EmployeeMapper::toDTO);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public List<Map<String, Object>> getAllEmployees(List<String> fields) {
+		logger.debug("Fetching all employees with fields: {}", fields);
+		validateFields(fields);
+		return employeeRepository.findAllProjected(fields);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<Map<String, Object>> getAllEmployees(List<String> fields, Pageable pageable) {
+		logger.debug("Fetching employees with fields: {} and pagination: {}", fields, pageable);
+		validateFields(fields);
+		return employeeRepository.findAllProjected(fields, pageable);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<EmployeeDTO> getEmployeeSlice(Pageable pageable) {
+		logger.debug("Fetching employees without a total: {}", pageable);
+		return employeeRepository.findSliceBy(pageable).map(EmployeeMapper::toDTO);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<Map<String, Object>> getEmployeeSlice(List<String> fields, Pageable pageable) {
+		logger.debug("Fetching employees with fields: {} without a total: {}", fields, pageable);
+		validateFields(fields);
+		return employeeRepository.findSliceProjected(fields, pageable);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<EmployeeDTO> getAllEmployeesApproximate(Pageable pageable) {
+		return withApproximateTotal(getEmployeeSlice(pageable), countEstimator::getApproximateCount);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<Map<String, Object>> getAllEmployeesApproximate(List<String> fields, Pageable pageable) {
+		return withApproximateTotal(getEmployeeSlice(fields, pageable), countEstimator::getApproximateCount);
+	}
+
+	/**
+	 * Completes a slice with the estimated total, kept consistent with what the
+	 * slice itself proves: a page followed by more rows has at least one more
+	 * row than it ends at, and a last page ends exactly at the total.
+	 */
+	static <T> Page<T> withApproximateTotal(Slice<T> slice, LongSupplier approximateCount) {
+		Pageable pageable = slice.getPageable();
+		long end = pageable.getOffset() + slice.getNumberOfElements();
+		if (slice.hasNext()) {
+			return new PageImpl<>(slice.getContent(), pageable, Math.max(approximateCount.getAsLong(), end + 1));
+		}
+		if (slice.hasContent() || pageable.getOffset() == 0) {
+			return new PageImpl<>(slice.getContent(), pageable, end);
+		}
+		// Past the end: all that is known is that the rows stop before this page
+		return new PageImpl<>(slice.getContent(), pageable,
+				Math.min(approximateCount.getAsLong(), pageable.getOffset()));
+	}
+
+	static void validateFields(List<String> fields) {
+		if (fields.isEmpty() || !EmployeeProjectionRepository.PROJECTABLE_FIELDS.containsAll(fields)) {
+			throw new IllegalArgumentException(
+					"Unsupported fields: " + fields + ", allowed: " + EmployeeProjectionRepository.PROJECTABLE_FIELDS);
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAllEmployees(Consumer<EmployeeDTO> consumer) {
+		logger.debug("Streaming all employees");
+		try (Stream<Employee> employees = employeeRepository.streamAllBy()) {
+			employees.forEach(employee -> {
+				// Detach each row once mapped so the persistence context stays empty
+				entityManager.detach(employee);
+				consumer.accept(EmployeeMapper.toDTO(employee));
+			});
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public CursorPageDTO<EmployeeDTO> getAllEmployees(String cursor, int size, String sortBy) {
+		logger.debug("Fetching employees after cursor - Size: {}, SortBy: {}", size, sortBy);
+		if (!CURSOR_SORT_COLUMNS.contains(sortBy)) {
+			throw new IllegalArgumentException("Cursor pagination is not supported for sortBy: " + sortBy);
+		}
+		if (size < 1) {
+			throw new IllegalArgumentException("Page size must be at least 1");
+		}
+
+		Sort sort = "id".equals(sortBy) ? Sort.by("id") : Sort.by(sortBy).and(Sort.by("id"));
+		ScrollPosition position = cursor == null || cursor.isEmpty() ? ScrollPosition.keyset()
+				: decodeCursor(cursor, sortBy);
+
+		Window<Employee> window = employeeRepository.findAllBy(position, sort, Limit.of(size));
+		List<EmployeeDTO> content = window.map(EmployeeMapper::toDTO).getContent();
+		String nextCursor = window.hasNext() && !content.isEmpty()
+				? encodeCursor(content.get(content.size() - 1), sortBy)
+				: null;
+		return new CursorPageDTO<>(content, nextCursor, nextCursor != null);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<EmployeeDTO> searchEmployees(EmployeeFilterDTO filter, Pageable pageable) {
+		logger.debug("Searching employees in department: {} with pagination: {}", filter.getDepartment(), pageable);
+		validateFilter(filter);
+		return employeeRepository.findAll(EmployeeSpecifications.matching(filter), pageable)
+				.map(EmployeeMapper::toDTO);
+	}
+
+	static void validateFilter(EmployeeFilterDTO filter) {
+		if (filter.getMinSalary() != null && filter.getMaxSalary() != null
+				&& filter.getMinSalary() > filter.getMaxSalary()) {
+			throw new IllegalArgumentException("minSalary must not be greater than maxSalary");
+		}
+		if (filter.getJoinedFrom() != null && filter.getJoinedTo() != null
+				&& filter.getJoinedFrom().isAfter(filter.getJoinedTo())) {
+			throw new IllegalArgumentException("joinedFrom must not be after joinedTo");
+		}
+	}
+
+	@Override
+	public List<EmployeeSuggestionDTO> suggestEmployees(String query, int limit) {
+		logger.debug("Suggesting employees for query: {}", query);
+		return suggestionIndex.suggest(query, limit);
+	}
+
+	@Override
+	public List<DepartmentStatsDTO> getDepartmentStats() {
+		logger.debug("Fetching department statistics");
+		return statsAggregator.getDepartmentStats();
+	}
+
+	/**
+	 * Cursor layout before Base64: {@code sortBy:id[:sortValue]}. The sort value
+	 * comes last so it may itself contain colons.
+	 */
+	static String encodeCursor(EmployeeDTO last, String sortBy) {
+		String raw = "id".equals(sortBy) ? sortBy + ":" + last.getId()
+				: sortBy + ":" + last.getId() + ":" + last.getName();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	static ScrollPosition decodeCursor(String cursor, String sortBy) {
+		String[] parts;
+		try {
+			parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 3);
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor);
+		}
+		if (!sortBy.equals(parts[0]) || parts.length != ("id".equals(sortBy) ? 2 : 3)) {
+			throw new IllegalArgumentException("Cursor does not match sortBy: " + sortBy);
+		}
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		if (!"id".equals(sortBy)) {
+			keys.put(sortBy, parts[2]);
+		}
+		try {
+			keys.put("id", Long.valueOf(parts[1]));
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor);
+		}
+		return ScrollPosition.forward(keys);
+	}
+
+	/**
+	 * Cache misses go through the {@link EmployeeBatchLoader}, which shares one
+	 * query between concurrent lookups. Its transactions are read-write on
+	 * purpose, which keeps them on the primary: a miss right after an update
+	 * would otherwise cache a lagging replica's row for the full TTL. The
+	 * {@link EmployeeCache} keeps a row loaded while a write commits from
+	 * being cached after it.
+	 */
 	@Override
 	public EmployeeDTO getEmployeeById(Long id) {
-		logger.info("Fetching employee by ID: {}", id);
-		Employee employee = employeeRepository.findById(id)
+		logger.debug("Fetching employee by ID: {}", id);
+		EmployeeDTO cached = employeeCache.get(id);
+		if (cached != null) {
+			return cached;
+		}
+		long stamp = employeeCache.stamp();
+		EmployeeDTO employee = batchLoader.load(id);
+		employeeCache.putLoaded(employee, stamp);
+		return employee;
+	}
+
+	/**
+	 * Cached employees are served from the cache; the rest are fetched with one
+	 * {@code IN} query and cached. Read-write, like {@link #getEmployeeById}.
+	 */
+	@Override
+	public List<EmployeeDTO> getEmployeesByIds(List<Long> ids) {
+		logger.debug("Fetching {} employees by ID", ids.size());
+		Map<Long, EmployeeDTO> employees = new LinkedHashMap<>();
+		List<Long> missing = new ArrayList<>();
+		for (Long id : ids) {
+			EmployeeDTO cached = employeeCache.get(id);
+			if (cached != null) {
+				employees.put(id, cached);
+			} else if (!employees.containsKey(id)) {
+				// Placeholder keeps the requested order
+				employees.put(id, null);
+				missing.add(id);
+			}
+		}
+		if (!missing.isEmpty()) {
+			long stamp = employeeCache.stamp();
+			Map<Long, EmployeeDTO> loaded = batchLoader.loadAll(missing);
+			loaded.values().forEach(employee -> employeeCache.putLoaded(employee, stamp));
+			employees.putAll(loaded);
+		}
+		return employees.values().stream().filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	/**
+	 * Read-write on purpose, like the lookups by id: the version answers
+	 * conditional requests, and a lagging replica would report a 304 for a row
+	 * that has already changed.
+	 */
+	@Override
+	@Transactional
+	public long getEmployeeVersion(Long id) {
+		return employeeRepository.findVersionById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
-		return EmployeeMapper.toDTO(employee);
 	}
 
+	/**
+	 * The new version is read back in the same transaction, while the update
+	 * still holds the row lock, so it is the version this update wrote.
+	 */
 	@Override
+	@Transactional
 	public EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO) {
-		logger.info("Updating employee with ID: {}", id);
-		Employee existingEmployee = employeeRepository.findById(id)
-				.orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+		logger.debug("Updating employee with ID: {}", id);
+		int updated;
+		try {
+			updated = employeeRepository.updateById(id, employeeDTO.getName(), employeeDTO.getEmail(),
+					employeeDTO.getDepartment(), employeeDTO.getSalary(), employeeDTO.getJoiningDate());
+		} catch (DataIntegrityViolationException ex) {
+			throw translateIntegrityViolation(ex, employeeDTO.getEmail());
+		}
+		if (updated == 0) {
+			throw new ResourceNotFoundException("Employee not found with id: " + id);
+		}
+		return updated(id, employeeDTO, employeeRepository.findVersionById(id).orElseThrow());
+	}
+
+	@Override
+	public EmployeeDTO updateEmployee(Long id, EmployeeDTO employeeDTO, long expectedVersion) {
+		logger.debug("Updating employee with ID: {} at version: {}", id, expectedVersion);
+		int updated;
+		try {
+			updated = employeeRepository.updateByIdAndVersion(id, expectedVersion, employeeDTO.getName(),
+					employeeDTO.getEmail(), employeeDTO.getDepartment(), employeeDTO.getSalary(),
+					employeeDTO.getJoiningDate());
+		} catch (DataIntegrityViolationException ex) {
+			throw translateIntegrityViolation(ex, employeeDTO.getEmail());
+		}
+		if (updated == 0) {
+			// Only the failure path pays for telling "missing" from "modified"
+			Long currentVersion = employeeRepository.findVersionById(id)
+					.orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+			throw new VersionConflictException(id, currentVersion);
+		}
+		return updated(id, employeeDTO, expectedVersion + 1);
+	}
+
+	/** Every column was overwritten from the request, so it is the new row state. */
+	private EmployeeDTO updated(Long id, EmployeeDTO employeeDTO, Long version) {
+		EmployeeDTO updatedEmployee = EmployeeMapper.toDTO(EmployeeMapper.toEntity(employeeDTO));
+		updatedEmployee.setId(id);
+		updatedEmployee.setVersion(version);
+		eventPublisher.publishEvent(new EmployeeChangedEvent(EmployeeChangedEvent.Type.UPDATED, id, updatedEmployee));
+		return updatedEmployee;
+	}
+
+	@Override
+	public EmployeeDTO patchEmployee(Long id, EmployeePatchDTO patch) {
+		logger.debug("Patching employee with ID: {}", id);
+		return patch(id, patch, null);
+	}
+
+	@Override
+	public EmployeeDTO patchEmployee(Long id, EmployeePatchDTO patch, long expectedVersion) {
+		logger.debug("Patching employee with ID: {} at version: {}", id, expectedVersion);
+		return patch(id, patch, expectedVersion);
+	}
+
+	/**
+	 * One UPDATE of the patched columns, then the row is read back in the same
+	 * transaction: events, the cache and the ETag need the full new state,
+	 * which a partial update does not carry. An empty patch changes nothing.
+	 */
+	private EmployeeDTO patch(Long id, EmployeePatchDTO patch, Long expectedVersion) {
+		Map<String, Object> values = patchValues(patch);
+		return transactionTemplate.execute(status -> {
+			if (!values.isEmpty()) {
+				int updated;
+				try {
+					updated = employeeRepository.patchById(id, expectedVersion, values);
+				} catch (DataIntegrityViolationException ex) {
+					throw translateIntegrityViolation(ex, (String) values.get("email"));
+				}
+				if (updated == 0 && expectedVersion != null) {
+					Long currentVersion = employeeRepository.findVersionById(id)
+							.orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+					throw new VersionConflictException(id, currentVersion);
+				}
+			}
+			Employee employee = employeeRepository.findById(id)
+					.orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+			if (values.isEmpty() && expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+				throw new VersionConflictException(id, employee.getVersion());
+			}
+			EmployeeDTO patchedEmployee = EmployeeMapper.toDTO(employee);
+			if (!values.isEmpty()) {
+				eventPublisher.publishEvent(
+						new EmployeeChangedEvent(EmployeeChangedEvent.Type.UPDATED, id, patchedEmployee));
+			}
+			return patchedEmployee;
+		});
+	}
+
+	/**
+	 * A single set-based UPDATE, without loading any employee. Listeners get one
+	 * {@link EmployeeChangedEvent.Type#BULK_UPDATED} event instead of one per
+	 * row, and every cached employee is evicted after the commit.
+	 */
+	@Override
+	@Transactional
+	public int patchEmployees(EmployeeFilterDTO filter, EmployeeBulkPatchDTO patch) {
+		logger.debug("Patching employees in department: {}", filter.getDepartment());
+		Map<String, Object> values = bulkPatchValues(filter, patch);
+		Double salaryFactor = salaryFactor(patch);
+		int updated = employeeRepository.patchMatching(EmployeeSpecifications.matching(filter), values,
+				salaryFactor);
+		if (updated > 0) {
+			eventPublisher.publishEvent(new EmployeeChangedEvent(EmployeeChangedEvent.Type.BULK_UPDATED, null, null));
+		}
+		return updated;
+	}
+
+	/** Attributes set by a merge patch, in entity attribute names; {@code null} clears one. */
+	static Map<String, Object> patchValues(EmployeePatchDTO patch) {
+		Map<String, Object> values = new LinkedHashMap<>();
+		putIfPresent(values, "name", patch.getName());
+		putIfPresent(values, "email", patch.getEmail());
+		putIfPresent(values, "department", patch.getDepartment());
+		putIfPresent(values, "salary", patch.getSalary());
+		putIfPresent(values, "joiningDate", patch.getJoiningDate());
+		return values;
+	}
+
+	/**
+	 * Attributes set by a bulk patch, once the filter and patch are known to
+	 * describe a bounded change; the salary adjustment comes separately from
+	 * {@link #salaryFactor}.
+	 */
+	static Map<String, Object> bulkPatchValues(EmployeeFilterDTO filter, EmployeeBulkPatchDTO patch) {
+		validateFilter(filter);
+		if (filter.getDepartment() == null && filter.getMinSalary() == null && filter.getMaxSalary() == null
+				&& filter.getJoinedFrom() == null && filter.getJoinedTo() == null) {
+			throw new IllegalArgumentException("A bulk update needs at least one filter");
+		}
+		Map<String, Object> values = new LinkedHashMap<>();
+		putIfPresent(values, "department", patch.getDepartment());
+		putIfPresent(values, "salary", patch.getSalary());
+		putIfPresent(values, "joiningDate", patch.getJoiningDate());
+		if (patch.getSalaryAdjustmentPercent() != null && values.containsKey("salary")) {
+			throw new IllegalArgumentException("salary and salaryAdjustmentPercent cannot be combined");
+		}
+		if (values.isEmpty() && patch.getSalaryAdjustmentPercent() == null) {
+			throw new IllegalArgumentException("A bulk update needs at least one change");
+		}
+		return values;
+	}
 
-		existingEmployee.setName(employeeDTO.getName());
-		existingEmployee.setEmail(employeeDTO.getEmail());
-		existingEmployee.setDepartment(employeeDTO.getDepartment());
-		existingEmployee.setSalary(employeeDTO.getSalary());
-		existingEmployee.setJoiningDate(employeeDTO.getJoiningDate());
+	/** Multiplier for the salaries of a bulk patch, {@code null} when it does not adjust them. */
+	static Double salaryFactor(EmployeeBulkPatchDTO patch) {
+		return patch.getSalaryAdjustmentPercent() == null ? null : 1 + patch.getSalaryAdjustmentPercent() / 100;
+	}
 
-		Employee updatedEmployee = employeeRepository.save(existingEmployee);
-		return EmployeeMapper.toDTO(updatedEmployee);
+	private static void putIfPresent(Map<String, Object> values, String attribute, Optional<?> value) {
+		if (value != null) {
+			values.put(attribute, value.orElse(null));
+		}
 	}
 
 	@Override
 	public void deleteEmployee(Long id) {
-		logger.info("Deleting employee with ID: {}", id);
-		if (!employeeRepository.existsById(id)) {
+		logger.debug("Deleting employee with ID: {}", id);
+		if (employeeRepository.deleteEmployeeById(id) == 0) {
 			throw new ResourceNotFoundException("Employee not found with ID: " + id);
 		}
-		employeeRepository.deleteById(id);
+		eventPublisher.publishEvent(new EmployeeChangedEvent(EmployeeChangedEvent.Type.DELETED, id, null));
 	}
 
-	@Override
-	public boolean existsById(Long id) {
-		return employeeRepository.existsById(id);
+	private static RuntimeException translateIntegrityViolation(DataIntegrityViolationException ex, String email) {
+		return isDuplicateEmail(ex) ? new DuplicateEmailException(email) : ex;
+	}
+
+	/**
+	 * Whether {@code ex} is a violation of the email constraint, by the name
+	 * Hibernate extracted, or else a unique violation (SQLState 23505, from
+	 * JDBC or R2DBC) whose driver message names the email column, as
+	 * PostgreSQL and H2 do. The latter also covers the generated constraint
+	 * name of a database that migration V2 has not adopted yet.
+	 */
+	static boolean isDuplicateEmail(Throwable ex) {
+		for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+			if (cause instanceof org.hibernate.exception.ConstraintViolationException violation
+					&& violation.getConstraintName() != null && violation.getConstraintName()
+							.toLowerCase(Locale.ROOT).contains(Employee.EMAIL_UNIQUE_CONSTRAINT)) {
+				return true;
+			}
+			String sqlState = cause instanceof SQLException sqlException ? sqlException.getSQLState()
+					: cause instanceof R2dbcException r2dbcException ? r2dbcException.getSqlState() : null;
+			if (UNIQUE_VIOLATION.equals(sqlState) && cause.getMessage() != null) {
+				String message = cause.getMessage().toLowerCase(Locale.ROOT);
+				return message.contains(Employee.EMAIL_UNIQUE_CONSTRAINT) || message.contains("(email");
+			}
+		}
+		return false;
 	}
 
 	@Override
-	public boolean existsByEmail(String email) {
-		return employeeRepository.existsByEmail(email);
+	@Transactional(readOnly = true)
+	public boolean existsById(Long id) {
+		return employeeRepository.existsById(id);
 	}
 
 }
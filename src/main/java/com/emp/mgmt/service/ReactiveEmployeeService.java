@@ -0,0 +1,103 @@
+package com.emp.mgmt.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import com.emp.mgmt.dto.BulkItemResultDTO;
+import com.emp.mgmt.dto.CsvImportResultDTO;
+import com.emp.mgmt.dto.CursorPageDTO;
+import com.emp.mgmt.dto.DepartmentStatsDTO;
+import com.emp.mgmt.dto.EmployeeBulkPatchDTO;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.dto.EmployeePatchDTO;
+import com.emp.mgmt.dto.EmployeeSuggestionDTO;
+import com.emp.mgmt.exception.ResourceNotFoundException;
+import com.emp.mgmt.exception.VersionConflictException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link EmployeeService} for the {@code reactive}
+ * profile. Failures are signalled as errors carrying the same exceptions.
+ */
+public interface ReactiveEmployeeService {
+
+	Mono<EmployeeDTO> addEmployee(EmployeeDTO employeeDTO);
+
+	Mono<List<BulkItemResultDTO>> addEmployees(List<EmployeeDTO> employeeDTOs);
+
+	/** Imports a UTF-8 CSV body as it arrives, committing every {@code employee.import.batch-size} rows. */
+	Mono<CsvImportResultDTO> importEmployees(Flux<DataBuffer> csv);
+
+	/** All employees in id order, emitted as the subscriber requests them. */
+	Flux<EmployeeDTO> getAllEmployees();
+
+	Mono<Page<EmployeeDTO>> getAllEmployees(Pageable pageable);
+
+	Flux<Map<String, Object>> getAllEmployees(List<String> fields);
+
+	Mono<Page<Map<String, Object>>> getAllEmployees(List<String> fields, Pageable pageable);
+
+	/** Page without a total: one extra row tells whether another page follows, instead of a count query. */
+	Mono<Slice<EmployeeDTO>> getEmployeeSlice(Pageable pageable);
+
+	Mono<Slice<Map<String, Object>>> getEmployeeSlice(List<String> fields, Pageable pageable);
+
+	/** Page whose total is estimated instead of counted, as in {@link EmployeeService}. */
+	Mono<Page<EmployeeDTO>> getAllEmployeesApproximate(Pageable pageable);
+
+	Mono<Page<Map<String, Object>>> getAllEmployeesApproximate(List<String> fields, Pageable pageable);
+
+	Mono<CursorPageDTO<EmployeeDTO>> getAllEmployees(String cursor, int size, String sortBy);
+
+	Mono<Page<EmployeeDTO>> searchEmployees(EmployeeFilterDTO filter, Pageable pageable);
+
+	Flux<EmployeeSuggestionDTO> suggestEmployees(String query, int limit);
+
+	Flux<DepartmentStatsDTO> getDepartmentStats();
+
+	Mono<EmployeeDTO> getEmployeeById(Long id);
+
+	/** Employees with the given ids in the order requested; unknown ids are left out. */
+	Flux<EmployeeDTO> getEmployeesByIds(List<Long> ids);
+
+	/**
+	 * @throws ResourceNotFoundException signalled if no employee has this id
+	 */
+	Mono<Long> getEmployeeVersion(Long id);
+
+	Mono<EmployeeDTO> updateEmployee(Long id, EmployeeDTO employeeDTO);
+
+	/**
+	 * Applies the update only if the employee is still at
+	 * {@code expectedVersion}.
+	 *
+	 * @throws VersionConflictException signalled if the employee has moved on
+	 */
+	Mono<EmployeeDTO> updateEmployee(Long id, EmployeeDTO employeeDTO, long expectedVersion);
+
+	/** Changes only the fields present in {@code patch} and emits the resulting employee. */
+	Mono<EmployeeDTO> patchEmployee(Long id, EmployeePatchDTO patch);
+
+	/**
+	 * Applies the patch only if the employee is still at {@code expectedVersion}.
+	 *
+	 * @throws VersionConflictException signalled if the employee has moved on
+	 */
+	Mono<EmployeeDTO> patchEmployee(Long id, EmployeePatchDTO patch, long expectedVersion);
+
+	/**
+	 * Applies {@code patch} to every employee matching {@code filter}, which must
+	 * restrict at least one field; emits the number of employees updated.
+	 */
+	Mono<Integer> patchEmployees(EmployeeFilterDTO filter, EmployeeBulkPatchDTO patch);
+
+	Mono<Void> deleteEmployee(Long id);
+}
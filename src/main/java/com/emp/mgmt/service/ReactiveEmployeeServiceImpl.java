@@ -0,0 +1,681 @@
+package com.emp.mgmt.service;
+
+import static com.emp.mgmt.service.EmployeeServiceImpl.CURSOR_SORT_COLUMNS;
+import static com.emp.mgmt.service.EmployeeServiceImpl.bulkPatchValues;
+import static com.emp.mgmt.service.EmployeeServiceImpl.decodeCursor;
+import static com.emp.mgmt.service.EmployeeServiceImpl.encodeCursor;
+import static com.emp.mgmt.service.EmployeeServiceImpl.patchValues;
+import static com.emp.mgmt.service.EmployeeServiceImpl.salaryFactor;
+import static com.emp.mgmt.service.EmployeeServiceImpl.validateFields;
+import static com.emp.mgmt.service.EmployeeServiceImpl.validateFilter;
+import static com.emp.mgmt.service.EmployeeServiceImpl.withApproximateTotal;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.emp.mgmt.dto.BulkItemResultDTO;
+import com.emp.mgmt.dto.CsvImportErrorDTO;
+import com.emp.mgmt.dto.CsvImportResultDTO;
+import com.emp.mgmt.dto.CursorPageDTO;
+import com.emp.mgmt.dto.DepartmentStatsDTO;
+import com.emp.mgmt.dto.EmployeeBulkPatchDTO;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.dto.EmployeePatchDTO;
+import com.emp.mgmt.dto.EmployeeSuggestionDTO;
+import com.emp.mgmt.entity.Employee;
+import com.emp.mgmt.entity.EmployeeRow;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+import com.emp.mgmt.exception.DuplicateEmailException;
+import com.emp.mgmt.exception.ResourceNotFoundException;
+import com.emp.mgmt.exception.VersionConflictException;
+import com.emp.mgmt.mapper.EmployeeCsvMapper;
+import com.emp.mgmt.mapper.EmployeeMapper;
+import com.emp.mgmt.repository.ReactiveEmployeeRepository;
+import com.emp.mgmt.search.EmployeeSuggestionIndex;
+import com.emp.mgmt.stats.DepartmentStatsAggregator;
+import com.emp.mgmt.stats.EmployeeCountEstimator;
+
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * R2DBC implementation of {@link ReactiveEmployeeService}. Writes publish the
+ * same {@link EmployeeChangedEvent}s as the servlet stack, so the in-memory
+ * suggestion index and department statistics stay current; writes are
+ * published once their statements (and transaction, if any) complete.
+ * <p>
+ * Dynamic reads (search filters, keyset cursors, sparse fields) are built as
+ * {@link Criteria} and {@link Query} objects for the
+ * {@link R2dbcEntityTemplate}; validation, cursor encoding and patch rules
+ * are shared with {@link EmployeeServiceImpl}, so both stacks accept and
+ * reject the same requests.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeServiceImpl.class);
+
+	/** Upper bound on bind parameters per IN list when checking for existing emails. */
+	private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+
+	@Autowired
+	private ReactiveEmployeeRepository employeeRepository;
+
+	@Autowired
+	private R2dbcEntityTemplate template;
+
+	@Autowired
+	private Validator validator;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private EmployeeSuggestionIndex suggestionIndex;
+
+	@Autowired
+	private DepartmentStatsAggregator statsAggregator;
+
+	@Autowired
+	private EmployeeCountEstimator countEstimator;
+
+	/** Rows per transaction when importing CSV. */
+	@Value("${employee.import.batch-size:1000}")
+	private int importBatchSize = 1000;
+
+	@Value("${employee.import.max-reported-errors:1000}")
+	private int maxReportedImportErrors = 1000;
+
+	/**
+	 * Not a bean: a second transaction manager in the context would replace
+	 * the JPA one that the startup loads still use.
+	 */
+	private TransactionalOperator transactionalOperator;
+
+	private final Object idLock = new Object();
+
+	/** Next id to hand out and the last id of the reserved block; guarded by {@link #idLock}. */
+	private long nextId = 1;
+
+	private long maxId = 0;
+
+	@Autowired
+	void setConnectionFactory(ConnectionFactory connectionFactory) {
+		this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+	}
+
+	@Override
+	public Mono<EmployeeDTO> addEmployee(EmployeeDTO employeeDTO) {
+		logger.debug("Adding employee");
+		EmployeeRow row = EmployeeMapper.toRow(employeeDTO);
+		return allocateId().flatMap(id -> {
+			row.setId(id);
+			return employeeRepository.save(row);
+		}).map(EmployeeMapper::toDTO)
+				.onErrorMap(DataIntegrityViolationException.class,
+						ex -> translateIntegrityViolation(ex, employeeDTO.getEmail()))
+				.doOnNext(saved -> eventPublisher.publishEvent(
+						new EmployeeChangedEvent(EmployeeChangedEvent.Type.CREATED, saved.getId(), saved)));
+	}
+
+	/**
+	 * Hands out ids the way Hibernate's {@code pooled-lo} optimizer does (see
+	 * {@code hibernate.id.optimizer.pooled.preferred}): each {@code nextval}
+	 * reserves the block that starts at the returned value. Blocks drawn from
+	 * the sequence never overlap, so ids never collide with those of the JPA
+	 * stack or other instances, including on a fresh sequence.
+	 */
+	private Mono<Long> allocateId() {
+		return Mono.defer(() -> {
+			synchronized (idLock) {
+				if (nextId <= maxId) {
+					return Mono.just(nextId++);
+				}
+			}
+			return employeeRepository.nextIdBlock().map(lo -> {
+				synchronized (idLock) {
+					// A concurrent refill may be replaced; its unused ids are skipped, never reused
+					nextId = lo + 1;
+					maxId = lo + Employee.ID_ALLOCATION_SIZE - 1;
+				}
+				return lo;
+			});
+		});
+	}
+
+	@Override
+	public Mono<List<BulkItemResultDTO>> addEmployees(List<EmployeeDTO> employeeDTOs) {
+		logger.debug("Adding {} employees in bulk", employeeDTOs.size());
+		return insertAll(employeeDTOs);
+	}
+
+	/**
+	 * Reads the CSV on a bounded-elastic thread as the body arrives and inserts
+	 * every {@code employee.import.batch-size} rows in their own transaction,
+	 * so memory is bounded by one chunk whatever the file size. Failed rows are
+	 * reported as in {@link EmployeeServiceImpl#importEmployees}.
+	 */
+	@Override
+	public Mono<CsvImportResultDTO> importEmployees(Flux<DataBuffer> csv) {
+		return Mono.defer(() -> {
+			CsvImportResultDTO report = new CsvImportResultDTO();
+			return Flux
+					.using(() -> EmployeeCsvMapper.parser(new InputStreamReader(
+							DataBufferUtils.subscriberInputStream(csv, 1), StandardCharsets.UTF_8)),
+							ReactiveEmployeeServiceImpl::readCsv, ReactiveEmployeeServiceImpl::closeQuietly)
+					.subscribeOn(Schedulers.boundedElastic())
+					// Chunks are imported one after the other, so only one thread updates the report at a time
+					.buffer(importBatchSize).concatMap(chunk -> importChunk(chunk, report))
+					.then(Mono.fromSupplier(() -> {
+						report.getErrors().sort(Comparator.comparingLong(CsvImportErrorDTO::getLine));
+						logger.debug("Imported {} of {} CSV rows", report.getCreated(), report.getRows());
+						return report;
+					}));
+		});
+	}
+
+	/** Records in file order; a malformed record ends the stream with a row that reports it. */
+	private static Flux<CsvRow> readCsv(CSVParser parser) {
+		Iterator<CSVRecord> records = parser.iterator();
+		return Flux.generate(sink -> {
+			CSVRecord record;
+			try {
+				if (!records.hasNext()) {
+					sink.complete();
+					return;
+				}
+				record = records.next();
+			} catch (UncheckedIOException ex) {
+				// The parser cannot resynchronize after malformed input, so stop at this record
+				sink.next(new CsvRow(parser.getCurrentLineNumber(), false, null, null,
+						"Malformed CSV, import stopped: " + ex.getCause().getMessage()));
+				sink.complete();
+				return;
+			}
+			long line = parser.getCurrentLineNumber();
+			try {
+				sink.next(new CsvRow(line, true, EmployeeCsvMapper.toDTO(record), null, null));
+			} catch (IllegalArgumentException ex) {
+				sink.next(new CsvRow(line, true, null, EmployeeCsvMapper.email(record), ex.getMessage()));
+			}
+		});
+	}
+
+	private static void closeQuietly(CSVParser parser) {
+		try {
+			parser.close();
+		} catch (IOException ex) {
+			logger.debug("Failed to close the CSV parser: {}", ex.getMessage());
+		}
+	}
+
+	private Mono<Void> importChunk(List<CsvRow> chunk, CsvImportResultDTO report) {
+		List<EmployeeDTO> employees = chunk.stream().map(CsvRow::employee).filter(Objects::nonNull).toList();
+		return insertAll(employees).doOnNext(results -> {
+			Iterator<BulkItemResultDTO> inserted = results.iterator();
+			for (CsvRow row : chunk) {
+				if (row.record()) {
+					report.setRows(report.getRows() + 1);
+				}
+				if (row.employee() == null) {
+					reportImportError(report, row.line(), row.email(), BulkItemResultDTO.Status.INVALID,
+							row.error());
+					continue;
+				}
+				BulkItemResultDTO result = inserted.next();
+				if (result.getStatus() == BulkItemResultDTO.Status.CREATED) {
+					report.setCreated(report.getCreated() + 1);
+				} else {
+					reportImportError(report, row.line(), result.getEmail(), result.getStatus(),
+							result.getMessage());
+				}
+			}
+		}).then();
+	}
+
+	private void reportImportError(CsvImportResultDTO report, long line, String email, BulkItemResultDTO.Status status,
+			String message) {
+		report.setFailed(report.getFailed() + 1);
+		if (report.getErrors().size() < maxReportedImportErrors) {
+			report.getErrors().add(new CsvImportErrorDTO(line, email, status, message));
+		} else {
+			report.setErrorsTruncated(true);
+		}
+	}
+
+	/**
+	 * Validates, de-duplicates by email and inserts the rest in one
+	 * transaction; the creates are published after it commits.
+	 */
+	private Mono<List<BulkItemResultDTO>> insertAll(List<EmployeeDTO> employeeDTOs) {
+		return Mono.defer(() -> {
+			List<BulkItemResultDTO> results = new ArrayList<>(employeeDTOs.size());
+			return findExistingEmails(employeeDTOs)
+					.flatMapMany(takenEmails -> Flux.fromIterable(validate(employeeDTOs, takenEmails, results)))
+					.concatMap(pending -> allocateId().flatMap(id -> {
+						pending.row().setId(id);
+						return template.insert(pending.row());
+					}).map(saved -> {
+						pending.result().setId(saved.getId());
+						pending.result().setStatus(BulkItemResultDTO.Status.CREATED);
+						return EmployeeMapper.toDTO(saved);
+					})).collectList().as(transactionalOperator::transactional).map(created -> {
+						created.forEach(employee -> eventPublisher.publishEvent(new EmployeeChangedEvent(
+								EmployeeChangedEvent.Type.CREATED, employee.getId(), employee)));
+						return results;
+					});
+		});
+	}
+
+	/** Adds a result per item to {@code results} and returns the rows to insert. */
+	private List<PendingRow> validate(List<EmployeeDTO> employeeDTOs, Set<String> takenEmails,
+			List<BulkItemResultDTO> results) {
+		List<PendingRow> pending = new ArrayList<>(employeeDTOs.size());
+		for (int i = 0; i < employeeDTOs.size(); i++) {
+			EmployeeDTO dto = employeeDTOs.get(i);
+			BulkItemResultDTO result = new BulkItemResultDTO(i, null, dto.getEmail(), null, null);
+			results.add(result);
+
+			Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(dto);
+			if (!violations.isEmpty()) {
+				result.setStatus(BulkItemResultDTO.Status.INVALID);
+				result.setMessage(violations.stream().map(v -> v.getPropertyPath() + ": " + v.getMessage()).sorted()
+						.collect(Collectors.joining(", ")));
+				continue;
+			}
+			// takenEmails also absorbs repeats within the same request
+			if (dto.getEmail() != null && !takenEmails.add(dto.getEmail())) {
+				result.setStatus(BulkItemResultDTO.Status.DUPLICATE_EMAIL);
+				result.setMessage("Email already exists: " + dto.getEmail());
+				continue;
+			}
+			pending.add(new PendingRow(EmployeeMapper.toRow(dto), result));
+		}
+		return pending;
+	}
+
+	private Mono<Set<String>> findExistingEmails(List<EmployeeDTO> employeeDTOs) {
+		List<String> emails = employeeDTOs.stream().map(EmployeeDTO::getEmail).filter(Objects::nonNull).distinct()
+				.toList();
+		return Flux.range(0, (emails.size() + EMAIL_LOOKUP_CHUNK_SIZE - 1) / EMAIL_LOOKUP_CHUNK_SIZE)
+				.concatMap(chunk -> template.select(Query
+						.query(Criteria.where("email").in(emails.subList(chunk * EMAIL_LOOKUP_CHUNK_SIZE,
+								Math.min((chunk + 1) * EMAIL_LOOKUP_CHUNK_SIZE, emails.size()))))
+						.columns(columns(List.of("email"))), EmployeeRow.class))
+				.map(EmployeeRow::getEmail).collect(Collectors.toCollection(HashSet::new));
+	}
+
+	@Override
+	public Flux<EmployeeDTO> getAllEmployees() {
+		logger.debug("Fetching all employees");
+		return employeeRepository.findAllByOrderById().map(EmployeeMapper::toDTO);
+	}
+
+	@Override
+	public Mono<Page<EmployeeDTO>> getAllEmployees(Pageable pageable) {
+		logger.debug("Fetching employees with pagination: {}", pageable);
+		return Mono.zip(employeeRepository.findAllBy(pageable).map(EmployeeMapper::toDTO).collectList(),
+				employeeRepository.count()).map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+	}
+
+	@Override
+	public Flux<Map<String, Object>> getAllEmployees(List<String> fields) {
+		logger.debug("Fetching all employees with fields: {}", fields);
+		return Flux.defer(() -> {
+			validateFields(fields);
+			return template.select(Query.empty().columns(columns(fields)).sort(Sort.by("id")), EmployeeRow.class)
+					.map(row -> project(row, fields));
+		});
+	}
+
+	@Override
+	public Mono<Page<Map<String, Object>>> getAllEmployees(List<String> fields, Pageable pageable) {
+		logger.debug("Fetching employees with fields: {} and pagination: {}", fields, pageable);
+		return Mono.defer(() -> {
+			validateFields(fields);
+			return page(Query.empty().columns(columns(fields)), pageable, row -> project(row, fields));
+		});
+	}
+
+	@Override
+	public Mono<Slice<EmployeeDTO>> getEmployeeSlice(Pageable pageable) {
+		logger.debug("Fetching employees without a total: {}", pageable);
+		return slice(Query.empty(), pageable, EmployeeMapper::toDTO);
+	}
+
+	@Override
+	public Mono<Slice<Map<String, Object>>> getEmployeeSlice(List<String> fields, Pageable pageable) {
+		logger.debug("Fetching employees with fields: {} without a total: {}", fields, pageable);
+		return Mono.defer(() -> {
+			validateFields(fields);
+			return slice(Query.empty().columns(columns(fields)), pageable, row -> project(row, fields));
+		});
+	}
+
+	@Override
+	public Mono<Page<EmployeeDTO>> getAllEmployeesApproximate(Pageable pageable) {
+		return getEmployeeSlice(pageable).flatMap(this::withEstimatedTotal);
+	}
+
+	@Override
+	public Mono<Page<Map<String, Object>>> getAllEmployeesApproximate(List<String> fields, Pageable pageable) {
+		return getEmployeeSlice(fields, pageable).flatMap(this::withEstimatedTotal);
+	}
+
+	/** The estimator recounts through JPA once its total is too old, which blocks. */
+	private <T> Mono<Page<T>> withEstimatedTotal(Slice<T> slice) {
+		return Mono.fromCallable(() -> withApproximateTotal(slice, countEstimator::getApproximateCount))
+				.subscribeOn(Schedulers.boundedElastic());
+	}
+
+	@Override
+	public Mono<CursorPageDTO<EmployeeDTO>> getAllEmployees(String cursor, int size, String sortBy) {
+		logger.debug("Fetching employees after cursor - Size: {}, SortBy: {}", size, sortBy);
+		return Mono.defer(() -> {
+			if (!CURSOR_SORT_COLUMNS.contains(sortBy)) {
+				throw new IllegalArgumentException("Cursor pagination is not supported for sortBy: " + sortBy);
+			}
+			if (size < 1) {
+				throw new IllegalArgumentException("Page size must be at least 1");
+			}
+			Sort sort = "id".equals(sortBy) ? Sort.by("id") : Sort.by(sortBy).and(Sort.by("id"));
+			Criteria after = cursor == null || cursor.isEmpty() ? Criteria.empty()
+					: after(((KeysetScrollPosition) decodeCursor(cursor, sortBy)).getKeys(), sortBy);
+			// One extra row tells whether another page follows
+			return template.select(Query.query(after).sort(sort).limit(size + 1), EmployeeRow.class)
+					.map(EmployeeMapper::toDTO).collectList().map(employees -> {
+						boolean hasNext = employees.size() > size;
+						List<EmployeeDTO> content = hasNext ? employees.subList(0, size) : employees;
+						String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1), sortBy) : null;
+						return new CursorPageDTO<>(content, nextCursor, hasNext);
+					});
+		});
+	}
+
+	/** Keyset predicate for the rows after {@code keys} in {@code (sortBy, id)} order. */
+	private static Criteria after(Map<String, Object> keys, String sortBy) {
+		Criteria afterId = Criteria.where("id").greaterThan(keys.get("id"));
+		if ("id".equals(sortBy)) {
+			return afterId;
+		}
+		Object last = keys.get(sortBy);
+		return Criteria.where(sortBy).greaterThan(last).or(Criteria.where(sortBy).is(last).and(afterId));
+	}
+
+	@Override
+	public Mono<Page<EmployeeDTO>> searchEmployees(EmployeeFilterDTO filter, Pageable pageable) {
+		logger.debug("Searching employees in department: {} with pagination: {}", filter.getDepartment(), pageable);
+		return Mono.defer(() -> {
+			validateFilter(filter);
+			return page(Query.query(matching(filter)), pageable, EmployeeMapper::toDTO);
+		});
+	}
+
+	/** Same predicates as {@code EmployeeSpecifications.matching}; absent values add no restriction. */
+	private static Criteria matching(EmployeeFilterDTO filter) {
+		Criteria criteria = Criteria.empty();
+		if (filter.getDepartment() != null) {
+			criteria = criteria.and("department").is(filter.getDepartment());
+		}
+		if (filter.getMinSalary() != null) {
+			criteria = criteria.and("salary").greaterThanOrEquals(filter.getMinSalary());
+		}
+		if (filter.getMaxSalary() != null) {
+			criteria = criteria.and("salary").lessThanOrEquals(filter.getMaxSalary());
+		}
+		if (filter.getJoinedFrom() != null) {
+			criteria = criteria.and("joiningDate").greaterThanOrEquals(filter.getJoinedFrom());
+		}
+		if (filter.getJoinedTo() != null) {
+			criteria = criteria.and("joiningDate").lessThanOrEquals(filter.getJoinedTo());
+		}
+		return criteria;
+	}
+
+	private <T> Mono<Page<T>> page(Query query, Pageable pageable, Function<EmployeeRow, T> mapper) {
+		return Mono.zip(template.select(query.with(pageable), EmployeeRow.class).map(mapper).collectList(),
+				template.count(query, EmployeeRow.class))
+				.map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+	}
+
+	/** Like {@link #page} without the count query, reading one extra row instead. */
+	private <T> Mono<Slice<T>> slice(Query query, Pageable pageable, Function<EmployeeRow, T> mapper) {
+		return template.select(query.with(pageable).limit(pageable.getPageSize() + 1), EmployeeRow.class).map(mapper)
+				.collectList().map(content -> {
+					boolean hasNext = content.size() > pageable.getPageSize();
+					return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable,
+							hasNext);
+				});
+	}
+
+	/** Column names of the given properties; {@link Query#columns} takes them unmapped. */
+	private SqlIdentifier[] columns(List<String> fields) {
+		RelationalPersistentEntity<?> entity = rowEntity();
+		return fields.stream().map(field -> entity.getRequiredPersistentProperty(field).getColumnName())
+				.toArray(SqlIdentifier[]::new);
+	}
+
+	/** The requested properties of a partially read row, in request order. */
+	private Map<String, Object> project(EmployeeRow row, List<String> fields) {
+		RelationalPersistentEntity<?> entity = rowEntity();
+		PersistentPropertyAccessor<EmployeeRow> accessor = entity.getPropertyAccessor(row);
+		Map<String, Object> projected = new LinkedHashMap<>();
+		fields.forEach(
+				field -> projected.put(field, accessor.getProperty(entity.getRequiredPersistentProperty(field))));
+		return projected;
+	}
+
+	private RelationalPersistentEntity<?> rowEntity() {
+		return template.getConverter().getMappingContext().getRequiredPersistentEntity(EmployeeRow.class);
+	}
+
+	@Override
+	public Flux<EmployeeSuggestionDTO> suggestEmployees(String query, int limit) {
+		return Flux.defer(() -> Flux.fromIterable(suggestionIndex.suggest(query, limit)));
+	}
+
+	@Override
+	public Flux<DepartmentStatsDTO> getDepartmentStats() {
+		return Flux.defer(() -> Flux.fromIterable(statsAggregator.getDepartmentStats()));
+	}
+
+	@Override
+	public Mono<EmployeeDTO> getEmployeeById(Long id) {
+		logger.debug("Fetching employee by ID: {}", id);
+		return employeeRepository.findById(id).map(EmployeeMapper::toDTO)
+				.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Employee not found with id: " + id)));
+	}
+
+	@Override
+	public Flux<EmployeeDTO> getEmployeesByIds(List<Long> ids) {
+		logger.debug("Fetching {} employees by ID", ids.size());
+		List<Long> distinctIds = ids.stream().distinct().toList();
+		return template.select(Query.query(Criteria.where("id").in(distinctIds)), EmployeeRow.class)
+				.collectMap(EmployeeRow::getId, EmployeeMapper::toDTO)
+				.flatMapIterable(found -> distinctIds.stream().map(found::get).filter(Objects::nonNull).toList());
+	}
+
+	@Override
+	public Mono<Long> getEmployeeVersion(Long id) {
+		return employeeRepository.findVersionById(id)
+				.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Employee not found with id: " + id)));
+	}
+
+	/**
+	 * The new version is read back in the same transaction, while the update
+	 * still holds the row lock, so it is the version this update wrote.
+	 */
+	@Override
+	public Mono<EmployeeDTO> updateEmployee(Long id, EmployeeDTO employeeDTO) {
+		logger.debug("Updating employee with ID: {}", id);
+		return employeeRepository
+				.updateById(id, employeeDTO.getName(), employeeDTO.getEmail(), employeeDTO.getDepartment(),
+						employeeDTO.getSalary(), employeeDTO.getJoiningDate())
+				.onErrorMap(DataIntegrityViolationException.class,
+						ex -> translateIntegrityViolation(ex, employeeDTO.getEmail()))
+				.flatMap(updated -> updated == 0
+						? Mono.<Long>error(new ResourceNotFoundException("Employee not found with id: " + id))
+						: employeeRepository.findVersionById(id))
+				.as(transactionalOperator::transactional)
+				// Published after the commit; reactive transactions have no synchronizations for the listeners
+				.map(version -> updated(id, employeeDTO, version));
+	}
+
+	@Override
+	public Mono<EmployeeDTO> updateEmployee(Long id, EmployeeDTO employeeDTO, long expectedVersion) {
+		logger.debug("Updating employee with ID: {} at version: {}", id, expectedVersion);
+		return employeeRepository
+				.updateByIdAndVersion(id, expectedVersion, employeeDTO.getName(), employeeDTO.getEmail(),
+						employeeDTO.getDepartment(), employeeDTO.getSalary(), employeeDTO.getJoiningDate())
+				.onErrorMap(DataIntegrityViolationException.class,
+						ex -> translateIntegrityViolation(ex, employeeDTO.getEmail()))
+				.flatMap(updated -> updated == 0
+						// Only the failure path pays for telling "missing" from "modified"
+						? getEmployeeVersion(id).flatMap(
+								currentVersion -> Mono.error(new VersionConflictException(id, currentVersion)))
+						: Mono.just(updated(id, employeeDTO, expectedVersion + 1)));
+	}
+
+	@Override
+	public Mono<EmployeeDTO> patchEmployee(Long id, EmployeePatchDTO patch) {
+		logger.debug("Patching employee with ID: {}", id);
+		return patch(id, patch, null);
+	}
+
+	@Override
+	public Mono<EmployeeDTO> patchEmployee(Long id, EmployeePatchDTO patch, long expectedVersion) {
+		logger.debug("Patching employee with ID: {} at version: {}", id, expectedVersion);
+		return patch(id, patch, expectedVersion);
+	}
+
+	/**
+	 * One UPDATE of the patched columns, then the row is read back in the same
+	 * transaction: events and the ETag need the full new state, which a
+	 * partial update does not carry. An empty patch changes nothing.
+	 */
+	private Mono<EmployeeDTO> patch(Long id, EmployeePatchDTO patch, Long expectedVersion) {
+		Map<String, Object> values = patchValues(patch);
+		Mono<Integer> update = values.isEmpty() ? Mono.just(0)
+				: employeeRepository.patchById(id, expectedVersion, values).onErrorMap(
+						DataIntegrityViolationException.class,
+						ex -> translateIntegrityViolation(ex, (String) values.get("email")));
+		return update.flatMap(updated -> {
+			if (updated == 0 && !values.isEmpty() && expectedVersion != null) {
+				return getEmployeeVersion(id)
+						.flatMap(currentVersion -> Mono.error(new VersionConflictException(id, currentVersion)));
+			}
+			return getEmployeeById(id);
+		}).flatMap(employee -> {
+			if (values.isEmpty() && expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+				return Mono.error(new VersionConflictException(id, employee.getVersion()));
+			}
+			return Mono.just(employee);
+		}).as(transactionalOperator::transactional).doOnNext(patchedEmployee -> {
+			if (!values.isEmpty()) {
+				eventPublisher.publishEvent(
+						new EmployeeChangedEvent(EmployeeChangedEvent.Type.UPDATED, id, patchedEmployee));
+			}
+		});
+	}
+
+	/**
+	 * A single set-based UPDATE, without loading any employee; listeners get
+	 * one {@link EmployeeChangedEvent.Type#BULK_UPDATED} event.
+	 */
+	@Override
+	public Mono<Integer> patchEmployees(EmployeeFilterDTO filter, EmployeeBulkPatchDTO patch) {
+		logger.debug("Patching employees in department: {}", filter.getDepartment());
+		return Mono.defer(() -> {
+			Map<String, Object> values = bulkPatchValues(filter, patch);
+			return employeeRepository.patchMatching(matching(filter), values, salaryFactor(patch));
+		}).doOnNext(updated -> {
+			if (updated > 0) {
+				eventPublisher
+						.publishEvent(new EmployeeChangedEvent(EmployeeChangedEvent.Type.BULK_UPDATED, null, null));
+			}
+		});
+	}
+
+	/** Every column was overwritten from the request, so it is the new row state. */
+	private EmployeeDTO updated(Long id, EmployeeDTO employeeDTO, Long version) {
+		EmployeeDTO updatedEmployee = EmployeeMapper.toDTO(EmployeeMapper.toRow(employeeDTO));
+		updatedEmployee.setId(id);
+		updatedEmployee.setVersion(version);
+		eventPublisher.publishEvent(new EmployeeChangedEvent(EmployeeChangedEvent.Type.UPDATED, id, updatedEmployee));
+		return updatedEmployee;
+	}
+
+	@Override
+	public Mono<Void> deleteEmployee(Long id) {
+		logger.debug("Deleting employee with ID: {}", id);
+		return employeeRepository.deleteEmployeeById(id).flatMap(deleted -> {
+			if (deleted == 0) {
+				return Mono.error(new ResourceNotFoundException("Employee not found with ID: " + id));
+			}
+			eventPublisher.publishEvent(new EmployeeChangedEvent(EmployeeChangedEvent.Type.DELETED, id, null));
+			return Mono.empty();
+		});
+	}
+
+	/** R2DBC drivers only report the violated constraint in the message. */
+	private static RuntimeException translateIntegrityViolation(DataIntegrityViolationException ex, String email) {
+		return EmployeeServiceImpl.isDuplicateEmail(ex) ? new DuplicateEmailException(email) : ex;
+	}
+
+	/**
+	 * A CSV record to import: the employee, or why the row was rejected;
+	 * {@code record} is false when the input could not be read as a record.
+	 */
+	private record CsvRow(long line, boolean record, EmployeeDTO employee, String email, String error) {
+	}
+
+	private record PendingRow(EmployeeRow row, BulkItemResultDTO result) {
+	}
+}
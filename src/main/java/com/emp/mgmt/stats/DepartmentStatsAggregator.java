@@ -0,0 +1,326 @@
+package com.emp.mgmt.stats;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.emp.mgmt.dto.DepartmentStatsDTO;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+import com.emp.mgmt.repository.DepartmentTotalsView;
+import com.emp.mgmt.repository.DepartmentYearCountView;
+import com.emp.mgmt.repository.EmployeeRepository;
+import com.emp.mgmt.repository.EmployeeStatsView;
+
+/**
+ * Per-department headcount, salary and joining-year aggregates maintained
+ * incrementally from {@link EmployeeChangedEvent}s, so reads cost
+ * O(departments) instead of a table scan.
+ * <p>
+ * Each employee's last applied contribution is remembered by id, which makes
+ * updates exact (the old contribution is subtracted) and lets min/max survive
+ * deletes via a salary multiset. Mutations are serialized by one lock; reads
+ * take a consistent per-department snapshot. A periodic job compares the
+ * aggregates with a {@code GROUP BY} over the table and rebuilds any
+ * department that drifted, e.g. when two concurrent updates of the same row
+ * committed in a different order than their events were applied. Bulk
+ * updates carry no per-row state and trigger the same comparison on the
+ * application task executor, so the request that made them does not wait for it;
+ * bulk updates that commit while one is pending share it. A department is
+ * rebuilt with the lock held from its query on, so no event applied in
+ * between can be overwritten by older rows. The comparison reads from the
+ * primary, as a lagging replica would look like drift.
+ */
+@Component
+public class DepartmentStatsAggregator implements ApplicationRunner {
+
+	private static final Logger logger = LoggerFactory.getLogger(DepartmentStatsAggregator.class);
+
+	/** Map key for employees without a department; ConcurrentHashMap does not allow null keys. */
+	private static final String UNASSIGNED = "";
+
+	private static final double SALARY_SUM_TOLERANCE = 0.01;
+
+	private final Map<Long, Contribution> contributions = new ConcurrentHashMap<>();
+
+	private final Map<String, DepartmentAggregate> departments = new ConcurrentHashMap<>();
+
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	private final AtomicBoolean reconcilePending = new AtomicBoolean();
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	/** Follows the threading mode (virtual profile) and stops with the context. */
+	@Autowired
+	@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+	private TaskExecutor taskExecutor;
+
+	@Override
+	@Transactional(readOnly = true)
+	public void run(ApplicationArguments args) {
+		long start = System.nanoTime();
+		try (Stream<EmployeeStatsView> rows = employeeRepository.streamStatsBy()) {
+			// Skip ids already applied: a write that committed while loading carries newer data
+			rows.forEach(row -> {
+				if (!contributions.containsKey(row.getId())) {
+					apply(row.getId(), Contribution.of(row.getDepartment(), row.getSalary(), row.getJoiningDate()));
+				}
+			});
+		}
+		logger.info("Loaded statistics for {} employees in {} departments in {} ms", contributions.size(),
+				departments.size(), (System.nanoTime() - start) / 1_000_000);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (event.getType() == EmployeeChangedEvent.Type.BULK_UPDATED) {
+			// No per-row state to apply; the departments it touched now differ from GROUP BY
+			scheduleReconcile();
+		} else if (event.getType() == EmployeeChangedEvent.Type.DELETED) {
+			apply(event.getId(), null);
+		} else {
+			EmployeeDTO employee = event.getEmployee();
+			apply(event.getId(),
+					Contribution.of(employee.getDepartment(), employee.getSalary(), employee.getJoiningDate()));
+		}
+	}
+
+	public List<DepartmentStatsDTO> getDepartmentStats() {
+		return departments.entrySet().stream().map(entry -> entry.getValue().snapshot(entry.getKey()))
+				.filter(stats -> stats.getHeadcount() > 0)
+				.sorted(Comparator.comparing(DepartmentStatsDTO::getDepartment,
+						Comparator.nullsFirst(Comparator.naturalOrder())))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Recomputes the aggregates with {@code GROUP BY} and rebuilds each
+	 * department whose in-memory figures differ.
+	 *
+	 * @return the number of departments that were corrected
+	 */
+	@Scheduled(fixedDelayString = "${employee.stats.reconcile-interval:PT5M}",
+			initialDelayString = "${employee.stats.reconcile-interval:PT5M}")
+	public int reconcile() {
+		return reconcile(true);
+	}
+
+	private void scheduleReconcile() {
+		if (reconcilePending.compareAndSet(false, true)) {
+			try {
+				taskExecutor.execute(() -> {
+					// Cleared first: a bulk update committed from here on schedules another pass
+					reconcilePending.set(false);
+					try {
+						reconcile(false);
+					} catch (RuntimeException ex) {
+						logger.warn("Could not reconcile department statistics after a bulk update", ex);
+					}
+				});
+			} catch (RejectedExecutionException ex) {
+				// Shutting down
+			}
+		}
+	}
+
+	/** @param unexpected whether a difference is drift worth a warning rather than the result of a bulk update */
+	private int reconcile(boolean unexpected) {
+		// Read-write, like the lookups by id, to stay on the primary
+		return transactionTemplate.execute(status -> compareAndRebuild(unexpected));
+	}
+
+	private int compareAndRebuild(boolean unexpected) {
+		Map<String, DepartmentStatsDTO> expected = new HashMap<>();
+		for (DepartmentTotalsView totals : employeeRepository.findDepartmentTotals()) {
+			expected.put(key(totals.getDepartment()),
+					new DepartmentStatsDTO(totals.getDepartment(), totals.getHeadcount(),
+							totals.getSalarySum() == null ? 0.0 : totals.getSalarySum(), null,
+							totals.getMinSalary(), totals.getMaxSalary(), new TreeMap<>()));
+		}
+		for (DepartmentYearCountView count : employeeRepository.findDepartmentJoiningYearCounts()) {
+			DepartmentStatsDTO stats = expected.get(key(count.getDepartment()));
+			if (stats != null) {
+				stats.getJoiningYearHistogram().put(count.getJoiningYear(), count.getHeadcount());
+			}
+		}
+
+		Set<String> keys = new HashSet<>(expected.keySet());
+		keys.addAll(departments.keySet());
+		int corrected = 0;
+		for (String key : keys) {
+			DepartmentAggregate aggregate = departments.get(key);
+			DepartmentStatsDTO actual = aggregate == null ? null : aggregate.snapshot(key);
+			if (!matches(expected.get(key), actual)) {
+				if (unexpected) {
+					logger.warn("Department statistics drifted for '{}', rebuilding from the database", key);
+				} else {
+					logger.debug("Rebuilding department statistics for '{}' after a bulk update", key);
+				}
+				rebuild(key);
+				corrected++;
+			}
+		}
+		return corrected;
+	}
+
+	private void rebuild(String key) {
+		// Events wait for the query: one applied after the rows were read but before they are would be undone
+		writeLock.lock();
+		try {
+			List<EmployeeStatsView> rows = employeeRepository.findStatsByDepartment(department(key));
+			Set<Long> present = new HashSet<>();
+			for (EmployeeStatsView row : rows) {
+				present.add(row.getId());
+				apply(row.getId(), Contribution.of(row.getDepartment(), row.getSalary(), row.getJoiningDate()));
+			}
+			List<Long> stale = new ArrayList<>();
+			contributions.forEach((id, contribution) -> {
+				if (contribution.department.equals(key) && !present.contains(id)) {
+					stale.add(id);
+				}
+			});
+			stale.forEach(id -> apply(id, null));
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/** Replaces the contribution of {@code id}; {@code null} removes it. */
+	private void apply(Long id, Contribution contribution) {
+		writeLock.lock();
+		try {
+			Contribution previous = contribution == null ? contributions.remove(id)
+					: contributions.put(id, contribution);
+			if (previous != null) {
+				departments.computeIfPresent(previous.department, (key, aggregate) -> {
+					aggregate.remove(previous);
+					return aggregate.isEmpty() ? null : aggregate;
+				});
+			}
+			if (contribution != null) {
+				departments.computeIfAbsent(contribution.department, key -> new DepartmentAggregate())
+						.add(contribution);
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	private static boolean matches(DepartmentStatsDTO expected, DepartmentStatsDTO actual) {
+		if (expected == null || actual == null) {
+			return expected == null && (actual == null || actual.getHeadcount() == 0);
+		}
+		return expected.getHeadcount() == actual.getHeadcount()
+				&& Math.abs(expected.getTotalSalary() - actual.getTotalSalary()) <= SALARY_SUM_TOLERANCE
+				&& Objects.equals(expected.getMinSalary(), actual.getMinSalary())
+				&& Objects.equals(expected.getMaxSalary(), actual.getMaxSalary())
+				&& expected.getJoiningYearHistogram().equals(actual.getJoiningYearHistogram());
+	}
+
+	private static String key(String department) {
+		return department == null ? UNASSIGNED : department;
+	}
+
+	private static String department(String key) {
+		return UNASSIGNED.equals(key) ? null : key;
+	}
+
+	private static final class Contribution {
+
+		private final String department;
+
+		private final Double salary;
+
+		private final Integer joiningYear;
+
+		private Contribution(String department, Double salary, Integer joiningYear) {
+			this.department = department;
+			this.salary = salary;
+			this.joiningYear = joiningYear;
+		}
+
+		static Contribution of(String department, Double salary, LocalDate joiningDate) {
+			return new Contribution(key(department), salary, joiningDate == null ? null : joiningDate.getYear());
+		}
+	}
+
+	/** Mutable aggregate for one department; guarded by its own monitor for readers. */
+	private static final class DepartmentAggregate {
+
+		private long headcount;
+
+		private double salarySum;
+
+		/** Salary multiset (value to occurrences) so min/max stay exact after removals. */
+		private final TreeMap<Double, Integer> salaries = new TreeMap<>();
+
+		private final TreeMap<Integer, Long> joiningYears = new TreeMap<>();
+
+		synchronized void add(Contribution contribution) {
+			headcount++;
+			if (contribution.salary != null) {
+				salarySum += contribution.salary;
+				salaries.merge(contribution.salary, 1, Integer::sum);
+			}
+			if (contribution.joiningYear != null) {
+				joiningYears.merge(contribution.joiningYear, 1L, Long::sum);
+			}
+		}
+
+		synchronized void remove(Contribution contribution) {
+			headcount--;
+			if (contribution.salary != null) {
+				salarySum -= contribution.salary;
+				salaries.computeIfPresent(contribution.salary, (salary, count) -> count == 1 ? null : count - 1);
+			}
+			if (contribution.joiningYear != null) {
+				joiningYears.computeIfPresent(contribution.joiningYear, (year, count) -> count == 1 ? null : count - 1);
+			}
+		}
+
+		synchronized boolean isEmpty() {
+			return headcount == 0;
+		}
+
+		synchronized DepartmentStatsDTO snapshot(String key) {
+			long salaryCount = salaries.values().stream().mapToLong(Integer::longValue).sum();
+			return new DepartmentStatsDTO(department(key), headcount, salarySum,
+					salaryCount == 0 ? null : salarySum / salaryCount,
+					salaries.isEmpty() ? null : salaries.firstKey(), salaries.isEmpty() ? null : salaries.lastKey(),
+					new LinkedHashMap<>(joiningYears));
+		}
+	}
+}
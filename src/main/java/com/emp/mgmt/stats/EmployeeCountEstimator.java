@@ -0,0 +1,87 @@
+package com.emp.mgmt.stats;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.emp.mgmt.event.EmployeeChangedEvent;
+import com.emp.mgmt.repository.EmployeeRepository;
+
+/**
+ * Total number of employees for pages that accept an approximate total,
+ * without a {@code count(*)} per request.
+ * <p>
+ * The total comes from the last {@code count(*)} and is moved by the create
+ * and delete events committed since. Writes that bypass this instance, such
+ * as other instances or SQL run directly against the table, are not seen
+ * until the next count. The first read after {@code max-age} counts again,
+ * which bounds how stale the total can be. One caller counts while the
+ * others keep the previous total. An event that commits while the count runs
+ * can be lost or counted twice, so the total can be off by a few rows until
+ * the next count.
+ */
+@Component
+public class EmployeeCountEstimator {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeCountEstimator.class);
+
+	/** Total until the first count. */
+	private static final long UNKNOWN = -1;
+
+	private final AtomicLong total = new AtomicLong(UNKNOWN);
+
+	private final AtomicBoolean counting = new AtomicBoolean();
+
+	/** {@link System#nanoTime()} of the last count. */
+	private volatile long countedAt;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Value("${employee.paging.approximate-count.max-age:PT1M}")
+	private Duration maxAge = Duration.ofMinutes(1);
+
+	void setMaxAge(Duration maxAge) {
+		this.maxAge = maxAge;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		// Updates, including bulk ones, leave the number of rows as it is
+		if (event.getType() == EmployeeChangedEvent.Type.CREATED) {
+			total.updateAndGet(current -> current == UNKNOWN ? UNKNOWN : current + 1);
+		} else if (event.getType() == EmployeeChangedEvent.Type.DELETED) {
+			total.updateAndGet(current -> current == UNKNOWN ? UNKNOWN : Math.max(0, current - 1));
+		}
+	}
+
+	/** Number of employees, at most {@code max-age} older than the table plus this instance's writes. */
+	public long getApproximateCount() {
+		long current = total.get();
+		if (current != UNKNOWN && System.nanoTime() - countedAt <= maxAge.toNanos()) {
+			return current;
+		}
+		if (!counting.compareAndSet(false, true)) {
+			// Someone else is counting; only the very first read has nothing to return meanwhile
+			return current != UNKNOWN ? current : employeeRepository.count();
+		}
+		try {
+			long start = System.nanoTime();
+			long counted = employeeRepository.count();
+			total.set(counted);
+			countedAt = System.nanoTime();
+			logger.debug("Counted {} employees in {} ms (previous estimate {})", counted,
+					(countedAt - start) / 1_000_000, current);
+			return counted;
+		} finally {
+			counting.set(false);
+		}
+	}
+}
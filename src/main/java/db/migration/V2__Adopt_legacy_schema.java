@@ -0,0 +1,82 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.emp.mgmt.entity.Employee;
+import com.emp.mgmt.repository.EmployeeIdSequence;
+
+/**
+ * Adopts a table created by {@code spring.jpa.hibernate.ddl-auto=update}
+ * before the migrations existed. Such a database is baselined at version 0,
+ * so V1 has run on it but skipped the table it already had. That table took
+ * its ids from an identity column, has no version column, and its email
+ * constraint has a generated {@code uk<hash>} name. Each step checks the
+ * catalog first and does nothing on a table that V1 created.
+ * <p>
+ * A Java migration rather than SQL, so the catalog checks run unchanged on
+ * PostgreSQL and on the H2 database the tests migrate.
+ */
+public class V2__Adopt_legacy_schema extends BaseJavaMigration {
+
+	private static final String COLUMN_QUERY = """
+			select is_identity, column_default from information_schema.columns
+			where upper(table_schema) = upper(?) and upper(table_name) = 'EMPLOYEES' and upper(column_name) = upper(?)""";
+
+	@Override
+	public void migrate(Context context) throws SQLException {
+		Connection connection = context.getConnection();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+		String schema = connection.getSchema();
+
+		// Inserts now always supply the id, drawn from employees_seq
+		Map<String, Object> id = jdbcTemplate.queryForMap(COLUMN_QUERY, schema, "id");
+		if ("YES".equalsIgnoreCase((String) id.get("is_identity"))) {
+			jdbcTemplate.execute("alter table employees alter column id drop identity");
+		} else if (id.get("column_default") != null) {
+			jdbcTemplate.execute("alter table employees alter column id drop default");
+		}
+		EmployeeIdSequence.advancePastExistingIds(jdbcTemplate);
+
+		// Existing rows start at version 0, like the entity's @ColumnDefault
+		if (jdbcTemplate.queryForList(COLUMN_QUERY, schema, "version").isEmpty()) {
+			jdbcTemplate.execute("alter table employees add column version bigint default 0 not null");
+		}
+
+		// Duplicate emails are recognized by the constraint name
+		List<String> emailConstraints = jdbcTemplate.queryForList("""
+				select tc.constraint_name from information_schema.table_constraints tc
+				join information_schema.key_column_usage kcu
+					on kcu.constraint_schema = tc.constraint_schema and kcu.constraint_name = tc.constraint_name
+				where tc.constraint_type = 'UNIQUE' and upper(tc.table_schema) = upper(?)
+					and upper(tc.table_name) = 'EMPLOYEES'
+				group by tc.constraint_name
+				having count(*) = 1 and upper(max(kcu.column_name)) = 'EMAIL'""", String.class, schema);
+		boolean named = emailConstraints.stream().anyMatch(Employee.EMAIL_UNIQUE_CONSTRAINT::equalsIgnoreCase);
+		for (String constraint : emailConstraints) {
+			if (constraint.equalsIgnoreCase(Employee.EMAIL_UNIQUE_CONSTRAINT)) {
+				continue;
+			}
+			if (named) {
+				// ddl-auto=update added the named one next to it
+				jdbcTemplate.execute("alter table employees drop constraint \"" + constraint + "\"");
+			} else {
+				jdbcTemplate.execute("alter table employees rename constraint \"" + constraint + "\" to "
+						+ Employee.EMAIL_UNIQUE_CONSTRAINT);
+				named = true;
+			}
+		}
+		if (!named) {
+			jdbcTemplate.execute(
+					"alter table employees add constraint " + Employee.EMAIL_UNIQUE_CONSTRAINT + " unique (email)");
+		}
+	}
+
+}
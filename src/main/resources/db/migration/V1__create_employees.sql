@@ -0,0 +1,23 @@
+-- Schema of the employees table.
+-- A database created earlier by spring.jpa.hibernate.ddl-auto=update is baselined at version 0
+-- (spring.flyway.baseline-on-migrate), so this still runs on it: objects it already has are skipped
+-- here, and V2 brings the ones that differ (id generation, version column, email constraint) in line.
+
+CREATE SEQUENCE IF NOT EXISTS employees_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS employees (
+	id BIGINT NOT NULL,
+	name VARCHAR(255),
+	email VARCHAR(255),
+	department VARCHAR(255),
+	salary DOUBLE PRECISION,
+	joining_date DATE,
+	version BIGINT DEFAULT 0 NOT NULL,
+	CONSTRAINT employees_pkey PRIMARY KEY (id),
+	CONSTRAINT uk_employees_email UNIQUE (email)
+);
+
+-- Leading department column also serves department-only filters
+CREATE INDEX IF NOT EXISTS idx_employees_department_salary ON employees (department, salary);
+CREATE INDEX IF NOT EXISTS idx_employees_salary ON employees (salary);
+CREATE INDEX IF NOT EXISTS idx_employees_joining_date ON employees (joining_date);
@@ -0,0 +1,114 @@
+package com.emp.mgmt;
+
+import com.emp.mgmt.entity.Employee;
+import com.emp.mgmt.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts that endpoint, connection pool, Hibernate and cache meters are
+ * recorded and exported in Prometheus format.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.log_slow_query=1")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ExtendWith(OutputCaptureExtension.class)
+public class MetricsTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	public void testHttpServerRequests_RecordedPerEndpointWithPercentiles() throws Exception {
+		mockMvc.perform(get("/api/employees/1")).andExpect(status().isOk());
+		mockMvc.perform(get("/api/employees/999999")).andExpect(status().isNotFound());
+
+		Timer found = meterRegistry.get("http.server.requests").tag("uri", "/api/employees/{id}")
+				.tag("status", "200").timer();
+		assertTrue(found.count() >= 1);
+		assertTrue(meterRegistry.get("http.server.requests").tag("uri", "/api/employees/{id}").tag("status", "404")
+				.timer().count() >= 1);
+		assertEquals(3, found.takeSnapshot().percentileValues().length);
+	}
+
+	@Test
+	public void testHikariAndHibernateMeters_Recorded() throws Exception {
+		double loadsBefore = meterRegistry.get("hibernate.entities.loads").functionCounter().count();
+
+		mockMvc.perform(get("/api/employees")).andExpect(status().isOk());
+
+		assertTrue(meterRegistry.get("hibernate.entities.loads").functionCounter().count() > loadsBefore);
+		assertTrue(meterRegistry.get("hibernate.statements").tag("status", "prepared").functionCounter()
+				.count() > 0);
+		assertTrue(meterRegistry.get("hikaricp.connections.acquire").timer().count() > 0);
+		assertTrue(meterRegistry.get("hikaricp.connections.usage").timer().count() > 0);
+		assertNotNull(meterRegistry.get("hikaricp.connections.pending").gauge());
+		assertNotNull(meterRegistry.get("hikaricp.connections.active").gauge());
+	}
+
+	@Test
+	public void testCacheHits_Recorded() throws Exception {
+		Employee employee = new Employee();
+		employee.setName("Cache Metrics");
+		employee.setEmail("cache.metrics@example.com");
+		Long id = employeeRepository.save(employee).getId();
+		mockMvc.perform(get("/api/employees/" + id)).andExpect(status().isOk());
+		double hitsBefore = meterRegistry.get("cache.gets").tag("cache", "employees").tag("result", "hit")
+				.functionCounter().count();
+
+		mockMvc.perform(get("/api/employees/" + id)).andExpect(status().isOk());
+
+		assertEquals(hitsBefore + 1, meterRegistry.get("cache.gets").tag("cache", "employees")
+				.tag("result", "hit").functionCounter().count());
+	}
+
+	@Test
+	public void testSlowQuery_Logged(CapturedOutput output) {
+		transactionTemplate.executeWithoutResult(status -> entityManager
+				.createNativeQuery("select sum(x) from system_range(1, 5000000)").getSingleResult());
+
+		assertTrue(output.getAll().contains("Slow query took"), "expected a slow query log entry");
+	}
+
+	@Test
+	public void testPrometheusEndpoint_ExportsMeters() throws Exception {
+		mockMvc.perform(get("/api/employees/1")).andExpect(status().isOk());
+
+		String scrape = mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isOk()).andReturn()
+				.getResponse().getContentAsString();
+
+		assertTrue(scrape.contains("http_server_requests_seconds_bucket"));
+		assertTrue(scrape.contains("uri=\"/api/employees/{id}\""));
+		assertTrue(scrape.contains("hikaricp_connections_pending"));
+		assertTrue(scrape.contains("hibernate_statements_total"));
+		assertTrue(scrape.contains("cache_gets_total"));
+		assertTrue(scrape.contains("application=\"emp-mgmt-system\""));
+	}
+}
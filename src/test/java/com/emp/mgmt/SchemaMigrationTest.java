@@ -0,0 +1,76 @@
+package com.emp.mgmt;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.service.EmployeeService;
+import com.emp.mgmt.entity.Employee;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the {@code prod} profile on an empty database: the Flyway migrations
+ * create the schema and Hibernate's {@code validate} fails the context if the
+ * entities no longer match it. Also migrates a table as the old
+ * {@code ddl-auto=update} code created it, with identity ids and a generated
+ * email constraint name.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:MigratedEmployeeDB;DB_CLOSE_DELAY=-1",
+		"spring.sql.init.mode=never" })
+@ActiveProfiles("prod")
+public class SchemaMigrationTest {
+
+	@Autowired
+	private Flyway flyway;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Test
+	public void testMigrationsApplied_SchemaMatchesEntities() {
+		assertEquals("2", flyway.info().current().getVersion().getVersion());
+		assertEquals(0, flyway.info().pending().length);
+
+		EmployeeDTO employee = new EmployeeDTO();
+		employee.setName("Migrated Schema");
+		employee.setEmail("migrated@example.com");
+		EmployeeDTO created = employeeService.addEmployee(employee);
+
+		assertEquals(0L, employeeService.getEmployeeVersion(created.getId()));
+	}
+
+	@Test
+	public void testMigrationsApplied_LegacySchemaAdopted() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:LegacyEmployeeDB;DB_CLOSE_DELAY=-1",
+				"sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table employees (id bigint generated by default as identity, name varchar(255), "
+				+ "email varchar(255), department varchar(255), salary float(53), joining_date date, "
+				+ "primary key (id), constraint uk6vq5b3lg0xsnypk1kq4u8hwkg unique (email))");
+		jdbcTemplate.update("insert into employees (name, email) values ('Legacy One', 'one@example.com')");
+		jdbcTemplate.update("insert into employees (name, email) values ('Legacy Two', 'two@example.com')");
+
+		// As configured in application-prod.properties
+		Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).baselineVersion("0").load().migrate();
+
+		// The next block drawn from the sequence starts after the existing ids
+		long next = jdbcTemplate.queryForObject("select nextval('employees_seq')", Long.class);
+		assertTrue(next > 2);
+		assertEquals(0L, jdbcTemplate.queryForObject("select version from employees where id = 1", Long.class));
+		assertEquals(List.of(Employee.EMAIL_UNIQUE_CONSTRAINT), jdbcTemplate.queryForList(
+				"select lower(constraint_name) from information_schema.table_constraints "
+						+ "where upper(table_name) = 'EMPLOYEES' and constraint_type = 'UNIQUE'", String.class));
+		assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate
+				.update("insert into employees (id, name, email) values (?, 'Copy', 'one@example.com')", next));
+		assertThrows(DataIntegrityViolationException.class,
+				() -> jdbcTemplate.update("insert into employees (name, email) values ('No Id', 'none@example.com')"));
+	}
+}
@@ -0,0 +1,173 @@
+package com.emp.mgmt.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private AdmissionControlFilter filter;
+
+	@BeforeEach
+	public void setUp() {
+		filter = new AdmissionControlFilter();
+		filter.setObjectMapper(new ObjectMapper());
+		filter.setRequestsPerSecond(1);
+		filter.setBurst(2);
+		filter.setMaxConcurrentReads(1);
+		filter.setMaxConcurrentWrites(1);
+		filter.setPoolSampleInterval(Duration.ZERO);
+		filter.bindTo(meterRegistry);
+	}
+
+	@Test
+	public void testRateLimit_RejectsBurstOverflowPerClient() throws Exception {
+		assertEquals(200, perform(request("GET", "10.0.0.1")).getStatus());
+		assertEquals(200, perform(request("GET", "10.0.0.1")).getStatus());
+
+		MockHttpServletResponse limited = perform(request("GET", "10.0.0.1"));
+		assertEquals(429, limited.getStatus());
+		assertEquals("1", limited.getHeader("Retry-After"));
+		assertTrue(limited.getContentAsString().contains("Rate limit exceeded"));
+		// Another client has its own bucket
+		assertEquals(200, perform(request("GET", "10.0.0.2")).getStatus());
+		assertEquals(1, meterRegistry.get(AdmissionControlFilter.REJECTED_METER).tag("reason", "rate_limited")
+				.counter().count());
+	}
+
+	@Test
+	public void testRateLimit_KeyedByClientIdHeaderWhenConfigured() throws Exception {
+		filter.setClientIdHeader("X-Client-Id");
+		filter.setBurst(1);
+
+		MockHttpServletRequest first = request("GET", "10.0.0.1");
+		first.addHeader("X-Client-Id", "reporting");
+		assertEquals(200, perform(first).getStatus());
+		MockHttpServletRequest sameAddress = request("GET", "10.0.0.1");
+		sameAddress.addHeader("X-Client-Id", "billing");
+		assertEquals(200, perform(sameAddress).getStatus());
+		MockHttpServletRequest sameClient = request("GET", "10.0.0.9");
+		sameClient.addHeader("X-Client-Id", "reporting");
+		assertEquals(429, perform(sameClient).getStatus());
+	}
+
+	@Test
+	public void testBulkhead_FullWritesDoNotBlockReads() throws Exception {
+		filter.setRequestsPerSecond(0);
+		CountDownLatch inChain = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		MockFilterChain blockingChain = new MockFilterChain(new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest req, HttpServletResponse resp) {
+				inChain.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		CompletableFuture<Void> slowWrite = CompletableFuture.runAsync(() -> {
+			try {
+				filter.doFilter(request("PUT", "10.0.0.1"), new MockHttpServletResponse(), blockingChain);
+			} catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		assertTrue(inChain.await(5, TimeUnit.SECONDS));
+
+		MockHttpServletResponse rejected = perform(request("POST", "10.0.0.2"));
+		assertEquals(503, rejected.getStatus());
+		assertEquals("1", rejected.getHeader("Retry-After"));
+		assertEquals(200, perform(request("GET", "10.0.0.3")).getStatus());
+		assertEquals(1.0, meterRegistry.get("employee.admission.in.flight").tag("type", "write").gauge().value());
+
+		release.countDown();
+		slowWrite.get(5, TimeUnit.SECONDS);
+		assertEquals(200, perform(request("POST", "10.0.0.2")).getStatus());
+		assertEquals(0.0, meterRegistry.get("employee.admission.in.flight").tag("type", "write").gauge().value());
+	}
+
+	@Test
+	public void testAsyncRequests_EventStreamReleasesItsPermitOnceOpen() throws Exception {
+		filter.setRequestsPerSecond(0);
+		MockHttpServletRequest stream = request("GET", "10.0.0.1");
+		stream.setAsyncSupported(true);
+		filter.doFilter(stream, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest req, HttpServletResponse resp) {
+				req.startAsync();
+			}
+		}));
+		assertEquals(1.0, meterRegistry.get("employee.admission.in.flight").tag("type", "read").gauge().value());
+		stream.getAsyncContext().complete();
+		assertEquals(0.0, meterRegistry.get("employee.admission.in.flight").tag("type", "read").gauge().value());
+
+		MockHttpServletRequest events = request("GET", "10.0.0.1");
+		events.setAsyncSupported(true);
+		filter.doFilter(events, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest req, HttpServletResponse resp) {
+				req.startAsync();
+				resp.setContentType("text/event-stream");
+			}
+		}));
+		assertEquals(0.0, meterRegistry.get("employee.admission.in.flight").tag("type", "read").gauge().value());
+	}
+
+	@Test
+	public void testPoolSaturated_ShedsUntilPendingDrains() throws Exception {
+		filter.setRequestsPerSecond(0);
+		filter.setMaxPendingConnections(2);
+		AtomicInteger pending = new AtomicInteger(3);
+		meterRegistry.gauge(ConnectionPoolPressure.PENDING_METER, pending);
+
+		MockHttpServletResponse shed = perform(request("GET", "10.0.0.1"));
+		assertEquals(503, shed.getStatus());
+		assertTrue(shed.getContentAsString().contains("overloaded"));
+		assertEquals(1.0, meterRegistry.get("employee.admission.overloaded").gauge().value());
+
+		pending.set(1);
+		assertEquals(200, perform(request("GET", "10.0.0.1")).getStatus());
+		assertEquals(1, meterRegistry.get(AdmissionControlFilter.REJECTED_METER).tag("reason", "overloaded")
+				.counter().count());
+	}
+
+	@Test
+	public void testNonApiPaths_NotFiltered() throws Exception {
+		filter.setBurst(1);
+		for (int i = 0; i < 3; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+			assertEquals(200, perform(request).getStatus());
+		}
+	}
+
+	private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+
+	private static MockHttpServletRequest request(String method, String remoteAddress) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/employees/1");
+		request.setRemoteAddr(remoteAddress);
+		return request;
+	}
+}
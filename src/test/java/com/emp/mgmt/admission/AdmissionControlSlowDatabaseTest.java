@@ -0,0 +1,153 @@
+package com.emp.mgmt.admission;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Simulates a slow database: every lookup holds one of two pooled connections
+ * for {@link #QUERY_TIME}. The same closed-loop load runs without and with
+ * admission control; with it, requests beyond what the pool can serve are
+ * turned away early and the p99 of admitted requests stays near the query
+ * time instead of growing with the queue.
+ */
+@SpringBootTest(properties = { "spring.datasource.hikari.maximum-pool-size=2",
+		"spring.datasource.hikari.minimum-idle=2",
+		"employee.admission.rate-limit.requests-per-second=0",
+		"employee.admission.bulkhead.max-concurrent-reads=4",
+		"employee.admission.pool.max-pending=2",
+		"employee.admission.pool.max-acquire-wait=PT0.2S",
+		"employee.admission.pool.sample-interval=PT0.1S",
+		"logging.level.com.emp.mgmt=WARN" })
+@AutoConfigureMockMvc
+public class AdmissionControlSlowDatabaseTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdmissionControlSlowDatabaseTest.class);
+
+	private static final Duration QUERY_TIME = Duration.ofMillis(50);
+
+	private static final int CLIENTS = 16;
+
+	private static final Duration RUN_TIME = Duration.ofSeconds(3);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private AdmissionControlFilter admissionControlFilter;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@MockitoBean
+	private EmployeeService employeeService;
+
+	@Test
+	public void testSlowDatabase_AdmittedP99StaysBounded() throws Exception {
+		when(employeeService.getEmployeeById(anyLong())).thenAnswer(invocation -> {
+			try (Connection connection = dataSource.getConnection()) {
+				Thread.sleep(QUERY_TIME.toMillis());
+			}
+			EmployeeDTO employee = new EmployeeDTO();
+			employee.setId(invocation.getArgument(0));
+			employee.setVersion(0L);
+			return employee;
+		});
+
+		admissionControlFilter.setEnabled(false);
+		Result unprotected = run();
+		admissionControlFilter.setEnabled(true);
+		Result protectedRun = run();
+		logger.warn("Without admission control: p99 {} ms, {} ok, {} rejected", unprotected.p99Millis(),
+				unprotected.ok, unprotected.rejected);
+		logger.warn("With admission control:    p99 {} ms, {} ok, {} rejected", protectedRun.p99Millis(),
+				protectedRun.ok, protectedRun.rejected);
+
+		// Unbounded queueing: every client waits for roughly CLIENTS / pool size queries
+		assertTrue(unprotected.p99Millis() > 4 * QUERY_TIME.toMillis(), "p99 " + unprotected.p99Millis());
+		assertTrue(protectedRun.rejected.get() > 0);
+		assertTrue(protectedRun.p99Millis() < 6 * QUERY_TIME.toMillis(), "p99 " + protectedRun.p99Millis());
+		assertTrue(protectedRun.p99Millis() < unprotected.p99Millis() / 2);
+		assertTrue(meterRegistry.get(AdmissionControlFilter.REJECTED_METER).counters().stream()
+				.mapToDouble(counter -> counter.count()).sum() > 0);
+	}
+
+	/** Closed loop: each client sends its next request once the previous one is answered. */
+	private Result run() throws Exception {
+		Result result = new Result();
+		long deadline = System.nanoTime() + RUN_TIME.toNanos();
+		ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int client = 0; client < CLIENTS; client++) {
+				futures.add(clients.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						long start = System.nanoTime();
+						int status = mockMvc.perform(get("/api/employees/1")).andReturn().getResponse().getStatus();
+						long elapsed = System.nanoTime() - start;
+						if (status == 200) {
+							result.ok.incrementAndGet();
+							result.latencies.add(elapsed);
+						} else {
+							result.rejected.incrementAndGet();
+							// A client honoring Retry-After would wait longer; this one keeps the pressure on
+							Thread.sleep(QUERY_TIME.toMillis());
+						}
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(RUN_TIME.toSeconds() + 30, TimeUnit.SECONDS);
+			}
+		} finally {
+			clients.shutdownNow();
+		}
+		return result;
+	}
+
+	private static final class Result {
+
+		private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+		private final AtomicInteger ok = new AtomicInteger();
+
+		private final AtomicInteger rejected = new AtomicInteger();
+
+		long p99Millis() {
+			List<Long> sorted = latencies.stream().sorted().toList();
+			if (sorted.isEmpty()) {
+				return 0;
+			}
+			return TimeUnit.NANOSECONDS.toMillis(sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1));
+		}
+	}
+}
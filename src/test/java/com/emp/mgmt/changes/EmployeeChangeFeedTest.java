@@ -0,0 +1,218 @@
+package com.emp.mgmt.changes;
+
+import com.emp.mgmt.config.DedicatedTaskExecutors;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+import com.emp.mgmt.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Subscribes to {@code /api/employees/changes} and asserts that committed
+ * writes arrive as server-sent events, that {@code Last-Event-ID} replays
+ * what was missed, that an unknown position is answered with a resync and
+ * that idle subscribers on the real server do not hold threads, and that
+ * a subscriber that stops reading does not hold up the others.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		// Every subscription comes from the same address
+		properties = "employee.admission.rate-limit.requests-per-second=0")
+@AutoConfigureMockMvc
+public class EmployeeChangeFeedTest {
+
+	private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)\\nevent:created\\n");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeChangeFeed employeeChangeFeed;
+
+	@LocalServerPort
+	private int port;
+
+	@Test
+	public void testCommittedChanges_PushedAndReplayedFromLastEventId() throws Exception {
+		MvcResult subscription = subscribe(null);
+
+		EmployeeDTO created = employeeService.addEmployee(employee("feed.created@example.com"));
+		String content = awaitContent(subscription.getResponse(), "feed.created@example.com");
+		Matcher eventId = EVENT_ID.matcher(content);
+		assertTrue(eventId.find(), content);
+		assertTrue(content.contains("\"type\":\"CREATED\""), content);
+		assertTrue(content.contains("\"id\":" + created.getId()), content);
+
+		// Missed while disconnected: replayed on resume, in commit order
+		created.setName("Feed Renamed");
+		employeeService.updateEmployee(created.getId(), created);
+		employeeService.deleteEmployee(created.getId());
+		String replay = awaitContent(subscribe(eventId.group(1)).getResponse(), "event:deleted");
+		assertTrue(replay.indexOf("event:updated") < replay.indexOf("event:deleted"), replay);
+		assertTrue(replay.contains("Feed Renamed"), replay);
+		assertFalse(replay.contains("event:created"), replay);
+	}
+
+	@Test
+	public void testUnknownLastEventId_ToldToResync() throws Exception {
+		MvcResult subscription = subscribe("previous-process-42");
+
+		// Awaits the data line: the event is written line by line, so its name can be read before the rest
+		String content = awaitContent(subscription.getResponse(), "\"sequence\":");
+		assertTrue(content.contains("event:resync"), content);
+		// The stream is closed after the resync, so EventSource reconnects from its id
+		assertNull(subscription.getAsyncResult(5000));
+	}
+
+	@Test
+	public void testIdleSubscribers_DoNotHoldThreads() throws Exception {
+		int subscribers = 1000;
+		int baseline = employeeChangeFeed.getSubscriberCount();
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		threads.resetPeakThreadCount();
+		int threadsBefore = threads.getThreadCount();
+
+		HttpClient client = HttpClient.newHttpClient();
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employees/changes"))
+				.header("Accept", MediaType.TEXT_EVENT_STREAM_VALUE).build();
+		List<CompletableFuture<HttpResponse<InputStream>>> responses = new ArrayList<>();
+		try {
+			// In waves below the read bulkhead: an open subscription no longer counts against it
+			for (int i = 0; i < subscribers; i++) {
+				responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream()));
+				if (responses.size() % 50 == 0) {
+					for (CompletableFuture<HttpResponse<InputStream>> response : responses.subList(i - 49, i + 1)) {
+						assertEquals(200, response.get(30, TimeUnit.SECONDS).statusCode());
+					}
+				}
+			}
+			assertEquals(baseline + subscribers, employeeChangeFeed.getSubscriberCount());
+			int peakGrowth = threads.getPeakThreadCount() - threadsBefore;
+			assertTrue(peakGrowth < subscribers / 4, "Threads grew by " + peakGrowth);
+		} finally {
+			for (CompletableFuture<HttpResponse<InputStream>> response : responses) {
+				response.thenAccept(open -> {
+					try {
+						open.body().close();
+					} catch (IOException ex) {
+						// Already closed
+					}
+				});
+			}
+		}
+
+		// Disconnected clients are only noticed when a write fails; heartbeats provide the writes
+		long deadline = System.currentTimeMillis() + 30_000;
+		while (employeeChangeFeed.getSubscriberCount() > baseline && System.currentTimeMillis() < deadline) {
+			employeeChangeFeed.heartbeat();
+			Thread.sleep(200);
+		}
+		assertEquals(baseline, employeeChangeFeed.getSubscriberCount());
+	}
+
+	@Test
+	public void testStalledSubscriber_DoesNotBlockOthers() throws Exception {
+		EmployeeChangeFeed feed = new EmployeeChangeFeed(new DedicatedTaskExecutors(new MockEnvironment(),
+				new ThreadPoolTaskExecutorBuilder(), new SimpleAsyncTaskExecutorBuilder()), 4);
+		CountDownLatch release = new CountDownLatch(1);
+		List<SseEmitter.SseEventBuilder> received = new CopyOnWriteArrayList<>();
+		try {
+			feed.register(new SseEmitter() {
+				@Override
+				public void send(SseEventBuilder builder) throws IOException {
+					try {
+						// A client that stopped reading: the write blocks until the container times it out
+						release.await();
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+					throw new IOException("Broken pipe");
+				}
+			}, 0);
+			feed.register(new SseEmitter() {
+				@Override
+				public void send(SseEventBuilder builder) {
+					received.add(builder);
+				}
+			}, 0);
+
+			for (long id = 1; id <= 3; id++) {
+				feed.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.Type.DELETED, id, null));
+			}
+			long deadline = System.currentTimeMillis() + 5000;
+			while (received.size() < 3 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(20);
+			}
+			assertEquals(3, received.size());
+
+			// The heartbeat drops the subscriber whose send is blocked for longer than the send timeout
+			feed.setSendTimeout(Duration.ZERO);
+			feed.heartbeat();
+			assertEquals(1, feed.getSubscriberCount());
+		} finally {
+			release.countDown();
+			feed.close();
+		}
+	}
+
+	private MvcResult subscribe(String lastEventId) throws Exception {
+		var builder = get("/api/employees/changes").accept(MediaType.TEXT_EVENT_STREAM);
+		if (lastEventId != null) {
+			builder.header("Last-Event-ID", lastEventId);
+		}
+		return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+	}
+
+	private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		String content = response.getContentAsString();
+		while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+			content = response.getContentAsString();
+		}
+		assertTrue(content.contains(expected), content);
+		return content;
+	}
+
+	private static EmployeeDTO employee(String email) {
+		EmployeeDTO employee = new EmployeeDTO();
+		employee.setName("Feed Employee");
+		employee.setEmail(email);
+		return employee;
+	}
+}
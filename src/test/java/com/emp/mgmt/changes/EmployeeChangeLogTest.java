@@ -0,0 +1,60 @@
+package com.emp.mgmt.changes;
+
+import com.emp.mgmt.dto.EmployeeChangeDTO;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeChangeLogTest {
+
+	private final EmployeeChangeLog changeLog = new EmployeeChangeLog(3);
+
+	@Test
+	public void testSince_ReturnsLaterChangesInOrder() {
+		append(EmployeeChangedEvent.Type.CREATED, 7L);
+		append(EmployeeChangedEvent.Type.UPDATED, 7L);
+		append(EmployeeChangedEvent.Type.DELETED, 7L);
+
+		List<EmployeeChangeDTO> changes = changeLog.since(1, 10);
+
+		assertEquals(List.of(2L, 3L), changes.stream().map(EmployeeChangeDTO::getSequence).toList());
+		assertEquals(EmployeeChangedEvent.Type.DELETED, changes.get(1).getType());
+		assertNull(changes.get(1).getEmployee());
+		assertEquals(List.of(2L), changeLog.since(1, 1).stream().map(EmployeeChangeDTO::getSequence).toList());
+		assertTrue(changeLog.since(3, 10).isEmpty());
+	}
+
+	@Test
+	public void testSince_EmptyLog() {
+		assertTrue(changeLog.since(0, 10).isEmpty());
+		assertNull(changeLog.since(1, 10));
+	}
+
+	@Test
+	public void testSince_OverwrittenChangesRequireResync() {
+		for (long id = 1; id <= 5; id++) {
+			append(EmployeeChangedEvent.Type.CREATED, id);
+		}
+
+		// Entries 3..5 are kept, so a reader at 2 is exactly caught up with the oldest
+		assertEquals(List.of(3L, 4L, 5L),
+				changeLog.since(2, 10).stream().map(EmployeeChangeDTO::getSequence).toList());
+		assertNull(changeLog.since(1, 10));
+		assertNull(changeLog.since(-1, 10));
+		assertNull(changeLog.since(6, 10));
+		assertEquals(5, changeLog.getLastSequence());
+	}
+
+	private void append(EmployeeChangedEvent.Type type, Long id) {
+		EmployeeDTO employee = null;
+		if (type != EmployeeChangedEvent.Type.DELETED) {
+			employee = new EmployeeDTO();
+			employee.setId(id);
+		}
+		changeLog.append(new EmployeeChangedEvent(type, id, employee));
+	}
+}
@@ -0,0 +1,287 @@
+package com.emp.mgmt.controller;
+
+import com.emp.mgmt.dto.DepartmentStatsDTO;
+import com.emp.mgmt.entity.Employee;
+import com.emp.mgmt.repository.EmployeeRepository;
+import com.emp.mgmt.repository.EmployeeStatsView;
+import com.emp.mgmt.stats.DepartmentStatsAggregator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Asserts that each write endpoint, and the batch read, costs exactly one SQL
+ * statement (PATCH two: it reads the row back), and that paging without an
+ * exact total issues no count query, using Hibernate statistics against the
+ * embedded database.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class EmployeeControllerStatementCountTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private DepartmentStatsAggregator statsAggregator;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	public void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	public void testAddEmployee_SingleStatement() throws Exception {
+		// Warm the pooled sequence so the measured request does not fetch a new block
+		employee("warmup@example.com");
+		statistics.clear();
+
+		mockMvc.perform(post("/api/employees").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Statement Count\",\"email\":\"add.count@example.com\"}"))
+				.andExpect(status().isCreated());
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	public void testAddEmployee_DuplicateEmail_SingleStatement() throws Exception {
+		employee("duplicate.count@example.com");
+		statistics.clear();
+
+		mockMvc.perform(post("/api/employees").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Statement Count\",\"email\":\"duplicate.count@example.com\"}"))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string("Email already exists: duplicate.count@example.com"));
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	public void testUpdateEmployee_UpdateAndVersionRead() throws Exception {
+		Employee employee = employee("update.count@example.com");
+		statistics.clear();
+
+		mockMvc.perform(put("/api/employees/" + employee.getId()).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Updated Name\",\"email\":\"update.count@example.com\"}"))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.name").value("Updated Name"))
+				.andExpect(header().string("ETag", "\"1\""));
+
+		// The update, then its new version for the ETag; still no load of the row
+		assertEquals(2, statistics.getPrepareStatementCount());
+		assertEquals("Updated Name", employeeRepository.findById(employee.getId()).orElseThrow().getName());
+	}
+
+	@Test
+	public void testUpdateEmployee_NotFound_SingleStatement() throws Exception {
+		statistics.clear();
+
+		mockMvc.perform(put("/api/employees/999999").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Updated Name\"}")).andExpect(status().isNotFound());
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	public void testUpdateEmployee_IfMatch_SingleStatement() throws Exception {
+		Employee employee = employee("if-match.count@example.com");
+		statistics.clear();
+
+		mockMvc.perform(put("/api/employees/" + employee.getId()).header("If-Match", "\"0\"")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Updated Name\",\"email\":\"if-match.count@example.com\"}"))
+				.andExpect(status().isOk()).andExpect(header().string("ETag", "\"1\""));
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(1L, employeeRepository.findById(employee.getId()).orElseThrow().getVersion());
+	}
+
+	@Test
+	public void testUpdateEmployee_StaleIfMatch_PreconditionFailed() throws Exception {
+		Employee employee = employee("stale.count@example.com");
+
+		mockMvc.perform(put("/api/employees/" + employee.getId()).header("If-Match", "\"7\"")
+				.contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Lost Update\"}"))
+				.andExpect(status().isPreconditionFailed()).andExpect(header().string("ETag", "\"0\""));
+
+		assertEquals("Statement Count", employeeRepository.findById(employee.getId()).orElseThrow().getName());
+	}
+
+	@Test
+	public void testGetEmployeeById_IfNoneMatch_VersionOnly() throws Exception {
+		Employee employee = employee("if-none-match.count@example.com");
+		statistics.clear();
+
+		mockMvc.perform(get("/api/employees/" + employee.getId()).header("If-None-Match", "\"0\""))
+				.andExpect(status().isNotModified());
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+
+	@Test
+	public void testGetEmployeesByIds_SingleStatement() throws Exception {
+		Employee first = employee("batch.one.count@example.com");
+		Employee second = employee("batch.two.count@example.com");
+		Employee third = employee("batch.three.count@example.com");
+		statistics.clear();
+
+		mockMvc.perform(get("/api/employees/batch")
+				.param("ids", third.getId() + "," + first.getId() + ",999999," + second.getId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(3))
+				.andExpect(jsonPath("$[0].email").value("batch.three.count@example.com"));
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	public void testPatchEmployee_UpdateThenReadBack() throws Exception {
+		Employee employee = employee("patch.count@example.com");
+		statistics.clear();
+
+		mockMvc.perform(patch("/api/employees/" + employee.getId()).contentType("application/merge-patch+json")
+				.content("{\"department\":\"Patched\",\"salary\":61000}"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"1\""))
+				.andExpect(jsonPath("$.name").value("Statement Count"))
+				.andExpect(jsonPath("$.department").value("Patched"));
+
+		// The UPDATE of the two columns and the read back; nothing is loaded before the update
+		assertEquals(2, statistics.getPrepareStatementCount());
+		assertEquals(1, statistics.getEntityLoadCount());
+		assertEquals(0, statistics.getEntityUpdateCount());
+	}
+
+	@Test
+	public void testPatchEmployee_NullClearsColumn() throws Exception {
+		Employee employee = employee("patch.clear.count@example.com");
+
+		mockMvc.perform(patch("/api/employees/" + employee.getId()).contentType("application/merge-patch+json")
+				.content("{\"department\":null}"))
+				.andExpect(status().isOk());
+
+		Employee patched = employeeRepository.findById(employee.getId()).orElseThrow();
+		assertNull(patched.getDepartment());
+		assertEquals("patch.clear.count@example.com", patched.getEmail());
+	}
+
+	@Test
+	public void testPatchEmployees_SingleSetBasedUpdate() throws Exception {
+		employee("bulk.one.count@example.com", "Bulk Patch", 1000.0);
+		employee("bulk.two.count@example.com", "Bulk Patch", 2000.0);
+		Employee other = employee("bulk.other.count@example.com", "Bulk Other", 1000.0);
+		statistics.clear();
+
+		mockMvc.perform(patch("/api/employees").param("department", "Bulk Patch")
+				.contentType("application/merge-patch+json").content("{\"salaryAdjustmentPercent\":10}"))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.updated").value(2));
+
+		assertEquals(0, statistics.getEntityLoadCount());
+		assertEquals(0, statistics.getEntityUpdateCount());
+		assertEquals(List.of(1100.0, 2200.0), employeeRepository.findStatsByDepartment("Bulk Patch").stream()
+				.map(EmployeeStatsView::getSalary).sorted().toList());
+		assertEquals(1000.0, employeeRepository.findById(other.getId()).orElseThrow().getSalary());
+		// Statistics are reconciled in the background after the commit
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (bulkPatchTotalSalary() != 3300.0 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(3300.0, bulkPatchTotalSalary(), 0.001);
+	}
+
+	private double bulkPatchTotalSalary() {
+		return statsAggregator.getDepartmentStats().stream()
+				.filter(department -> "Bulk Patch".equals(department.getDepartment()))
+				.mapToDouble(DepartmentStatsDTO::getTotalSalary).findFirst().orElse(0);
+	}
+
+	@Test
+	public void testGetAllEmployeesPaged_CountModes() throws Exception {
+		employee("paged.one.count@example.com");
+		employee("paged.two.count@example.com");
+		long total = employeeRepository.count();
+
+		// Exact: the page and its count(*)
+		statistics.clear();
+		mockMvc.perform(get("/api/employees/paged").param("size", "1"))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.totalElements").value(total));
+		assertEquals(2, statistics.getPrepareStatementCount());
+
+		// None: one query for size + 1 rows
+		statistics.clear();
+		mockMvc.perform(get("/api/employees/paged").param("size", "1").param("count", "none"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(1))
+				.andExpect(jsonPath("$.last").value(false));
+		assertEquals(1, statistics.getPrepareStatementCount());
+
+		// Approximate: counted at most once per max-age, then the page alone; the writes in between are applied
+		mockMvc.perform(get("/api/employees/paged").param("size", "1").param("count", "approximate"))
+				.andExpect(status().isOk());
+		mockMvc.perform(post("/api/employees").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Statement Count\",\"email\":\"paged.three.count@example.com\"}"))
+				.andExpect(status().isCreated());
+		statistics.clear();
+		mockMvc.perform(get("/api/employees/paged").param("size", "1").param("count", "approximate"))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.totalElements").value(total + 1));
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	public void testDeleteEmployee_SingleStatement() throws Exception {
+		Employee employee = employee("delete.count@example.com");
+		statistics.clear();
+
+		mockMvc.perform(delete("/api/employees/" + employee.getId())).andExpect(status().isOk());
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertFalse(employeeRepository.existsById(employee.getId()));
+	}
+
+	@Test
+	public void testDeleteEmployee_NotFound_SingleStatement() throws Exception {
+		statistics.clear();
+
+		mockMvc.perform(delete("/api/employees/999999")).andExpect(status().isNotFound());
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	private Employee employee(String email) {
+		return employee(email, null, null);
+	}
+
+	private Employee employee(String email, String department, Double salary) {
+		Employee employee = new Employee();
+		employee.setName("Statement Count");
+		employee.setEmail(email);
+		employee.setDepartment(department);
+		employee.setSalary(salary);
+		return employeeRepository.save(employee);
+	}
+}
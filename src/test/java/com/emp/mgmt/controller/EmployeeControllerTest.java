@@ -1,15 +1,49 @@
 package com.emp.mgmt.controller;
 
+import com.emp.mgmt.changes.EmployeeChangeFeed;
+import com.emp.mgmt.converter.ColumnarHttpMessageConverter;
+import com.emp.mgmt.dto.BulkItemResultDTO;
+import com.emp.mgmt.dto.CsvImportErrorDTO;
+import com.emp.mgmt.dto.CsvImportResultDTO;
+import com.emp.mgmt.dto.EmployeeBulkPatchDTO;
 import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.dto.EmployeePatchDTO;
 import com.emp.mgmt.exception.ResourceNotFoundException;
+import com.emp.mgmt.exception.VersionConflictException;
 import com.emp.mgmt.service.EmployeeService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -23,6 +57,9 @@ public class EmployeeControllerTest {
 	@MockitoBean
 	private EmployeeService employeeService;
 
+	@MockitoBean
+	private EmployeeChangeFeed employeeChangeFeed;
+
 	@Test
 	public void testAddEmployee() throws Exception {
 		EmployeeDTO employeeDTO = new EmployeeDTO();
@@ -45,4 +82,387 @@ public class EmployeeControllerTest {
 
 		mockMvc.perform(get("/api/employees/1")).andExpect(status().isNotFound());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testGetEmployeeById_ReturnsETag() throws Exception {
+		EmployeeDTO employee = new EmployeeDTO();
+		employee.setId(1L);
+		employee.setName("Pratik Chavan");
+		employee.setVersion(3L);
+		when(employeeService.getEmployeeById(1L)).thenReturn(employee);
+
+		mockMvc.perform(get("/api/employees/1")).andExpect(status().isOk()).andExpect(header().string("ETag", "\"3\""))
+				.andExpect(jsonPath("$.version").value(3));
+	}
+
+	@Test
+	public void testGetEmployeeById_NotModified() throws Exception {
+		when(employeeService.getEmployeeVersion(1L)).thenReturn(3L);
+
+		mockMvc.perform(get("/api/employees/1").header("If-None-Match", "\"3\"")).andExpect(status().isNotModified())
+				.andExpect(header().string("ETag", "\"3\"")).andExpect(content().string(""));
+
+		verify(employeeService, never()).getEmployeeById(any());
+	}
+
+	@Test
+	public void testGetEmployeeById_StaleETag() throws Exception {
+		EmployeeDTO employee = new EmployeeDTO();
+		employee.setId(1L);
+		employee.setVersion(4L);
+		when(employeeService.getEmployeeVersion(1L)).thenReturn(4L);
+		when(employeeService.getEmployeeById(1L)).thenReturn(employee);
+
+		mockMvc.perform(get("/api/employees/1").header("If-None-Match", "\"3\"")).andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"4\""));
+	}
+
+	@Test
+	public void testGetAllEmployeesPaged_NotModified() throws Exception {
+		EmployeeDTO employee = new EmployeeDTO();
+		employee.setId(1L);
+		employee.setVersion(0L);
+		when(employeeService.getAllEmployees(any(Pageable.class)))
+				.thenReturn(new PageImpl<>(List.of(employee), PageRequest.of(0, 10), 1));
+
+		String eTag = mockMvc.perform(get("/api/employees/paged")).andExpect(status().isOk())
+				.andReturn().getResponse().getHeader("ETag");
+
+		assertTrue(eTag.startsWith("W/\""));
+		mockMvc.perform(get("/api/employees/paged").header("If-None-Match", eTag))
+				.andExpect(status().isNotModified()).andExpect(content().string(""));
+	}
+
+	@Test
+	public void testGetAllEmployeesPaged_WithoutCount() throws Exception {
+		when(employeeService.getEmployeeSlice(any(Pageable.class)))
+				.thenReturn(new SliceImpl<>(List.of(employee(1L, "Pratik Chavan")), PageRequest.of(0, 1), true));
+
+		mockMvc.perform(get("/api/employees/paged").param("size", "1").param("count", "none"))
+				.andExpect(status().isOk())
+				.andExpect(header().exists("ETag"))
+				.andExpect(jsonPath("$.content[0].name").value("Pratik Chavan"))
+				.andExpect(jsonPath("$.last").value(false))
+				.andExpect(jsonPath("$.totalElements").doesNotExist());
+		verify(employeeService, never()).getAllEmployees(any(Pageable.class));
+	}
+
+	@Test
+	public void testGetAllEmployeesPaged_ApproximateCount() throws Exception {
+		when(employeeService.getAllEmployeesApproximate(any(Pageable.class)))
+				.thenReturn(new PageImpl<>(List.of(employee(1L, "Pratik Chavan")), PageRequest.of(0, 1), 1000));
+
+		mockMvc.perform(get("/api/employees/paged").param("size", "1").param("count", "approximate"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalElements").value(1000));
+	}
+
+	@Test
+	public void testGetAllEmployeesPaged_UnknownCount() throws Exception {
+		mockMvc.perform(get("/api/employees/paged").param("count", "fast"))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string("Unsupported count: fast, allowed: exact, none, approximate"));
+	}
+
+	@Test
+	public void testGetAllEmployeesPaged_ColumnarSlice() throws Exception {
+		when(employeeService.getEmployeeSlice(any(Pageable.class)))
+				.thenReturn(new SliceImpl<>(List.of(employee(1L, "Pratik Chavan")), PageRequest.of(0, 1), true));
+
+		mockMvc.perform(get("/api/employees/paged").param("count", "none")
+				.accept(ColumnarHttpMessageConverter.COLUMNAR_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.page.hasNext").value(true))
+				.andExpect(jsonPath("$.page.totalElements").doesNotExist());
+	}
+
+	@Test
+	public void testUpdateEmployee_IfMatch() throws Exception {
+		EmployeeDTO updated = new EmployeeDTO();
+		updated.setId(1L);
+		updated.setName("Pratik Chavan");
+		updated.setVersion(4L);
+		when(employeeService.updateEmployee(eq(1L), any(EmployeeDTO.class), eq(3L))).thenReturn(updated);
+
+		mockMvc.perform(put("/api/employees/1").header("If-Match", "\"3\"").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Pratik Chavan\"}")).andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"4\""));
+	}
+
+	@Test
+	public void testUpdateEmployee_IfMatchConflict() throws Exception {
+		when(employeeService.updateEmployee(eq(1L), any(EmployeeDTO.class), eq(3L)))
+				.thenThrow(new VersionConflictException(1L, 5L));
+
+		mockMvc.perform(put("/api/employees/1").header("If-Match", "\"3\"").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Pratik Chavan\"}")).andExpect(status().isPreconditionFailed())
+				.andExpect(header().string("ETag", "\"5\""));
+	}
+
+	@Test
+	public void testUpdateEmployee_IfMatchWeakETag() throws Exception {
+		mockMvc.perform(put("/api/employees/1").header("If-Match", "W/\"3\"").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Pratik Chavan\"}")).andExpect(status().isPreconditionFailed());
+
+		verify(employeeService, never()).updateEmployee(any(), any());
+	}
+
+	@Test
+	public void testPatchEmployee_MergePatch() throws Exception {
+		EmployeeDTO patched = employee(1L, "Pratik Chavan");
+		patched.setVersion(4L);
+		when(employeeService.patchEmployee(eq(1L), any(EmployeePatchDTO.class))).thenReturn(patched);
+
+		mockMvc.perform(patch("/api/employees/1").contentType("application/merge-patch+json")
+				.content("{\"name\":\"Pratik Chavan\",\"department\":null}")).andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"4\""));
+
+		ArgumentCaptor<EmployeePatchDTO> patch = ArgumentCaptor.forClass(EmployeePatchDTO.class);
+		verify(employeeService).patchEmployee(eq(1L), patch.capture());
+		assertEquals(Optional.of("Pratik Chavan"), patch.getValue().getName());
+		assertEquals(Optional.empty(), patch.getValue().getDepartment());
+		assertNull(patch.getValue().getSalary());
+	}
+
+	@Test
+	public void testPatchEmployee_NameCannotBeCleared() throws Exception {
+		mockMvc.perform(patch("/api/employees/1").contentType("application/merge-patch+json")
+				.content("{\"name\":null}")).andExpect(status().isBadRequest());
+
+		verify(employeeService, never()).patchEmployee(any(), any());
+	}
+
+	@Test
+	public void testPatchEmployees_ByFilter() throws Exception {
+		when(employeeService.patchEmployees(any(EmployeeFilterDTO.class), any(EmployeeBulkPatchDTO.class)))
+				.thenReturn(3);
+
+		mockMvc.perform(patch("/api/employees").param("department", "Finance")
+				.contentType("application/merge-patch+json").content("{\"salaryAdjustmentPercent\":5}"))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.updated").value(3));
+
+		ArgumentCaptor<EmployeeFilterDTO> filter = ArgumentCaptor.forClass(EmployeeFilterDTO.class);
+		ArgumentCaptor<EmployeeBulkPatchDTO> patch = ArgumentCaptor.forClass(EmployeeBulkPatchDTO.class);
+		verify(employeeService).patchEmployees(filter.capture(), patch.capture());
+		assertEquals("Finance", filter.getValue().getDepartment());
+		assertEquals(5.0, patch.getValue().getSalaryAdjustmentPercent());
+	}
+
+	@Test
+	public void testStreamAllEmployees() throws Exception {
+		EmployeeDTO first = new EmployeeDTO();
+		first.setId(1L);
+		first.setName("Pratik Chavan");
+		EmployeeDTO second = new EmployeeDTO();
+		second.setId(2L);
+		second.setName("Saurabh Patil");
+
+		doAnswer(invocation -> {
+			Consumer<EmployeeDTO> consumer = invocation.getArgument(0);
+			consumer.accept(first);
+			consumer.accept(second);
+			return null;
+		}).when(employeeService).streamAllEmployees(any());
+
+		MvcResult result = mockMvc.perform(get("/api/employees/stream")).andExpect(request().asyncStarted())
+				.andReturn();
+
+		String body = mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_NDJSON)).andReturn().getResponse()
+				.getContentAsString();
+
+		String[] lines = body.split("\n");
+		assertEquals(2, lines.length);
+		assertTrue(lines[0].contains("\"name\":\"Pratik Chavan\""));
+		assertTrue(lines[1].contains("\"name\":\"Saurabh Patil\""));
+	}
+
+	@Test
+	public void testExportEmployees() throws Exception {
+		EmployeeDTO first = new EmployeeDTO();
+		first.setId(1L);
+		first.setName("Pratik Chavan");
+		first.setEmail("pratik@gmail.com");
+		first.setSalary(10000000.0);
+		first.setJoiningDate(LocalDate.of(2023, 1, 15));
+		EmployeeDTO second = new EmployeeDTO();
+		second.setId(2L);
+		second.setName("Patil, Saurabh");
+
+		doAnswer(invocation -> {
+			Consumer<EmployeeDTO> consumer = invocation.getArgument(0);
+			consumer.accept(first);
+			consumer.accept(second);
+			return null;
+		}).when(employeeService).streamAllEmployees(any());
+
+		MvcResult result = mockMvc.perform(get("/api/employees/export")).andExpect(request().asyncStarted())
+				.andReturn();
+
+		String body = mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+				.andExpect(content().contentType("text/csv"))
+				.andExpect(header().string("Content-Disposition", "attachment; filename=\"employees.csv\""))
+				.andReturn().getResponse().getContentAsString();
+
+		assertEquals("id,name,email,department,salary,joiningDate\n"
+				+ "1,Pratik Chavan,pratik@gmail.com,,10000000,2023-01-15\n"
+				+ "2,\"Patil, Saurabh\",,,,\n", body);
+	}
+
+	@Test
+	public void testImportEmployees_PartialSuccess() throws Exception {
+		CsvImportResultDTO report = new CsvImportResultDTO(2, 1, 1, List.of(new CsvImportErrorDTO(3,
+				"pratik@gmail.com", BulkItemResultDTO.Status.DUPLICATE_EMAIL, "Email already exists: pratik@gmail.com")),
+				false);
+		when(employeeService.importEmployees(any())).thenReturn(report);
+
+		mockMvc.perform(post("/api/employees/import").contentType("text/csv")
+				.content("name,email\nPratik Chavan,pratik@gmail.com\nPratik Again,pratik@gmail.com\n"))
+				.andExpect(status().isMultiStatus()).andExpect(jsonPath("$.created").value(1))
+				.andExpect(jsonPath("$.errors[0].line").value(3))
+				.andExpect(jsonPath("$.errors[0].status").value("DUPLICATE_EMAIL"));
+	}
+
+	@Test
+	public void testImportEmployees_MissingHeader() throws Exception {
+		when(employeeService.importEmployees(any()))
+				.thenThrow(new IllegalArgumentException("CSV header is missing required columns: [email]"));
+
+		mockMvc.perform(post("/api/employees/import").contentType("text/csv").content("name\nPratik Chavan\n"))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string("CSV header is missing required columns: [email]"));
+	}
+
+	@Test
+	public void testAddEmployeesBulk_PartialSuccess() throws Exception {
+		when(employeeService.addEmployees(any())).thenReturn(List.of(
+				new BulkItemResultDTO(0, 1L, "pratik@gmail.com", BulkItemResultDTO.Status.CREATED, null),
+				new BulkItemResultDTO(1, null, "pratik@gmail.com", BulkItemResultDTO.Status.DUPLICATE_EMAIL,
+						"Email already exists: pratik@gmail.com")));
+
+		mockMvc.perform(post("/api/employees/bulk").contentType(MediaType.APPLICATION_JSON)
+				.content("[{\"name\":\"Pratik Chavan\",\"email\":\"pratik@gmail.com\"},"
+						+ "{\"name\":\"Pratik Again\",\"email\":\"pratik@gmail.com\"}]"))
+				.andExpect(status().isMultiStatus()).andExpect(jsonPath("$[0].status").value("CREATED"))
+				.andExpect(jsonPath("$[1].status").value("DUPLICATE_EMAIL"));
+	}
+
+	@Test
+	public void testGetAllEmployees_SparseFields() throws Exception {
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("id", 1L);
+		row.put("name", "Pratik Chavan");
+		when(employeeService.getAllEmployees(eq(List.of("id", "name")))).thenReturn(List.of(row));
+
+		mockMvc.perform(get("/api/employees").param("fields", "id, name,id")).andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].name").value("Pratik Chavan"))
+				.andExpect(jsonPath("$[0].email").doesNotExist());
+	}
+
+	@Test
+	public void testGetAllEmployees_DefaultsToJson() throws Exception {
+		when(employeeService.getAllEmployees()).thenReturn(List.of(employee(1L, "Pratik Chavan")));
+
+		mockMvc.perform(get("/api/employees").accept(MediaType.ALL)).andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$[0].name").value("Pratik Chavan"));
+	}
+
+	@Test
+	public void testGetAllEmployees_Cbor() throws Exception {
+		when(employeeService.getAllEmployees()).thenReturn(List.of(employee(1L, "Pratik Chavan")));
+
+		byte[] body = mockMvc.perform(get("/api/employees").accept("application/cbor")).andExpect(status().isOk())
+				.andExpect(content().contentType("application/cbor")).andReturn().getResponse().getContentAsByteArray();
+
+		EmployeeDTO[] employees = new CBORMapper().findAndRegisterModules().readValue(body, EmployeeDTO[].class);
+		assertEquals("Pratik Chavan", employees[0].getName());
+		assertEquals(LocalDate.of(2020, 1, 15), employees[0].getJoiningDate());
+	}
+
+	@Test
+	public void testGetAllEmployees_Smile() throws Exception {
+		when(employeeService.getAllEmployees()).thenReturn(List.of(employee(1L, "Pratik Chavan")));
+
+		byte[] body = mockMvc.perform(get("/api/employees").accept("application/x-jackson-smile"))
+				.andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray();
+
+		EmployeeDTO[] employees = new SmileMapper().findAndRegisterModules().readValue(body, EmployeeDTO[].class);
+		assertEquals("Pratik Chavan", employees[0].getName());
+	}
+
+	@Test
+	public void testGetAllEmployeesPaged_Columnar() throws Exception {
+		when(employeeService.getAllEmployees(any(Pageable.class))).thenReturn(new PageImpl<>(
+				List.of(employee(1L, "Pratik Chavan"), employee(51L, "Saurabh Patil")), PageRequest.of(0, 10), 2));
+
+		mockMvc.perform(get("/api/employees/paged").accept(ColumnarHttpMessageConverter.COLUMNAR_JSON))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(ColumnarHttpMessageConverter.COLUMNAR_JSON))
+				.andExpect(jsonPath("$.count").value(2))
+				.andExpect(jsonPath("$.columns.id[1]").value(51))
+				.andExpect(jsonPath("$.columns.name[0]").value("Pratik Chavan"))
+				.andExpect(jsonPath("$.columns.joiningDate[0]").value("2020-01-15"))
+				.andExpect(jsonPath("$.columns.department[0]").isEmpty())
+				.andExpect(jsonPath("$.page.totalElements").value(2))
+				.andExpect(jsonPath("$[0]").doesNotExist());
+	}
+
+	@Test
+	public void testGetAllEmployees_ColumnarCborWithFields() throws Exception {
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("id", 1L);
+		row.put("name", "Pratik Chavan");
+		when(employeeService.getAllEmployees(eq(List.of("id", "name")))).thenReturn(List.of(row));
+
+		byte[] body = mockMvc
+				.perform(get("/api/employees").param("fields", "id,name")
+						.accept(ColumnarHttpMessageConverter.COLUMNAR_CBOR))
+				.andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray();
+
+		JsonNode columns = new CBORMapper().readTree(body).get("columns");
+		assertEquals(List.of("id", "name"), columns.properties().stream().map(Map.Entry::getKey).toList());
+		assertEquals("Pratik Chavan", columns.get("name").get(0).asText());
+	}
+
+	@Test
+	public void testGetEmployeesByIds() throws Exception {
+		when(employeeService.getEmployeesByIds(List.of(3L, 1L, 99L)))
+				.thenReturn(List.of(employee(3L, "Third Employee"), employee(1L, "Pratik Chavan")));
+
+		mockMvc.perform(get("/api/employees/batch").param("ids", "3,1,99"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(2))
+				.andExpect(jsonPath("$[0].id").value(3))
+				.andExpect(jsonPath("$[1].name").value("Pratik Chavan"));
+	}
+
+	@Test
+	public void testGetEmployeesByIds_TooManyIds() throws Exception {
+		String ids = LongStream.rangeClosed(1, 501).mapToObj(Long::toString)
+				.collect(Collectors.joining(","));
+
+		mockMvc.perform(get("/api/employees/batch").param("ids", ids))
+				.andExpect(status().isBadRequest());
+		verify(employeeService, never()).getEmployeesByIds(any());
+	}
+
+	@Test
+	public void testSubscribeToChanges_SubscriberLimitReached() throws Exception {
+		when(employeeChangeFeed.subscribe(null)).thenReturn(null);
+
+		mockMvc.perform(get("/api/employees/changes").accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string("Retry-After", "5"));
+	}
+
+	private static EmployeeDTO employee(Long id, String name) {
+		EmployeeDTO employee = new EmployeeDTO();
+		employee.setId(id);
+		employee.setName(name);
+		employee.setEmail(name.toLowerCase().replace(' ', '.') + "@example.com");
+		employee.setJoiningDate(LocalDate.of(2020, 1, 15));
+		employee.setVersion(0L);
+		return employee;
+	}
+}
@@ -0,0 +1,278 @@
+package com.emp.mgmt.controller;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.service.EmployeeService;
+import com.emp.mgmt.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the {@code reactive} profile end to end on WebFlux against an embedded
+ * R2DBC H2 database of its own, so the servlet tests' data is untouched.
+ */
+@SpringBootTest(properties = { "spring.main.web-application-type=reactive",
+		"spring.datasource.url=jdbc:h2:mem:ReactiveEmployeeDB;DB_CLOSE_DELAY=-1",
+		"spring.r2dbc.url=r2dbc:h2:mem:///ReactiveEmployeeDB", "spring.r2dbc.username=sa",
+		"spring.r2dbc.password=", "spring.sql.init.mode=never" })
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+public class ReactiveEmployeeControllerTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private ReactiveEmployeeService reactiveEmployeeService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Test
+	public void testAddAndGetEmployee_ETagRevalidation() {
+		EmployeeDTO saved = create("reactive.get@example.com");
+		assertEquals(0L, saved.getVersion());
+
+		webTestClient.get().uri("/api/employees/{id}", saved.getId()).exchange().expectStatus().isOk().expectHeader()
+				.valueEquals("ETag", "\"0\"").expectBody().jsonPath("$.email").isEqualTo("reactive.get@example.com");
+		webTestClient.get().uri("/api/employees/{id}", saved.getId()).header("If-None-Match", "\"0\"").exchange()
+				.expectStatus().isNotModified();
+	}
+
+	@Test
+	public void testAddEmployee_DuplicateEmail() {
+		create("reactive.duplicate@example.com");
+
+		webTestClient.post().uri("/api/employees").contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"name\":\"Again\",\"email\":\"reactive.duplicate@example.com\"}").exchange()
+				.expectStatus().isBadRequest().expectBody(String.class)
+				.isEqualTo("Email already exists: reactive.duplicate@example.com");
+	}
+
+	@Test
+	public void testAddEmployee_ValidationFailed() {
+		webTestClient.post().uri("/api/employees").contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"email\":\"not-an-email\"}").exchange().expectStatus().isBadRequest().expectBody()
+				.jsonPath("$.message").isEqualTo("Validation Failed");
+	}
+
+	@Test
+	public void testUpdateEmployee_IfMatch() {
+		EmployeeDTO saved = create("reactive.update@example.com");
+		String body = "{\"name\":\"Updated\",\"email\":\"reactive.update@example.com\"}";
+
+		webTestClient.put().uri("/api/employees/{id}", saved.getId()).header("If-Match", "\"0\"")
+				.contentType(MediaType.APPLICATION_JSON).bodyValue(body).exchange().expectStatus().isOk()
+				.expectHeader().valueEquals("ETag", "\"1\"");
+		webTestClient.put().uri("/api/employees/{id}", saved.getId()).header("If-Match", "\"0\"")
+				.contentType(MediaType.APPLICATION_JSON).bodyValue(body).exchange().expectStatus()
+				.isEqualTo(412).expectHeader().valueEquals("ETag", "\"1\"");
+		webTestClient.put().uri("/api/employees/{id}", saved.getId()).contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(body).exchange().expectStatus().isOk().expectHeader().valueEquals("ETag", "\"2\"");
+	}
+
+	@Test
+	public void testDeleteEmployee() {
+		EmployeeDTO saved = create("reactive.delete@example.com");
+
+		webTestClient.delete().uri("/api/employees/{id}", saved.getId()).exchange().expectStatus().isOk();
+		webTestClient.delete().uri("/api/employees/{id}", saved.getId()).exchange().expectStatus().isNotFound()
+				.expectBody(String.class).isEqualTo("No employee found with ID: " + saved.getId());
+	}
+
+	@Test
+	public void testIdsDoNotCollideWithJpa() {
+		Set<Long> ids = new HashSet<>();
+		Long jpaId = null;
+		for (int i = 1; i <= 2; i++) {
+			EmployeeDTO jpa = new EmployeeDTO();
+			jpa.setName("Jpa Stack");
+			jpa.setEmail("reactive.jpa" + i + "@example.com");
+			jpaId = employeeService.addEmployee(jpa).getId();
+			ids.add(jpaId);
+			// Each stack reserves whole blocks from the shared sequence
+			ids.add(create("reactive.r2dbc" + i + "@example.com").getId());
+		}
+
+		assertEquals(4, ids.size());
+		webTestClient.get().uri("/api/employees/{id}", jpaId).exchange().expectStatus().isOk();
+	}
+
+	@Test
+	public void testStreamAllEmployees_HonoursDemand() {
+		create("reactive.stream1@example.com");
+		create("reactive.stream2@example.com");
+
+		StepVerifier.create(reactiveEmployeeService.getAllEmployees(), 1).expectNextCount(1).thenRequest(1)
+				.expectNextCount(1).thenCancel().verify();
+
+		List<EmployeeDTO> streamed = webTestClient.get().uri("/api/employees/stream")
+				.accept(MediaType.APPLICATION_NDJSON).exchange().expectStatus().isOk()
+				.returnResult(EmployeeDTO.class).getResponseBody().collectList().block();
+		assertTrue(streamed.stream().anyMatch(employee -> "reactive.stream2@example.com".equals(employee.getEmail())));
+	}
+
+	@Test
+	public void testAddEmployees_BulkAndSearch() {
+		webTestClient.post().uri("/api/employees/bulk").contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("[" + bulkItem("Low", "reactive.search1@example.com", 1000) + ","
+						+ bulkItem("High", "reactive.search2@example.com", 2000) + ",{\"email\":\"not-an-email\"}]")
+				.exchange().expectStatus().isEqualTo(207).expectBody().jsonPath("$[0].status").isEqualTo("CREATED")
+				.jsonPath("$[2].status").isEqualTo("INVALID");
+
+		webTestClient.get().uri("/api/employees/search?department=ReactiveSearch&minSalary=1500").exchange()
+				.expectStatus().isOk().expectBody().jsonPath("$.content.length()").isEqualTo(1)
+				.jsonPath("$.content[0].email").isEqualTo("reactive.search2@example.com");
+		webTestClient.get().uri("/api/employees/search?department=ReactiveSearch&minSalary=5&maxSalary=1").exchange()
+				.expectStatus().isBadRequest().expectBody(String.class)
+				.isEqualTo("minSalary must not be greater than maxSalary");
+	}
+
+	@Test
+	public void testGetAllEmployeesPaged_CountModesAndFields() {
+		create("reactive.paged1@example.com");
+		create("reactive.paged2@example.com");
+
+		webTestClient.get().uri("/api/employees/paged?size=1&count=none").exchange().expectStatus().isOk()
+				.expectHeader().exists("ETag").expectBody().jsonPath("$.content.length()").isEqualTo(1);
+		webTestClient.get().uri("/api/employees/paged?size=1&count=approximate").exchange().expectStatus().isOk()
+				.expectBody().jsonPath("$.content.length()").isEqualTo(1);
+		webTestClient.get().uri("/api/employees/paged?fields=email,joiningDate&count=none").exchange().expectStatus()
+				.isOk().expectBody().jsonPath("$.content[0].email").exists().jsonPath("$.content[0].name")
+				.doesNotExist();
+		webTestClient.get().uri("/api/employees?fields=id,name").exchange().expectStatus().isOk().expectBody()
+				.jsonPath("$[0].name").exists().jsonPath("$[0].email").doesNotExist();
+		webTestClient.get().uri("/api/employees/paged?count=sometimes").exchange().expectStatus().isBadRequest()
+				.expectBody(String.class).isEqualTo("Unsupported count: sometimes, allowed: exact, none, approximate");
+		webTestClient.get().uri("/api/employees?fields=password").exchange().expectStatus().isBadRequest();
+	}
+
+	@Test
+	public void testGetAllEmployeesByCursor_KeysetByName() {
+		create("reactive.cursor1@example.com");
+		create("reactive.cursor2@example.com");
+		create("reactive.cursor3@example.com");
+
+		CursorPage first = webTestClient.get().uri("/api/employees/cursor?size=2&sortBy=name").exchange()
+				.expectStatus().isOk().expectBody(CursorPage.class).returnResult().getResponseBody();
+		assertEquals(2, first.content().size());
+		assertTrue(first.hasNext());
+		CursorPage second = webTestClient.get()
+				.uri("/api/employees/cursor?size=2&sortBy=name&cursor={cursor}", first.nextCursor()).exchange()
+				.expectStatus().isOk().expectBody(CursorPage.class).returnResult().getResponseBody();
+		EmployeeDTO last = first.content().get(1);
+		for (EmployeeDTO employee : second.content()) {
+			int byName = employee.getName().compareTo(last.getName());
+			assertTrue(byName > 0 || (byName == 0 && employee.getId() > last.getId()));
+		}
+
+		webTestClient.get().uri("/api/employees/cursor?sortBy=salary").exchange().expectStatus().isBadRequest()
+				.expectBody(String.class).isEqualTo("Cursor pagination is not supported for sortBy: salary");
+	}
+
+	@Test
+	public void testGetEmployeesByIds_RequestOrder() {
+		EmployeeDTO first = create("reactive.batch1@example.com");
+		EmployeeDTO second = create("reactive.batch2@example.com");
+
+		webTestClient.get()
+				.uri("/api/employees/batch?ids={a},{missing},{b}", second.getId(), Long.MAX_VALUE, first.getId())
+				.exchange().expectStatus().isOk().expectBody().jsonPath("$.length()").isEqualTo(2)
+				.jsonPath("$[0].id").isEqualTo(second.getId()).jsonPath("$[1].id").isEqualTo(first.getId());
+	}
+
+	@Test
+	public void testImportAndExportEmployees_Csv() {
+		webTestClient.post().uri("/api/employees/import").contentType(MediaType.parseMediaType("text/csv"))
+				.bodyValue("name,email,department,salary\nImported,reactive.import@example.com,ReactiveCsv,1500.5\n"
+						+ "Broken,reactive.broken@example.com,ReactiveCsv,lots\n")
+				.exchange().expectStatus().isEqualTo(207).expectBody().jsonPath("$.rows").isEqualTo(2)
+				.jsonPath("$.created").isEqualTo(1).jsonPath("$.errors[0].line").isEqualTo(3);
+		webTestClient.post().uri("/api/employees/import").contentType(MediaType.parseMediaType("text/csv"))
+				.bodyValue("name\nNo Email\n").exchange().expectStatus().isBadRequest();
+
+		String csv = webTestClient.get().uri("/api/employees/export").exchange().expectStatus().isOk().expectHeader()
+				.contentTypeCompatibleWith("text/csv").expectBody(String.class).returnResult().getResponseBody();
+		assertTrue(csv.startsWith("id,name,email,department,salary,joiningDate\n"));
+		assertTrue(csv.contains(",Imported,reactive.import@example.com,ReactiveCsv,1500.5,\n"));
+	}
+
+	@Test
+	public void testPatchEmployee_IfMatch() {
+		EmployeeDTO saved = create("reactive.patch@example.com");
+		MediaType mergePatch = MediaType.parseMediaType("application/merge-patch+json");
+
+		webTestClient.patch().uri("/api/employees/{id}", saved.getId()).header("If-Match", "\"0\"")
+				.contentType(mergePatch).bodyValue("{\"department\":\"Patched\",\"salary\":null}").exchange()
+				.expectStatus().isOk().expectHeader().valueEquals("ETag", "\"1\"").expectBody()
+				.jsonPath("$.department").isEqualTo("Patched").jsonPath("$.name").isEqualTo("Reactive Stack");
+		webTestClient.patch().uri("/api/employees/{id}", saved.getId()).header("If-Match", "\"0\"")
+				.contentType(mergePatch).bodyValue("{\"name\":\"Late\"}").exchange().expectStatus()
+				.isEqualTo(412).expectHeader().valueEquals("ETag", "\"1\"");
+		webTestClient.patch().uri("/api/employees/{id}", Long.MAX_VALUE).contentType(mergePatch)
+				.bodyValue("{\"name\":\"Nobody\"}").exchange().expectStatus().isNotFound();
+	}
+
+	@Test
+	public void testPatchEmployees_SalaryAdjustment() {
+		webTestClient.post().uri("/api/employees/bulk").contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("[{\"name\":\"Raise\",\"email\":\"reactive.raise@example.com\","
+						+ "\"department\":\"ReactiveRaise\",\"salary\":1000}]")
+				.exchange().expectStatus().isCreated();
+
+		webTestClient.patch().uri("/api/employees?department=ReactiveRaise").contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"salaryAdjustmentPercent\":10}").exchange().expectStatus().isOk().expectBody()
+				.jsonPath("$.updated").isEqualTo(1);
+		webTestClient.get().uri("/api/employees/search?department=ReactiveRaise").exchange().expectStatus().isOk()
+				.expectBody().jsonPath("$.content[0].salary").isEqualTo(1100.0).jsonPath("$.content[0].version")
+				.isEqualTo(1);
+		webTestClient.patch().uri("/api/employees").contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"department\":\"Everyone\"}").exchange().expectStatus().isBadRequest()
+				.expectBody(String.class).isEqualTo("A bulk update needs at least one filter");
+	}
+
+	@Test
+	public void testSubscribeToChanges_ReceivesCreate() {
+		Flux<ServerSentEvent<String>> events = webTestClient.get().uri("/api/employees/changes")
+				.accept(MediaType.TEXT_EVENT_STREAM).exchange().expectStatus().isOk()
+				.returnResult(new ParameterizedTypeReference<ServerSentEvent<String>>() {
+				}).getResponseBody();
+
+		StepVerifier.create(events.filter(event -> "created".equals(event.event())))
+				.then(() -> create("reactive.changes@example.com"))
+				.assertNext(event -> assertTrue(event.data().contains("reactive.changes@example.com")))
+				.thenCancel().verify(Duration.ofSeconds(10));
+	}
+
+	private static String bulkItem(String name, String email, double salary) {
+		return "{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"department\":\"ReactiveSearch\",\"salary\":"
+				+ salary + "}";
+	}
+
+	private EmployeeDTO create(String email) {
+		return webTestClient.post().uri("/api/employees").contentType(MediaType.APPLICATION_JSON)
+				.bodyValue("{\"name\":\"Reactive Stack\",\"email\":\"" + email + "\",\"department\":\"Reactive\"}")
+				.exchange().expectStatus().isCreated().expectBody(EmployeeDTO.class).returnResult().getResponseBody();
+	}
+
+	private record CursorPage(List<EmployeeDTO> content, String nextCursor, boolean hasNext) {
+	}
+}
@@ -0,0 +1,60 @@
+package com.emp.mgmt.datasource;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Three embedded databases stand in for a primary and two replicas. The
+ * replicas are not fed from the primary; each holds one marker row, which
+ * shows where a read was served from.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:RoutingPrimaryDB;DB_CLOSE_DELAY=-1",
+		"employee.datasource.replicas.urls="
+				+ "jdbc:h2:mem:RoutingReplicaOneDB;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:replica/replica-one.sql',"
+				+ "jdbc:h2:mem:RoutingReplicaTwoDB;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:replica/replica-two.sql'" })
+public class ReadReplicaRoutingTest {
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Test
+	public void testReadOnlyReads_BalancedAcrossReplicas() {
+		Set<String> servedBy = new HashSet<>();
+		for (int i = 0; i < 2; i++) {
+			List<EmployeeDTO> employees = employeeService.getAllEmployees();
+			assertEquals(1, employees.size());
+			servedBy.add(employees.get(0).getName());
+		}
+
+		assertEquals(Set.of("Replica One", "Replica Two"), servedBy);
+		assertEquals(1, employeeService.getAllEmployees(PageRequest.of(0, 10)).getTotalElements());
+	}
+
+	@Test
+	public void testWritesAndReadYourWrites_StayOnPrimary() {
+		EmployeeDTO employee = new EmployeeDTO();
+		employee.setName("Primary Only");
+		employee.setEmail("primary.only@example.com");
+		EmployeeDTO created = employeeService.addEmployee(employee);
+
+		assertEquals("Primary Only", employeeService.getEmployeeById(created.getId()).getName());
+		// Versions answer conditional requests, so a replica's could turn a changed row into a 304
+		assertEquals(0L, employeeService.getEmployeeVersion(created.getId()));
+		employee.setName("Primary Only Updated");
+		assertEquals(1L, employeeService.updateEmployee(created.getId(), employee).getVersion());
+		assertEquals(1L, employeeService.getEmployeeVersion(created.getId()));
+		assertTrue(employeeService.getAllEmployees().stream()
+				.noneMatch(other -> "primary.only@example.com".equals(other.getEmail())));
+	}
+}
@@ -0,0 +1,116 @@
+package com.emp.mgmt.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaSetDataSourceTest {
+
+	@Mock
+	private DataSource primary;
+
+	@Mock
+	private DataSource replicaOne;
+
+	@Mock
+	private DataSource replicaTwo;
+
+	@Mock
+	private Connection primaryConnection;
+
+	@Mock
+	private Connection replicaOneConnection;
+
+	@Mock
+	private Connection replicaTwoConnection;
+
+	private ReplicaSetDataSource dataSource;
+
+	@BeforeEach
+	public void setUp() {
+		dataSource = new ReplicaSetDataSource(List.of(replicaOne, replicaTwo), primary);
+	}
+
+	@Test
+	public void testGetConnection_RoundRobin() throws SQLException {
+		when(replicaOne.getConnection()).thenReturn(replicaOneConnection);
+		when(replicaTwo.getConnection()).thenReturn(replicaTwoConnection);
+
+		List<Connection> connections = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			connections.add(dataSource.getConnection());
+		}
+
+		assertEquals(List.of(replicaOneConnection, replicaTwoConnection, replicaOneConnection, replicaTwoConnection),
+				connections);
+		verifyNoInteractions(primary);
+	}
+
+	@Test
+	public void testGetConnection_FailingReplicaLeavesRotation() throws SQLException {
+		when(replicaOne.getConnection()).thenThrow(new SQLException("Connection refused"));
+		when(replicaTwo.getConnection()).thenReturn(replicaTwoConnection);
+
+		assertSame(replicaTwoConnection, dataSource.getConnection());
+		assertSame(replicaTwoConnection, dataSource.getConnection());
+		assertSame(replicaTwoConnection, dataSource.getConnection());
+
+		assertEquals(1, dataSource.getHealthyReplicaCount());
+		verify(replicaOne, times(1)).getConnection();
+	}
+
+	@Test
+	public void testGetConnection_AllReplicasDown_FallsBackToPrimary() throws SQLException {
+		when(replicaOne.getConnection()).thenThrow(new SQLException("Connection refused"));
+		when(replicaTwo.getConnection()).thenThrow(new SQLException("Connection refused"));
+		when(primary.getConnection()).thenReturn(primaryConnection);
+
+		assertSame(primaryConnection, dataSource.getConnection());
+		assertSame(primaryConnection, dataSource.getConnection());
+
+		assertEquals(0, dataSource.getHealthyReplicaCount());
+	}
+
+	@Test
+	public void testCheckHealth_RecoveredReplicaRejoinsRotation() throws SQLException {
+		when(replicaOne.getConnection()).thenThrow(new SQLException("Connection refused"))
+				.thenReturn(replicaOneConnection);
+		when(replicaTwo.getConnection()).thenReturn(replicaTwoConnection);
+		when(replicaOneConnection.isValid(anyInt())).thenReturn(true);
+		when(replicaTwoConnection.isValid(anyInt())).thenReturn(true);
+		dataSource.getConnection();
+		assertEquals(1, dataSource.getHealthyReplicaCount());
+
+		dataSource.checkHealth();
+
+		assertEquals(2, dataSource.getHealthyReplicaCount());
+		verify(replicaOneConnection).close();
+	}
+
+	@Test
+	public void testCheckHealth_InvalidConnectionTakesReplicaOut() throws SQLException {
+		when(replicaOne.getConnection()).thenReturn(replicaOneConnection);
+		when(replicaTwo.getConnection()).thenReturn(replicaTwoConnection);
+		when(replicaOneConnection.isValid(anyInt())).thenReturn(false);
+		when(replicaTwoConnection.isValid(anyInt())).thenReturn(true);
+
+		dataSource.checkHealth();
+
+		assertEquals(1, dataSource.getHealthyReplicaCount());
+		assertSame(replicaTwoConnection, dataSource.getConnection());
+		assertSame(replicaTwoConnection, dataSource.getConnection());
+	}
+}
@@ -0,0 +1,351 @@
+package com.emp.mgmt.loadtest;
+
+import com.emp.mgmt.dto.BulkItemResultDTO;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Closed-loop load test of the {@code /api/employees} CRUD surface over real
+ * HTTP against the embedded database. Each worker repeatedly picks an
+ * operation by the configured mix and records its latency; after the run the
+ * per-endpoint percentiles are reported and checked against the SLOs in
+ * {@code loadtest.properties}.
+ * <p>
+ * Tagged {@code load} and excluded from the default build; run it with
+ * {@code mvn -Pload-test test}. {@link ReactiveEmployeeApiLoadTest} repeats the
+ * run on the reactive stack so the two reports can be compared.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = { "logging.level.com.emp.mgmt=WARN", "logging.level.com.emp.mgmt.loadtest=INFO",
+				"spring.jpa.properties.hibernate.log_slow_query=0",
+				// A single client drives the whole load, so it must not be held to the per-client rate
+				"employee.admission.rate-limit.requests-per-second=0" })
+public class EmployeeApiLoadTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeApiLoadTest.class);
+
+	enum Operation {
+		CREATE, GET, PAGED, UPDATE, DELETE
+	}
+
+	/** Loaded as a plain property source so -Dloadtest.* system properties take precedence. */
+	@TestConfiguration
+	@PropertySource("classpath:loadtest.properties")
+	static class LoadTestProperties {
+	}
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private Environment environment;
+
+	private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+	private final AtomicLong emailSequence = new AtomicLong();
+
+	/** Ids created during the run; deletes consume these so the seeded rows stay stable. */
+	private final ConcurrentLinkedQueue<Long> createdIds = new ConcurrentLinkedQueue<>();
+
+	private List<Long> seededIds;
+
+	@Test
+	public void testEmployeeApi_MeetsLatencySlos() throws Exception {
+		int seedSize = environment.getRequiredProperty("loadtest.seed-size", Integer.class);
+		int concurrency = environment.getRequiredProperty("loadtest.concurrency", Integer.class);
+		Duration warmup = Duration.parse(environment.getRequiredProperty("loadtest.warmup"));
+		Duration duration = Duration.parse(environment.getRequiredProperty("loadtest.duration"));
+
+		seed(seedSize);
+		logger.info("Seeded {} employees; warming up for {} with {} workers", seedSize, warmup, concurrency);
+		run(concurrency, warmup);
+		logger.info("Measuring for {}", duration);
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		threads.resetPeakThreadCount();
+		Map<Operation, Samples> results = run(concurrency, duration);
+
+		Map<String, Object> report = report(results, duration, seedSize, concurrency);
+		report.put("peakThreads", threads.getPeakThreadCount());
+		report.put("serverThreads", serverThreads());
+		logger.info("{} stack: peak JVM threads {}, server request threads {}", report.get("stack"),
+				report.get("peakThreads"), report.get("serverThreads"));
+		Path reportPath = Path.of(environment.getRequiredProperty("loadtest.report"));
+		Files.createDirectories(reportPath.toAbsolutePath().getParent());
+		objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+
+		List<String> violations = checkSlos(results);
+		assertTrue(violations.isEmpty(), "SLO violations:\n" + String.join("\n", violations));
+	}
+
+	private void seed(int size) {
+		List<EmployeeDTO> employees = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			employees.add(employee("seed"));
+		}
+		seededIds = employeeService.addEmployees(employees).stream().map(BulkItemResultDTO::getId).toList();
+	}
+
+	private Map<Operation, Samples> run(int concurrency, Duration duration) throws Exception {
+		Operation[] mix = mix();
+		long deadline = System.nanoTime() + duration.toNanos();
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		try {
+			List<Future<Map<Operation, Samples>>> workers = new ArrayList<>();
+			for (int i = 0; i < concurrency; i++) {
+				workers.add(executor.submit(() -> {
+					Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+					while (System.nanoTime() < deadline) {
+						Operation operation = mix[ThreadLocalRandom.current().nextInt(mix.length)];
+						long start = System.nanoTime();
+						boolean ok = execute(operation);
+						samples.computeIfAbsent(operation, key -> new Samples()).record(System.nanoTime() - start, ok);
+					}
+					return samples;
+				}));
+			}
+			Map<Operation, Samples> merged = new EnumMap<>(Operation.class);
+			for (Future<Map<Operation, Samples>> worker : workers) {
+				worker.get().forEach((operation, samples) -> merged.merge(operation, samples, Samples::merge));
+			}
+			return merged;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private boolean execute(Operation operation) throws Exception {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		switch (operation) {
+		case CREATE: {
+			HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/employees"))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(employee("load")))));
+			if (response.statusCode() != 201) {
+				return false;
+			}
+			createdIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+			return true;
+		}
+		case GET:
+			return send(HttpRequest.newBuilder(uri("/api/employees/" + randomSeededId())).GET()).statusCode() == 200;
+		case PAGED: {
+			int pages = Math.max(1, seededIds.size() / 20);
+			return send(HttpRequest.newBuilder(uri("/api/employees/paged?size=20&page=" + random.nextInt(pages)))
+					.GET()).statusCode() == 200;
+		}
+		case UPDATE: {
+			Long id = randomSeededId();
+			EmployeeDTO employee = employee("update");
+			return send(HttpRequest.newBuilder(uri("/api/employees/" + id)).header("Content-Type", "application/json")
+					.PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(employee))))
+					.statusCode() == 200;
+		}
+		case DELETE: {
+			Long id = createdIds.poll();
+			if (id == null) {
+				// Nothing created yet: delete what we create so the request mix stays honest
+				return execute(Operation.CREATE) && execute(Operation.DELETE);
+			}
+			return send(HttpRequest.newBuilder(uri("/api/employees/" + id)).DELETE()).statusCode() == 200;
+		}
+		default:
+			throw new IllegalStateException("Unknown operation: " + operation);
+		}
+	}
+
+	private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+		return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private Long randomSeededId() {
+		return seededIds.get(ThreadLocalRandom.current().nextInt(seededIds.size()));
+	}
+
+	private EmployeeDTO employee(String prefix) {
+		long n = emailSequence.incrementAndGet();
+		EmployeeDTO employee = new EmployeeDTO();
+		employee.setName("Load Test " + n);
+		employee.setEmail(prefix + "." + n + "@loadtest.example.com");
+		employee.setDepartment("Dept" + (n % 20));
+		employee.setSalary(30000.0 + n % 90000);
+		employee.setJoiningDate(LocalDate.of(2010, 1, 1).plusDays(n % 5000));
+		return employee;
+	}
+
+	/** Expands the weights into a lookup table so picking an operation is one random index. */
+	private Operation[] mix() {
+		List<Operation> table = new ArrayList<>();
+		for (Operation operation : Operation.values()) {
+			int weight = environment.getProperty("loadtest.mix." + key(operation), Integer.class, 0);
+			for (int i = 0; i < weight; i++) {
+				table.add(operation);
+			}
+		}
+		if (table.isEmpty()) {
+			throw new IllegalStateException("loadtest.mix.* weights must not all be zero");
+		}
+		return table.toArray(new Operation[0]);
+	}
+
+	private Map<String, Object> report(Map<Operation, Samples> results, Duration duration, int seedSize,
+			int concurrency) {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("stack", environment.getProperty("spring.main.web-application-type", "servlet").toLowerCase());
+		report.put("seedSize", seedSize);
+		report.put("concurrency", concurrency);
+		report.put("durationSeconds", duration.toSeconds());
+		long total = results.values().stream().mapToLong(Samples::count).sum();
+		report.put("throughputPerSecond", total / (double) duration.toSeconds());
+		Map<String, Object> endpoints = new LinkedHashMap<>();
+		logger.info(String.format("%-8s %10s %10s %8s %9s %9s %9s", "endpoint", "requests", "req/s", "errors",
+				"p50 ms", "p99 ms", "p999 ms"));
+		results.forEach((operation, samples) -> {
+			Map<String, Object> endpoint = new LinkedHashMap<>();
+			endpoint.put("requests", samples.count());
+			endpoint.put("errors", samples.errors);
+			endpoint.put("throughputPerSecond", samples.count() / (double) duration.toSeconds());
+			endpoint.put("p50Millis", samples.percentileMillis(0.50));
+			endpoint.put("p99Millis", samples.percentileMillis(0.99));
+			endpoint.put("p999Millis", samples.percentileMillis(0.999));
+			endpoint.put("maxMillis", samples.percentileMillis(1.0));
+			endpoints.put(key(operation), endpoint);
+			logger.info(String.format("%-8s %10d %10.1f %8d %9.2f %9.2f %9.2f", key(operation), samples.count(),
+					samples.count() / (double) duration.toSeconds(), samples.errors, samples.percentileMillis(0.50),
+					samples.percentileMillis(0.99), samples.percentileMillis(0.999)));
+		});
+		report.put("endpoints", endpoints);
+		logger.info("Total throughput: {} req/s", String.format("%.1f", total / (double) duration.toSeconds()));
+		return report;
+	}
+
+	/**
+	 * Live threads of the embedded server: Tomcat's request workers for the
+	 * servlet stack, Netty's event loops for the reactive one. The load
+	 * generator's own threads are the same for both, so peak JVM threads are
+	 * comparable too.
+	 */
+	private static long serverThreads() {
+		return Thread.getAllStackTraces().keySet().stream().map(Thread::getName)
+				.filter(name -> name.startsWith("http-nio-") || name.startsWith("reactor-http-")).count();
+	}
+
+	private List<String> checkSlos(Map<Operation, Samples> results) {
+		List<String> violations = new ArrayList<>();
+		double maxErrorRate = environment.getProperty("loadtest.slo.max-error-rate", Double.class, 0.0);
+		results.forEach((operation, samples) -> {
+			double errorRate = samples.errors / (double) samples.count();
+			if (errorRate > maxErrorRate) {
+				violations.add(String.format("%s error rate %.4f > %.4f", key(operation), errorRate, maxErrorRate));
+			}
+			for (String percentile : List.of("p50", "p99", "p999")) {
+				Double limit = environment.getProperty("loadtest.slo." + key(operation) + "." + percentile,
+						Double.class);
+				double quantile = Double.parseDouble("0." + percentile.substring(1));
+				double actual = samples.percentileMillis(quantile);
+				if (limit != null && actual > limit) {
+					violations.add(String.format("%s %s %.2f ms > %.2f ms", key(operation), percentile, actual, limit));
+				}
+			}
+		});
+		return violations;
+	}
+
+	private static String key(Operation operation) {
+		return operation.name().toLowerCase();
+	}
+
+	/** Latencies of one endpoint; each worker owns its instance until the run is merged. */
+	private static final class Samples {
+
+		private long[] nanos = new long[1024];
+
+		private int size;
+
+		private long errors;
+
+		private boolean sorted;
+
+		void record(long latencyNanos, boolean ok) {
+			if (size == nanos.length) {
+				nanos = Arrays.copyOf(nanos, size * 2);
+			}
+			nanos[size++] = latencyNanos;
+			sorted = false;
+			if (!ok) {
+				errors++;
+			}
+		}
+
+		long count() {
+			return size;
+		}
+
+		Samples merge(Samples other) {
+			for (int i = 0; i < other.size; i++) {
+				record(other.nanos[i], true);
+			}
+			errors += other.errors;
+			return this;
+		}
+
+		/** Nearest-rank percentile; sorts in place on first use after recording. */
+		double percentileMillis(double quantile) {
+			if (size == 0) {
+				return 0.0;
+			}
+			if (!sorted) {
+				Arrays.sort(nanos, 0, size);
+				sorted = true;
+			}
+			int rank = (int) Math.ceil(quantile * size);
+			return nanos[Math.max(0, Math.min(size, rank) - 1)] / 1_000_000.0;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.emp.mgmt.loadtest;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * {@link EmployeeApiLoadTest} against the {@code reactive} profile (WebFlux on
+ * Netty, R2DBC on embedded H2). Writes its report next to the servlet one so
+ * throughput, latency and thread counts can be compared.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = { "logging.level.com.emp.mgmt=WARN", "logging.level.com.emp.mgmt.loadtest=INFO",
+				"spring.jpa.properties.hibernate.log_slow_query=0", "spring.main.web-application-type=reactive",
+				"spring.datasource.url=jdbc:h2:mem:ReactiveLoadTestDB;DB_CLOSE_DELAY=-1",
+				"spring.r2dbc.url=r2dbc:h2:mem:///ReactiveLoadTestDB", "spring.r2dbc.username=sa",
+				"spring.r2dbc.password=", "spring.sql.init.mode=never",
+				"loadtest.report=target/load-test-report-reactive.json" })
+@ActiveProfiles("reactive")
+@Import(EmployeeApiLoadTest.LoadTestProperties.class)
+public class ReactiveEmployeeApiLoadTest extends EmployeeApiLoadTest {
+}
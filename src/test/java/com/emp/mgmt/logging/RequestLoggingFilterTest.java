@@ -0,0 +1,126 @@
+package com.emp.mgmt.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLoggingFilterTest {
+
+	private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLoggingFilter.class);
+
+	private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+	private RequestLoggingFilter filter;
+
+	@BeforeEach
+	public void setUp() {
+		appender.start();
+		logger.addAppender(appender);
+		filter = new RequestLoggingFilter();
+		filter.setMaskedParams(new String[] { "email", "minSalary" });
+	}
+
+	@AfterEach
+	public void tearDown() {
+		logger.detachAppender(appender);
+	}
+
+	@Test
+	public void testSuccess_LogsOneMaskedRecord() throws Exception {
+		MockHttpServletRequest request = request("GET", "/api/employees/search", "department=IT&minSalary=50000&EMAIL=a@b.c");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/employees/search");
+
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		assertEquals(1, appender.list.size());
+		ILoggingEvent event = appender.list.get(0);
+		assertEquals(Level.INFO, event.getLevel());
+		String record = event.getFormattedMessage();
+		assertTrue(record.startsWith("method=GET route=/api/employees/search uri=/api/employees/search "
+				+ "query=\"department=IT&minSalary=***&EMAIL=***\" status=200 latencyMs="), record);
+		assertFalse(record.contains("50000"));
+		assertFalse(record.contains("a@b.c"));
+	}
+
+	@Test
+	public void testSampling_DropsSuccessButAlwaysLogsErrors() throws Exception {
+		filter.setSampleRate(0.0);
+
+		filter.doFilter(request("GET", "/api/employees/1", null), new MockHttpServletResponse(), new MockFilterChain());
+		MockHttpServletResponse notFound = new MockHttpServletResponse();
+		notFound.setStatus(404);
+		filter.doFilter(request("GET", "/api/employees/999", null), notFound, new MockFilterChain());
+
+		assertEquals(1, appender.list.size());
+		assertEquals(Level.WARN, appender.list.get(0).getLevel());
+		assertTrue(appender.list.get(0).getFormattedMessage().contains("status=404"));
+	}
+
+	@Test
+	public void testException_LoggedAsServerError() {
+		MockFilterChain failingChain = new MockFilterChain(new jakarta.servlet.http.HttpServlet() {
+			@Override
+			protected void service(jakarta.servlet.http.HttpServletRequest req,
+					jakarta.servlet.http.HttpServletResponse resp) throws ServletException {
+				throw new ServletException("boom");
+			}
+		});
+
+		assertThrows(ServletException.class, () -> filter.doFilter(request("DELETE", "/api/employees/1", null),
+				new MockHttpServletResponse(), failingChain));
+
+		assertEquals(1, appender.list.size());
+		assertTrue(appender.list.get(0).getFormattedMessage().contains("status=500"));
+		assertTrue(appender.list.get(0).getFormattedMessage().contains("route=UNMATCHED"));
+	}
+
+	@Test
+	public void testDisabled_LogsNothing() throws Exception {
+		filter.setEnabled(false);
+		MockHttpServletResponse error = new MockHttpServletResponse();
+		error.setStatus(500);
+
+		filter.doFilter(request("GET", "/api/employees", null), error, new MockFilterChain());
+
+		assertTrue(appender.list.isEmpty());
+	}
+
+	@Test
+	public void testAsyncRequest_LoggedOnCompletion() throws Exception {
+		MockHttpServletRequest request = request("GET", "/api/employees/stream", null);
+		request.setAsyncSupported(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain asyncChain = new MockFilterChain(new jakarta.servlet.http.HttpServlet() {
+			@Override
+			protected void service(jakarta.servlet.http.HttpServletRequest req,
+					jakarta.servlet.http.HttpServletResponse resp) {
+				req.startAsync();
+			}
+		});
+
+		filter.doFilter(request, response, asyncChain);
+		assertTrue(appender.list.isEmpty());
+
+		request.getAsyncContext().complete();
+		assertEquals(1, appender.list.size());
+		assertTrue(appender.list.get(0).getFormattedMessage().contains("uri=/api/employees/stream"));
+	}
+
+	private static MockHttpServletRequest request(String method, String uri, String query) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+		request.setQueryString(query);
+		return request;
+	}
+}
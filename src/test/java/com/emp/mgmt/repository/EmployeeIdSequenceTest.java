@@ -0,0 +1,57 @@
+package com.emp.mgmt.repository;
+
+import com.emp.mgmt.entity.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rows that got their ids from the old identity column, ahead of a
+ * sequence that {@code ddl-auto=update} has just created. Not rolled back:
+ * restarting the sequence is DDL, which commits on H2.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeIdSequenceTest {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	public void tearDown() {
+		jdbcTemplate.update("delete from employees where email like '%@legacy.example.com'");
+	}
+
+	@Test
+	public void testAdvancePastExistingIds_SequenceBehind() {
+		long maxId = jdbcTemplate.queryForObject("select nextval('employees_seq')", Long.class) + 1000;
+		jdbcTemplate.update(
+				"insert into employees (id, name, email, version) values (?, 'Legacy', 'old@legacy.example.com', 0)",
+				maxId);
+
+		assertTrue(EmployeeIdSequence.advancePastExistingIds(jdbcTemplate));
+
+		long next = jdbcTemplate.queryForObject("select nextval('employees_seq')", Long.class);
+		assertTrue(next > maxId);
+		assertFalse(EmployeeIdSequence.advancePastExistingIds(jdbcTemplate));
+	}
+
+	@Test
+	public void testAdvancePastExistingIds_SequenceAhead() {
+		Employee employee = new Employee();
+		employee.setName("Current");
+		employee.setEmail("current@legacy.example.com");
+		employeeRepository.saveAndFlush(employee);
+
+		assertFalse(EmployeeIdSequence.advancePastExistingIds(jdbcTemplate));
+	}
+}
@@ -0,0 +1,63 @@
+package com.emp.mgmt.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class EmployeeProjectionRepositoryImplTest {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	public void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	public void testFindAllProjected_SelectsOnlyRequestedFields() {
+		List<Map<String, Object>> rows = employeeRepository.findAllProjected(List.of("name", "id"));
+
+		assertEquals(3, rows.size());
+		assertEquals(List.of("name", "id"), List.copyOf(rows.get(0).keySet()));
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+
+	@Test
+	public void testFindAllProjected_Paged() {
+		Page<Map<String, Object>> page = employeeRepository.findAllProjected(List.of("id", "email"),
+				PageRequest.of(0, 2, Sort.by("email")));
+
+		assertEquals(3, page.getTotalElements());
+		assertEquals(2, page.getNumberOfElements());
+		assertEquals("amit@gmail.com", page.getContent().get(0).get("email"));
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+
+	@Test
+	public void testFindAllProjected_UnknownField() {
+		assertThrows(InvalidDataAccessApiUsageException.class,
+				() -> employeeRepository.findAllProjected(List.of("id", "password")));
+	}
+}
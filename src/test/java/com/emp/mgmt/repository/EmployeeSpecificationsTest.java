@@ -0,0 +1,88 @@
+package com.emp.mgmt.repository;
+
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.entity.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class EmployeeSpecificationsTest {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	public void setUp() {
+		employeeRepository.save(employee("eng.junior@example.com", "Engineering", 50000.0, LocalDate.of(2023, 1, 10)));
+		employeeRepository.save(employee("eng.senior@example.com", "Engineering", 90000.0, LocalDate.of(2019, 6, 1)));
+		employeeRepository.save(employee("hr@example.com", "HR", 60000.0, LocalDate.of(2021, 3, 15)));
+	}
+
+	@Test
+	public void testMatching_DepartmentAndSalaryRange() {
+		EmployeeFilterDTO filter = new EmployeeFilterDTO("Engineering", 40000.0, 60000.0, null, null);
+
+		Page<Employee> page = employeeRepository.findAll(EmployeeSpecifications.matching(filter),
+				PageRequest.of(0, 10, Sort.by("id")));
+
+		assertEquals(1, page.getTotalElements());
+		assertEquals("eng.junior@example.com", page.getContent().get(0).getEmail());
+	}
+
+	@Test
+	public void testMatching_JoiningDateRange() {
+		EmployeeFilterDTO filter = new EmployeeFilterDTO(null, null, null, LocalDate.of(2020, 1, 1),
+				LocalDate.of(2022, 12, 31));
+
+		Page<Employee> page = employeeRepository.findAll(EmployeeSpecifications.matching(filter),
+				PageRequest.of(0, 10, Sort.by("id")));
+
+		assertEquals(1, page.getTotalElements());
+		assertEquals("hr@example.com", page.getContent().get(0).getEmail());
+	}
+
+	@Test
+	public void testMatching_NoFilters() {
+		Page<Employee> page = employeeRepository.findAll(EmployeeSpecifications.matching(new EmployeeFilterDTO()),
+				PageRequest.of(0, 10));
+
+		assertEquals(6, page.getTotalElements());
+	}
+
+	@Test
+	public void testQueryPlans_UseIndexes() {
+		assertTrue(explain("SELECT * FROM employees WHERE department = 'Engineering' AND salary >= 40000")
+				.contains("IDX_EMPLOYEES_DEPARTMENT_SALARY"));
+		assertTrue(explain("SELECT * FROM employees WHERE salary BETWEEN 40000 AND 60000")
+				.contains("IDX_EMPLOYEES_SALARY"));
+		assertTrue(explain("SELECT * FROM employees WHERE joining_date >= DATE '2020-01-01'")
+				.contains("IDX_EMPLOYEES_JOINING_DATE"));
+	}
+
+	private String explain(String sql) {
+		return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toUpperCase();
+	}
+
+	private static Employee employee(String email, String department, Double salary, LocalDate joiningDate) {
+		Employee employee = new Employee();
+		employee.setName(email);
+		employee.setEmail(email);
+		employee.setDepartment(department);
+		employee.setSalary(salary);
+		employee.setJoiningDate(joiningDate);
+		return employee;
+	}
+}
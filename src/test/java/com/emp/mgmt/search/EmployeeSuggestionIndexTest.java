@@ -0,0 +1,106 @@
+package com.emp.mgmt.search;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.dto.EmployeeSuggestionDTO;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeSuggestionIndexTest {
+
+	private EmployeeSuggestionIndex index;
+
+	@BeforeEach
+	public void setUp() {
+		index = new EmployeeSuggestionIndex();
+		index.put(new EmployeeSuggestionDTO(1L, "Pratik Chavan", "pratik@gmail.com"));
+		index.put(new EmployeeSuggestionDTO(2L, "Saurabh Patil", "saurabh@gmail.com"));
+		index.put(new EmployeeSuggestionDTO(3L, "Amit Singh", "amit.singh@example.com"));
+		index.put(new EmployeeSuggestionDTO(4L, "Pratibha Patil", "pp@example.com"));
+	}
+
+	@Test
+	public void testSuggest_NameWordPrefix() {
+		assertEquals(List.of(4L, 1L), ids(index.suggest("prati", 10)));
+		// Both share the token "patil", so their relative order is unspecified
+		assertEquals(Set.of(2L, 4L), Set.copyOf(ids(index.suggest("PAT", 10))));
+	}
+
+	@Test
+	public void testSuggest_FullNameAndEmailPrefix() {
+		assertEquals(List.of(1L), ids(index.suggest("pratik  cha", 10)));
+		assertEquals(List.of(3L), ids(index.suggest("amit.s", 10)));
+		assertEquals(List.of(4L), ids(index.suggest("pp@", 10)));
+	}
+
+	@Test
+	public void testSuggest_NormalizesDiacriticsAndHonorsLimit() {
+		index.put(new EmployeeSuggestionDTO(5L, "Zoë Ångström", "zoe@example.com"));
+
+		assertEquals(List.of(5L), ids(index.suggest("angs", 10)));
+		assertEquals(1, index.suggest("p", 1).size());
+		assertTrue(index.suggest("  ", 10).isEmpty());
+	}
+
+	@Test
+	public void testOnEmployeeChanged_UpdateAndDelete() {
+		EmployeeDTO renamed = new EmployeeDTO();
+		renamed.setName("Pratik Deshmukh");
+		renamed.setEmail("pratik@gmail.com");
+		index.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.Type.UPDATED, 1L, renamed));
+
+		assertTrue(index.suggest("chavan", 10).isEmpty());
+		assertEquals(List.of(1L), ids(index.suggest("desh", 10)));
+
+		index.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.Type.DELETED, 1L, null));
+
+		assertTrue(index.suggest("desh", 10).isEmpty());
+		assertEquals(3, index.size());
+	}
+
+	@Test
+	public void testSuggest_IndependentOfDefaultLocale() {
+		Locale defaultLocale = Locale.getDefault();
+		// Turkish lower-cases "I" to a dotless "ı"
+		Locale.setDefault(Locale.forLanguageTag("tr"));
+		try {
+			index.put(new EmployeeSuggestionDTO(5L, "IVAN ILIC", "IVAN@EXAMPLE.COM"));
+
+			assertEquals(List.of(5L), ids(index.suggest("ilic", 10)));
+			assertEquals(List.of(5L), ids(index.suggest("ivan@", 10)));
+		} finally {
+			Locale.setDefault(defaultLocale);
+		}
+	}
+
+	@Test
+	public void testSuggest_SharedTokenGrowsAndShrinks() {
+		// Out of id order, so some land in the middle of the posting list
+		for (long id = 1000; id >= 100; id -= 3) {
+			index.put(new EmployeeSuggestionDTO(id, "Common Kumar", "kumar" + id + "@example.com"));
+		}
+		for (long id = 101; id <= 1000; id += 3) {
+			index.put(new EmployeeSuggestionDTO(id, "Common Kumar", "kumar" + id + "@example.com"));
+		}
+		for (long id = 101; id <= 1000; id += 3) {
+			index.remove(id);
+		}
+		index.put(new EmployeeSuggestionDTO(100L, "Common Kumar", "kumar100@example.com"));
+
+		List<Long> matches = ids(index.suggest("kumar", 1000));
+		assertEquals(301, matches.size());
+		assertEquals(Set.copyOf(matches).size(), matches.size());
+		assertTrue(matches.stream().allMatch(id -> id % 3 == 1));
+	}
+
+	private static List<Long> ids(List<EmployeeSuggestionDTO> suggestions) {
+		return suggestions.stream().map(EmployeeSuggestionDTO::getId).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,186 @@
+package com.emp.mgmt.service;
+
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.entity.Employee;
+import com.emp.mgmt.exception.ResourceNotFoundException;
+import com.emp.mgmt.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBatchLoaderTest {
+
+	@Mock
+	private EmployeeRepository employeeRepository;
+
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	@Spy
+	private TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+	@InjectMocks
+	private EmployeeBatchLoader batchLoader;
+
+	@Test
+	public void testLoad_ConcurrentLookupsShareQueries() throws Exception {
+		batchLoader.setMaxConcurrentBatches(1);
+		when(employeeRepository.findAllById(any())).thenAnswer(invocation -> {
+			// Slow enough for the other callers to queue behind the first query
+			Thread.sleep(100);
+			return employees(invocation.getArgument(0));
+		});
+
+		int callers = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(callers);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<EmployeeDTO>> results = new ArrayList<>();
+			for (long id = 1; id <= callers; id++) {
+				long employeeId = id;
+				results.add(executor.submit(() -> {
+					start.await();
+					return batchLoader.load(employeeId);
+				}));
+			}
+			start.countDown();
+
+			for (int i = 0; i < callers; i++) {
+				assertEquals(i + 1L, results.get(i).get(5, TimeUnit.SECONDS).getId());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		verify(employeeRepository, atMost(callers / 2)).findAllById(any());
+	}
+
+	@Test
+	public void testLoad_MissingIdThrows() {
+		when(employeeRepository.findAllById(any())).thenReturn(List.of());
+
+		assertThrows(ResourceNotFoundException.class, () -> batchLoader.load(42L));
+	}
+
+	@Test
+	public void testLoad_ErrorInQueryFailsWholeBatch() throws Exception {
+		batchLoader.setMaxConcurrentBatches(1);
+		CountDownLatch firstQuery = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(employeeRepository.findAllById(any())).thenAnswer(invocation -> {
+			firstQuery.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return employees(invocation.getArgument(0));
+		}).thenThrow(new OutOfMemoryError("Simulated"));
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			Future<EmployeeDTO> first = executor.submit(() -> batchLoader.load(1L));
+			assertTrue(firstQuery.await(5, TimeUnit.SECONDS));
+			// Both queue behind the first query and share the second one, which fails with an Error
+			Future<EmployeeDTO> second = executor.submit(() -> batchLoader.load(2L));
+			Future<EmployeeDTO> third = executor.submit(() -> batchLoader.load(3L));
+			Thread.sleep(100);
+			release.countDown();
+
+			assertEquals(1L, first.get(5, TimeUnit.SECONDS).getId());
+			for (Future<EmployeeDTO> failed : List.of(second, third)) {
+				ExecutionException ex = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+				assertInstanceOf(OutOfMemoryError.class, ex.getCause());
+			}
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLoad_WaitTimesOut() throws Exception {
+		batchLoader.setMaxConcurrentBatches(1);
+		batchLoader.setTimeout(Duration.ofMillis(100));
+		CountDownLatch firstQuery = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(employeeRepository.findAllById(any())).thenAnswer(invocation -> {
+			firstQuery.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return employees(invocation.getArgument(0));
+		}).thenAnswer(invocation -> employees(invocation.getArgument(0)));
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<EmployeeDTO> first = executor.submit(() -> batchLoader.load(1L));
+			assertTrue(firstQuery.await(5, TimeUnit.SECONDS));
+
+			assertThrows(QueryTimeoutException.class, () -> batchLoader.load(2L));
+			release.countDown();
+			assertEquals(1L, first.get(5, TimeUnit.SECONDS).getId());
+			// The timed-out id was dropped from the queue, so a later lookup gets a fresh query
+			assertEquals(2L, batchLoader.load(2L).getId());
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testLoad_CoalescingDisabled() {
+		batchLoader.setCoalescing(false);
+		when(employeeRepository.findAllById(any())).thenAnswer(invocation -> employees(invocation.getArgument(0)));
+
+		assertEquals(1L, batchLoader.load(1L).getId());
+		assertEquals(2L, batchLoader.load(2L).getId());
+
+		verify(employeeRepository, times(2)).findAllById(any());
+	}
+
+	@Test
+	public void testLoadAll_KeepsRequestOrderAndSkipsUnknownIds() {
+		when(employeeRepository.findAllById(any())).thenAnswer(invocation -> {
+			// IN queries come back in index order, not in the order asked for
+			List<Employee> found = employees(invocation.getArgument(0));
+			found.removeIf(employee -> employee.getId() == 99L);
+			found.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+			return found;
+		});
+
+		Map<Long, EmployeeDTO> employees = batchLoader.loadAll(List.of(3L, 1L, 99L, 3L, 2L));
+
+		assertEquals(List.of(3L, 1L, 2L), List.copyOf(employees.keySet()));
+		verify(employeeRepository).findAllById(List.of(3L, 1L, 99L, 2L));
+	}
+
+	private static List<Employee> employees(Iterable<Long> ids) {
+		List<Employee> employees = new ArrayList<>();
+		Collection<Long> distinct = StreamSupport.stream(ids.spliterator(), false).distinct().toList();
+		for (Long id : distinct) {
+			Employee employee = new Employee();
+			employee.setId(id);
+			employee.setName("Employee " + id);
+			employee.setEmail("employee" + id + "@example.com");
+			employees.add(employee);
+		}
+		return employees;
+	}
+}
@@ -0,0 +1,256 @@
+package com.emp.mgmt.service;
+
+import com.emp.mgmt.config.CacheConfig;
+import com.emp.mgmt.dto.EmployeeBulkPatchDTO;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.exception.ResourceNotFoundException;
+import com.emp.mgmt.repository.EmployeeRepository;
+import com.emp.mgmt.search.EmployeeSuggestionIndex;
+import com.emp.mgmt.stats.DepartmentStatsAggregator;
+import com.emp.mgmt.stats.EmployeeCountEstimator;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(EmployeeServiceCacheTest.Config.class)
+class EmployeeServiceCacheTest {
+
+	@Configuration
+	@Import({ CacheConfig.class, EmployeeServiceImpl.class, EmployeeCache.class })
+	static class Config {
+
+		@Bean
+		CacheManager cacheManager() {
+			CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.EMPLOYEES_CACHE);
+			cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100).recordStats());
+			return cacheManager;
+		}
+	}
+
+	@MockitoBean
+	private EmployeeRepository employeeRepository;
+
+	@MockitoBean
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockitoBean
+	private Validator validator;
+
+	@MockitoBean
+	private EmployeeSuggestionIndex suggestionIndex;
+
+	@MockitoBean
+	private DepartmentStatsAggregator statsAggregator;
+
+	@MockitoBean
+	private TransactionTemplate transactionTemplate;
+
+	@MockitoBean
+	private EmployeeBatchLoader batchLoader;
+
+	@MockitoBean
+	private EmployeeCountEstimator countEstimator;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@BeforeEach
+	public void clearCaches() {
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+	}
+
+	@Test
+	public void testGetEmployeeById_ServedFromCache() {
+		when(batchLoader.load(1L)).thenReturn(employee(1L, "Pratik Chavan"));
+		CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+		CacheStats before = cache.getNativeCache().stats();
+
+		employeeService.getEmployeeById(1L);
+		EmployeeDTO cached = employeeService.getEmployeeById(1L);
+
+		assertEquals("Pratik Chavan", cached.getName());
+		verify(batchLoader, times(1)).load(1L);
+		CacheStats stats = cache.getNativeCache().stats().minus(before);
+		assertEquals(1, stats.hitCount());
+		assertEquals(1, stats.missCount());
+	}
+
+	@Test
+	public void testGetEmployeeById_NotStaleAfterUpdate() {
+		when(batchLoader.load(1L)).thenReturn(employee(1L, "Pratik Chavan"));
+		when(employeeRepository.updateById(eq(1L), any(), any(), any(), any(), any())).thenReturn(1);
+		when(employeeRepository.findVersionById(1L)).thenReturn(Optional.of(1L));
+		employeeService.getEmployeeById(1L);
+
+		EmployeeDTO update = new EmployeeDTO();
+		update.setName("Pratik Chavan Updated");
+		employeeService.updateEmployee(1L, update);
+
+		EmployeeDTO cached = employeeService.getEmployeeById(1L);
+		assertEquals("Pratik Chavan Updated", cached.getName());
+		assertEquals(1L, cached.getVersion());
+		verify(batchLoader, times(1)).load(1L);
+	}
+
+	@Test
+	public void testGetEmployeeById_CachedWithNewVersionAfterConditionalUpdate() {
+		when(batchLoader.load(1L)).thenReturn(employee(1L, "Pratik Chavan"));
+		when(employeeRepository.updateByIdAndVersion(eq(1L), eq(0L), any(), any(), any(), any(), any()))
+				.thenReturn(1);
+		employeeService.getEmployeeById(1L);
+
+		EmployeeDTO update = new EmployeeDTO();
+		update.setName("Pratik Chavan Updated");
+		employeeService.updateEmployee(1L, update, 0L);
+
+		EmployeeDTO cached = employeeService.getEmployeeById(1L);
+		assertEquals("Pratik Chavan Updated", cached.getName());
+		assertEquals(1L, cached.getVersion());
+		verify(batchLoader, times(1)).load(1L);
+	}
+
+	@Test
+	public void testGetEmployeeById_NotStaleAfterDelete() {
+		when(batchLoader.load(1L)).thenReturn(employee(1L, "Pratik Chavan"));
+		when(employeeRepository.deleteEmployeeById(1L)).thenReturn(1);
+		employeeService.getEmployeeById(1L);
+
+		employeeService.deleteEmployee(1L);
+		when(batchLoader.load(1L)).thenThrow(new ResourceNotFoundException("Employee not found with id: 1"));
+
+		assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeById(1L));
+	}
+
+	@Test
+	public void testGetEmployeesByIds_OnlyUncachedIdsLoaded() {
+		when(batchLoader.load(1L)).thenReturn(employee(1L, "Pratik Chavan"));
+		when(batchLoader.loadAll(List.of(2L, 3L))).thenReturn(Map.of(2L, employee(2L, "Second Employee")));
+		employeeService.getEmployeeById(1L);
+
+		List<EmployeeDTO> employees = employeeService.getEmployeesByIds(List.of(2L, 1L, 3L, 2L));
+
+		assertEquals(List.of(2L, 1L), employees.stream().map(EmployeeDTO::getId).toList());
+		verify(batchLoader, times(1)).loadAll(List.of(2L, 3L));
+		// Loaded employees are cached for single lookups
+		assertEquals("Second Employee", employeeService.getEmployeeById(2L).getName());
+		verify(batchLoader, never()).load(2L);
+	}
+
+	@Test
+	public void testGetEmployeeById_LoadRacingConditionalUpdateNotCached() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch updated = new CountDownLatch(1);
+		when(batchLoader.load(1L)).thenAnswer(invocation -> {
+			EmployeeDTO before = employee(1L, "Pratik Chavan", 0L);
+			loading.countDown();
+			updated.await(5, TimeUnit.SECONDS);
+			return before;
+		});
+		when(employeeRepository.updateByIdAndVersion(eq(1L), eq(0L), any(), any(), any(), any(), any()))
+				.thenReturn(1);
+
+		CompletableFuture<EmployeeDTO> read = CompletableFuture.supplyAsync(() -> employeeService.getEmployeeById(1L));
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+		EmployeeDTO update = new EmployeeDTO();
+		update.setName("Pratik Chavan Updated");
+		employeeService.updateEmployee(1L, update, 0L);
+		updated.countDown();
+
+		// The racing read still answers with what it loaded, but does not replace the newer entry
+		assertEquals("Pratik Chavan", read.get(5, TimeUnit.SECONDS).getName());
+		assertEquals("Pratik Chavan Updated", employeeService.getEmployeeById(1L).getName());
+		verify(batchLoader, times(1)).load(1L);
+	}
+
+	@Test
+	public void testGetEmployeeById_LoadRacingDeleteNotCached() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch deleted = new CountDownLatch(1);
+		when(batchLoader.load(1L)).thenAnswer(invocation -> {
+			loading.countDown();
+			deleted.await(5, TimeUnit.SECONDS);
+			return employee(1L, "Pratik Chavan", 0L);
+		}).thenThrow(new ResourceNotFoundException("Employee not found with id: 1"));
+		when(employeeRepository.deleteEmployeeById(1L)).thenReturn(1);
+
+		CompletableFuture<EmployeeDTO> read = CompletableFuture.supplyAsync(() -> employeeService.getEmployeeById(1L));
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+		employeeService.deleteEmployee(1L);
+		deleted.countDown();
+		read.get(5, TimeUnit.SECONDS);
+
+		assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeById(1L));
+		verify(batchLoader, times(2)).load(1L);
+	}
+
+	@Test
+	public void testGetEmployeesByIds_LoadRacingBulkUpdateNotCached() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch patched = new CountDownLatch(1);
+		when(batchLoader.loadAll(List.of(1L))).thenAnswer(invocation -> {
+			loading.countDown();
+			patched.await(5, TimeUnit.SECONDS);
+			return Map.of(1L, employee(1L, "Pratik Chavan", 0L));
+		});
+		when(employeeRepository.patchMatching(any(), any(), any())).thenReturn(1);
+
+		CompletableFuture<List<EmployeeDTO>> read = CompletableFuture
+				.supplyAsync(() -> employeeService.getEmployeesByIds(List.of(1L)));
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+		EmployeeFilterDTO filter = new EmployeeFilterDTO();
+		filter.setDepartment("IT");
+		EmployeeBulkPatchDTO patch = new EmployeeBulkPatchDTO();
+		patch.setDepartment(Optional.of("Engineering"));
+		employeeService.patchEmployees(filter, patch);
+		patched.countDown();
+		read.get(5, TimeUnit.SECONDS);
+		when(batchLoader.load(1L)).thenReturn(employee(1L, "Pratik Chavan", 1L));
+
+		// Bulk updates carry no per-row versions; a load that overlapped one is dropped
+		assertEquals(1L, employeeService.getEmployeeById(1L).getVersion());
+		verify(batchLoader, times(1)).load(1L);
+	}
+
+	private static EmployeeDTO employee(Long id, String name, Long version) {
+		EmployeeDTO employee = employee(id, name);
+		employee.setVersion(version);
+		return employee;
+	}
+
+	private static EmployeeDTO employee(Long id, String name) {
+		EmployeeDTO employee = new EmployeeDTO();
+		employee.setId(id);
+		employee.setName(name);
+		return employee;
+	}
+}
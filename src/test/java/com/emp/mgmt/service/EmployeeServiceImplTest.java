@@ -1,23 +1,61 @@
 package com.emp.mgmt.service;
 
+import com.emp.mgmt.dto.BulkItemResultDTO;
+import com.emp.mgmt.dto.CsvImportErrorDTO;
+import com.emp.mgmt.dto.CsvImportResultDTO;
+import com.emp.mgmt.dto.CursorPageDTO;
+import com.emp.mgmt.dto.EmployeeBulkPatchDTO;
 import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.dto.EmployeeFilterDTO;
+import com.emp.mgmt.dto.EmployeePatchDTO;
 import com.emp.mgmt.entity.Employee;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+import com.emp.mgmt.exception.DuplicateEmailException;
 import com.emp.mgmt.exception.ResourceNotFoundException;
+import com.emp.mgmt.exception.VersionConflictException;
 import com.emp.mgmt.mapper.EmployeeMapper;
 import com.emp.mgmt.repository.EmployeeRepository;
+import com.emp.mgmt.stats.EmployeeCountEstimator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +63,30 @@ class EmployeeServiceImplTest {
 	@Mock
 	private EmployeeRepository employeeRepository;
 
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private EmployeeBatchLoader batchLoader;
+
+	@Mock
+	private EmployeeCountEstimator countEstimator;
+
+	/** Without a cache manager every lookup misses. */
+	@Spy
+	private EmployeeCache employeeCache = new EmployeeCache();
+
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	@Spy
+	private TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+	@Spy
+	private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
 	@InjectMocks
 	private EmployeeServiceImpl employeeService;
 
@@ -36,7 +98,7 @@ class EmployeeServiceImplTest {
 		employeeDTO.setEmail("pratik@gmail.com.com");
 
 		Employee employee = EmployeeMapper.toEntity(employeeDTO);
-		when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+		when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(employee);
 
 		// Act
 		EmployeeDTO savedEmployee = employeeService.addEmployee(employeeDTO);
@@ -45,18 +107,69 @@ class EmployeeServiceImplTest {
 		assertNotNull(savedEmployee);
 		assertEquals("Pratik Chavan", savedEmployee.getName());
 		assertEquals("pratik@gmail.com.com", savedEmployee.getEmail());
-		verify(employeeRepository, times(1)).save(any(Employee.class));
+		verify(employeeRepository, times(1)).saveAndFlush(any(Employee.class));
+		verify(employeeRepository, never()).existsByEmail(any());
+	}
+
+	@Test
+	public void testAddEmployee_DuplicateEmail() {
+		// Arrange
+		EmployeeDTO employeeDTO = new EmployeeDTO();
+		employeeDTO.setName("Pratik Chavan");
+		employeeDTO.setEmail("pratik@gmail.com");
+
+		when(employeeRepository.saveAndFlush(any(Employee.class))).thenThrow(new DataIntegrityViolationException(
+				"could not execute statement", new ConstraintViolationException("duplicate key", null,
+						Employee.EMAIL_UNIQUE_CONSTRAINT)));
+
+		// Act & Assert
+		DuplicateEmailException ex = assertThrows(DuplicateEmailException.class,
+				() -> employeeService.addEmployee(employeeDTO));
+		assertEquals("Email already exists: pratik@gmail.com", ex.getMessage());
+	}
+
+	@Test
+	public void testAddEmployee_DuplicateEmail_GeneratedConstraintName() {
+		EmployeeDTO employeeDTO = new EmployeeDTO();
+		employeeDTO.setName("Pratik Chavan");
+		employeeDTO.setEmail("pratik@gmail.com");
+
+		// A database created before the constraint was named, as PostgreSQL reports it
+		SQLException sqlException = new SQLException("ERROR: duplicate key value violates unique constraint "
+				+ "\"uk6vq5b3lg0xsnypk1kq4u8hwkg\"\n  Detail: Key (email)=(pratik@gmail.com) already exists.", "23505");
+		when(employeeRepository.saveAndFlush(any(Employee.class))).thenThrow(new DataIntegrityViolationException(
+				"could not execute statement", new ConstraintViolationException("could not execute statement",
+						sqlException, "uk6vq5b3lg0xsnypk1kq4u8hwkg")));
+
+		DuplicateEmailException ex = assertThrows(DuplicateEmailException.class,
+				() -> employeeService.addEmployee(employeeDTO));
+		assertEquals("Email already exists: pratik@gmail.com", ex.getMessage());
+	}
+
+	@Test
+	public void testAddEmployee_PrimaryKeyViolationNotDuplicateEmail() {
+		EmployeeDTO employeeDTO = new EmployeeDTO();
+		employeeDTO.setName("Pratik Chavan");
+		employeeDTO.setEmail("pratik@gmail.com");
+
+		SQLException sqlException = new SQLException("ERROR: duplicate key value violates unique constraint "
+				+ "\"employees_pkey\"\n  Detail: Key (id)=(1) already exists.", "23505");
+		when(employeeRepository.saveAndFlush(any(Employee.class))).thenThrow(new DataIntegrityViolationException(
+				"could not execute statement",
+				new ConstraintViolationException("could not execute statement", sqlException, "employees_pkey")));
+
+		assertThrows(DataIntegrityViolationException.class, () -> employeeService.addEmployee(employeeDTO));
 	}
 
 	@Test
 	public void testGetEmployeeById() {
 		// Arrange
 		Long id = 1L;
-		Employee employee = new Employee();
+		EmployeeDTO employee = new EmployeeDTO();
 		employee.setId(id);
 		employee.setName("Pratik Chavan");
 
-		when(employeeRepository.findById(id)).thenReturn(Optional.of(employee));
+		when(batchLoader.load(id)).thenReturn(employee);
 
 		// Act
 		EmployeeDTO employeeDTO = employeeService.getEmployeeById(id);
@@ -64,18 +177,18 @@ class EmployeeServiceImplTest {
 		// Assert
 		assertNotNull(employeeDTO);
 		assertEquals("Pratik Chavan", employeeDTO.getName());
-		verify(employeeRepository, times(1)).findById(id);
+		verify(batchLoader, times(1)).load(id);
 	}
 
 	@Test
 	public void testGetEmployeeById_NotFound() {
 		// Arrange
 		Long id = 1L;
-		when(employeeRepository.findById(id)).thenReturn(Optional.empty());
+		when(batchLoader.load(id)).thenThrow(new ResourceNotFoundException("Employee not found with id: " + id));
 
 		// Act & Assert
 		assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeById(id));
-		verify(employeeRepository, times(1)).findById(id);
+		verify(batchLoader, times(1)).load(id);
 	}
 
 	@Test
@@ -105,45 +218,416 @@ class EmployeeServiceImplTest {
 		employeeDTO.setName("Pratik Chavan Updated");
 		employeeDTO.setEmail("john.doe.updated@example.com");
 
-		Employee existingEmployee = new Employee();
-		existingEmployee.setId(id);
-		existingEmployee.setName("Pratik Chavan");
-
-		when(employeeRepository.findById(id)).thenReturn(Optional.of(existingEmployee));
-		when(employeeRepository.save(any(Employee.class))).thenReturn(existingEmployee);
+		when(employeeRepository.updateById(id, "Pratik Chavan Updated", "john.doe.updated@example.com", null, null,
+				null)).thenReturn(1);
+		when(employeeRepository.findVersionById(id)).thenReturn(Optional.of(2L));
 
 		// Act
 		EmployeeDTO updatedEmployee = employeeService.updateEmployee(id, employeeDTO);
 
 		// Assert
 		assertNotNull(updatedEmployee);
+		assertEquals(id, updatedEmployee.getId());
 		assertEquals("Pratik Chavan Updated", updatedEmployee.getName());
 		assertEquals("john.doe.updated@example.com", updatedEmployee.getEmail());
-		verify(employeeRepository, times(1)).findById(id);
-		verify(employeeRepository, times(1)).save(any(Employee.class));
+		assertEquals(2L, updatedEmployee.getVersion());
+		verify(employeeRepository, never()).findById(id);
+		verify(employeeRepository, never()).save(any(Employee.class));
+		ArgumentCaptor<EmployeeChangedEvent> event = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertEquals(EmployeeChangedEvent.Type.UPDATED, event.getValue().getType());
+		assertEquals("Pratik Chavan Updated", event.getValue().getEmployee().getName());
+		assertEquals(2L, event.getValue().getEmployee().getVersion());
+	}
+
+	@Test
+	public void testUpdateEmployee_NotFound() {
+		// Arrange
+		Long id = 99L;
+		EmployeeDTO employeeDTO = new EmployeeDTO();
+		employeeDTO.setName("Pratik Chavan Updated");
+		when(employeeRepository.updateById(eq(id), any(), any(), any(), any(), any())).thenReturn(0);
+
+		// Act & Assert
+		assertThrows(ResourceNotFoundException.class, () -> employeeService.updateEmployee(id, employeeDTO));
+	}
+
+	@Test
+	public void testUpdateEmployee_MatchingVersion() {
+		EmployeeDTO employeeDTO = new EmployeeDTO();
+		employeeDTO.setName("Pratik Chavan Updated");
+		when(employeeRepository.updateByIdAndVersion(1L, 3L, "Pratik Chavan Updated", null, null, null, null))
+				.thenReturn(1);
+
+		EmployeeDTO updatedEmployee = employeeService.updateEmployee(1L, employeeDTO, 3L);
+
+		assertEquals(4L, updatedEmployee.getVersion());
+		verify(employeeRepository, never()).findVersionById(1L);
+	}
+
+	@Test
+	public void testUpdateEmployee_VersionConflict() {
+		EmployeeDTO employeeDTO = new EmployeeDTO();
+		employeeDTO.setName("Pratik Chavan Updated");
+		when(employeeRepository.updateByIdAndVersion(eq(1L), eq(3L), any(), any(), any(), any(), any()))
+				.thenReturn(0);
+		when(employeeRepository.findVersionById(1L)).thenReturn(Optional.of(5L));
+
+		VersionConflictException ex = assertThrows(VersionConflictException.class,
+				() -> employeeService.updateEmployee(1L, employeeDTO, 3L));
+
+		assertEquals(5L, ex.getCurrentVersion());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	public void testUpdateEmployee_WithVersion_NotFound() {
+		EmployeeDTO employeeDTO = new EmployeeDTO();
+		employeeDTO.setName("Pratik Chavan Updated");
+		when(employeeRepository.updateByIdAndVersion(eq(99L), eq(0L), any(), any(), any(), any(), any()))
+				.thenReturn(0);
+		when(employeeRepository.findVersionById(99L)).thenReturn(Optional.empty());
+
+		assertThrows(ResourceNotFoundException.class, () -> employeeService.updateEmployee(99L, employeeDTO, 0L));
+	}
+
+	@Test
+	public void testPatchEmployee_OnlyPatchedColumns() {
+		EmployeePatchDTO patch = new EmployeePatchDTO();
+		patch.setName(Optional.of("Pratik Chavan Patched"));
+		patch.setDepartment(Optional.empty());
+		Map<String, Object> values = new LinkedHashMap<>();
+		values.put("name", "Pratik Chavan Patched");
+		values.put("department", null);
+		Employee employee = new Employee();
+		employee.setId(1L);
+		employee.setName("Pratik Chavan Patched");
+		employee.setEmail("pratik@example.com");
+		employee.setVersion(4L);
+		when(employeeRepository.patchById(1L, null, values)).thenReturn(1);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+
+		EmployeeDTO patchedEmployee = employeeService.patchEmployee(1L, patch);
+
+		assertEquals("pratik@example.com", patchedEmployee.getEmail());
+		assertEquals(4L, patchedEmployee.getVersion());
+		verify(employeeRepository, never()).save(any(Employee.class));
+		ArgumentCaptor<EmployeeChangedEvent> event = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertEquals(EmployeeChangedEvent.Type.UPDATED, event.getValue().getType());
+		assertEquals("Pratik Chavan Patched", event.getValue().getEmployee().getName());
+	}
+
+	@Test
+	public void testPatchEmployee_VersionConflict() {
+		EmployeePatchDTO patch = new EmployeePatchDTO();
+		patch.setSalary(Optional.of(52000.0));
+		when(employeeRepository.patchById(eq(1L), eq(3L), any())).thenReturn(0);
+		when(employeeRepository.findVersionById(1L)).thenReturn(Optional.of(5L));
+
+		VersionConflictException ex = assertThrows(VersionConflictException.class,
+				() -> employeeService.patchEmployee(1L, patch, 3L));
+
+		assertEquals(5L, ex.getCurrentVersion());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	public void testPatchEmployee_EmptyPatchChangesNothing() {
+		Employee employee = new Employee();
+		employee.setId(1L);
+		employee.setName("Pratik Chavan");
+		employee.setVersion(2L);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+
+		assertEquals("Pratik Chavan", employeeService.patchEmployee(1L, new EmployeePatchDTO()).getName());
+
+		verify(employeeRepository, never()).patchById(any(), any(), any());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	public void testPatchEmployees_SalaryAdjustment() {
+		EmployeeBulkPatchDTO patch = new EmployeeBulkPatchDTO();
+		patch.setSalaryAdjustmentPercent(10.0);
+		EmployeeFilterDTO filter = new EmployeeFilterDTO();
+		filter.setDepartment("Finance");
+		when(employeeRepository.patchMatching(any(), eq(Map.of()), eq(1.1))).thenReturn(12);
+
+		assertEquals(12, employeeService.patchEmployees(filter, patch));
+
+		ArgumentCaptor<EmployeeChangedEvent> event = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertEquals(EmployeeChangedEvent.Type.BULK_UPDATED, event.getValue().getType());
+	}
+
+	@Test
+	public void testPatchEmployees_RequiresFilterAndChange() {
+		EmployeeBulkPatchDTO raise = new EmployeeBulkPatchDTO();
+		raise.setSalaryAdjustmentPercent(10.0);
+		EmployeeFilterDTO finance = new EmployeeFilterDTO();
+		finance.setDepartment("Finance");
+
+		assertThrows(IllegalArgumentException.class,
+				() -> employeeService.patchEmployees(new EmployeeFilterDTO(), raise));
+		assertThrows(IllegalArgumentException.class,
+				() -> employeeService.patchEmployees(finance, new EmployeeBulkPatchDTO()));
+		raise.setSalary(Optional.of(50000.0));
+		assertThrows(IllegalArgumentException.class, () -> employeeService.patchEmployees(finance, raise));
+		verify(employeeRepository, never()).patchMatching(any(), any(), any());
 	}
 
 	@Test
 	public void testDeleteEmployee() {
 		// Arrange
 		Long id = 1L;
-		when(employeeRepository.existsById(id)).thenReturn(true);
+		when(employeeRepository.deleteEmployeeById(id)).thenReturn(1);
 
 		// Act
 		employeeService.deleteEmployee(id);
 
 		// Assert
-		verify(employeeRepository, times(1)).deleteById(id);
+		verify(employeeRepository, times(1)).deleteEmployeeById(id);
+		verify(employeeRepository, never()).existsById(id);
+		ArgumentCaptor<EmployeeChangedEvent> event = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertEquals(EmployeeChangedEvent.Type.DELETED, event.getValue().getType());
+		assertEquals(id, event.getValue().getId());
 	}
 
 	@Test
 	public void testDeleteEmployee_NotFound() {
 		// Arrange
 		Long id = 99L;
-		when(employeeRepository.existsById(id)).thenReturn(false);
+		when(employeeRepository.deleteEmployeeById(id)).thenReturn(0);
 
 		// Act & Assert
 		assertThrows(ResourceNotFoundException.class, () -> employeeService.deleteEmployee(id));
-		verify(employeeRepository, times(1)).existsById(id);
+		verify(employeeRepository, times(1)).deleteEmployeeById(id);
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	public void testStreamAllEmployees() {
+		// Arrange
+		Employee first = new Employee();
+		first.setId(1L);
+		first.setName("Pratik Chavan");
+		Employee second = new Employee();
+		second.setId(2L);
+		second.setName("Saurabh Patil");
+
+		when(employeeRepository.streamAllBy()).thenReturn(Stream.of(first, second));
+
+		// Act
+		List<EmployeeDTO> streamed = new ArrayList<>();
+		employeeService.streamAllEmployees(streamed::add);
+
+		// Assert
+		assertEquals(2, streamed.size());
+		assertEquals("Saurabh Patil", streamed.get(1).getName());
+		verify(entityManager, times(1)).detach(first);
+		verify(entityManager, times(1)).detach(second);
+	}
+
+	@Test
+	public void testGetAllEmployeesByCursor() {
+		// Arrange
+		Employee first = new Employee();
+		first.setId(4L);
+		first.setName("Amit Singh");
+		Employee second = new Employee();
+		second.setId(2L);
+		second.setName("Pratik Chavan");
+
+		when(employeeRepository.findAllBy(eq(ScrollPosition.keyset()), any(Sort.class), eq(Limit.of(2))))
+				.thenReturn(Window.from(List.of(first, second), ScrollPosition::offset, true));
+
+		// Act
+		CursorPageDTO<EmployeeDTO> page = employeeService.getAllEmployees(null, 2, "name");
+
+		// Assert
+		assertEquals(2, page.getContent().size());
+		assertTrue(page.isHasNext());
+		assertNotNull(page.getNextCursor());
+
+		// Feeding the cursor back seeks past the last row on (name, id)
+		when(employeeRepository.findAllBy(any(KeysetScrollPosition.class), any(Sort.class), eq(Limit.of(2))))
+				.thenReturn(Window.from(List.of(), ScrollPosition::offset, false));
+		CursorPageDTO<EmployeeDTO> next = employeeService.getAllEmployees(page.getNextCursor(), 2, "name");
+
+		ArgumentCaptor<ScrollPosition> position = ArgumentCaptor.forClass(ScrollPosition.class);
+		verify(employeeRepository, times(2)).findAllBy(position.capture(), eq(Sort.by("name").and(Sort.by("id"))),
+				eq(Limit.of(2)));
+		KeysetScrollPosition keyset = (KeysetScrollPosition) position.getAllValues().get(1);
+		assertEquals("Pratik Chavan", keyset.getKeys().get("name"));
+		assertEquals(2L, keyset.getKeys().get("id"));
+		assertFalse(next.isHasNext());
+		assertNull(next.getNextCursor());
+	}
+
+	@Test
+	public void testGetAllEmployeesApproximate_EstimatedTotal() {
+		// Arrange
+		Employee employee = new Employee();
+		employee.setId(1L);
+		when(employeeRepository.findSliceBy(PageRequest.of(2, 1)))
+				.thenReturn(new SliceImpl<>(List.of(employee), PageRequest.of(2, 1), true));
+		when(countEstimator.getApproximateCount()).thenReturn(40L);
+
+		// Act
+		Page<EmployeeDTO> page = employeeService.getAllEmployeesApproximate(PageRequest.of(2, 1));
+
+		// Assert
+		assertEquals(40, page.getTotalElements());
+		assertEquals(1L, page.getContent().get(0).getId());
+		verify(employeeRepository, never()).count();
+	}
+
+	@Test
+	public void testGetAllEmployeesApproximate_ConsistentWithSlice() {
+		Employee employee = new Employee();
+		when(countEstimator.getApproximateCount()).thenReturn(2L);
+
+		// More rows follow page 4, so the total exceeds 5 whatever the estimate says
+		when(employeeRepository.findSliceBy(PageRequest.of(4, 1)))
+				.thenReturn(new SliceImpl<>(List.of(employee), PageRequest.of(4, 1), true));
+		assertEquals(6, employeeService.getAllEmployeesApproximate(PageRequest.of(4, 1)).getTotalElements());
+
+		// The last page ends exactly at the total and needs no estimate
+		when(employeeRepository.findSliceBy(PageRequest.of(1, 10)))
+				.thenReturn(new SliceImpl<>(List.of(employee), PageRequest.of(1, 10), false));
+		Page<EmployeeDTO> last = employeeService.getAllEmployeesApproximate(PageRequest.of(1, 10));
+		assertEquals(11, last.getTotalElements());
+		assertEquals(2, last.getTotalPages());
+		verify(countEstimator, times(1)).getApproximateCount();
+	}
+
+	@Test
+	public void testGetAllEmployeesByCursor_InvalidCursor() {
+		assertThrows(IllegalArgumentException.class, () -> employeeService.getAllEmployees(null, 10, "salary"));
+		assertThrows(IllegalArgumentException.class, () -> employeeService.getAllEmployees("not-a-cursor", 10, "id"));
+		verify(employeeRepository, never()).findAllBy(any(), any(), any());
+	}
+
+	@Test
+	public void testAddEmployees() {
+		// Arrange
+		EmployeeDTO valid = new EmployeeDTO();
+		valid.setName("Pratik Chavan");
+		valid.setEmail("pratik@gmail.com");
+		EmployeeDTO existing = new EmployeeDTO();
+		existing.setName("Saurabh Patil");
+		existing.setEmail("saurabh@gmail.com");
+		EmployeeDTO repeated = new EmployeeDTO();
+		repeated.setName("Pratik Again");
+		repeated.setEmail("pratik@gmail.com");
+		EmployeeDTO invalid = new EmployeeDTO();
+		invalid.setEmail("amit@gmail.com");
+
+		when(employeeRepository.findExistingEmails(any())).thenReturn(List.of("saurabh@gmail.com"));
+		when(employeeRepository.saveAll(any())).thenAnswer(invocation -> {
+			List<Employee> employees = new ArrayList<>(invocation.getArgument(0));
+			employees.get(0).setId(10L);
+			return employees;
+		});
+
+		// Act
+		List<BulkItemResultDTO> results = employeeService.addEmployees(List.of(valid, existing, repeated, invalid));
+
+		// Assert
+		assertEquals(4, results.size());
+		assertEquals(BulkItemResultDTO.Status.CREATED, results.get(0).getStatus());
+		assertEquals(10L, results.get(0).getId());
+		assertEquals(BulkItemResultDTO.Status.DUPLICATE_EMAIL, results.get(1).getStatus());
+		assertEquals(BulkItemResultDTO.Status.DUPLICATE_EMAIL, results.get(2).getStatus());
+		assertEquals(BulkItemResultDTO.Status.INVALID, results.get(3).getStatus());
+		assertEquals("name: Name is mandatory", results.get(3).getMessage());
+		verify(employeeRepository, times(1)).findExistingEmails(any());
+		verify(employeeRepository, times(1)).saveAll(any());
+		verify(entityManager, times(1)).flush();
+	}
+
+	@Test
+	public void testImportEmployees() throws Exception {
+		// Arrange
+		ReflectionTestUtils.setField(employeeService, "importBatchSize", 2);
+		String csv = "\uFEFFName,Email,Salary,Department\n"
+				+ "Pratik Chavan,pratik@gmail.com,50000,Engineering\n"
+				+ "Saurabh Patil,saurabh@gmail.com,lots,Engineering\n"
+				+ "Amit Shah,amit@gmail.com,,\n"
+				+ ",nameless@gmail.com,,\n"
+				+ "Pratik Again,pratik@gmail.com,,\n";
+		List<String> savedEmails = new ArrayList<>();
+		when(employeeRepository.findExistingEmails(any())).thenAnswer(invocation -> savedEmails.stream()
+				.filter(invocation.<List<String>>getArgument(0)::contains).toList());
+		when(employeeRepository.saveAll(any())).thenAnswer(invocation -> {
+			List<Employee> employees = new ArrayList<>(invocation.getArgument(0));
+			employees.forEach(employee -> savedEmails.add(employee.getEmail()));
+			return employees;
+		});
+
+		// Act
+		CsvImportResultDTO report = employeeService.importEmployees(new StringReader(csv));
+
+		// Assert
+		assertEquals(5, report.getRows());
+		assertEquals(2, report.getCreated());
+		assertEquals(3, report.getFailed());
+		assertEquals(List.of(3L, 5L, 6L), report.getErrors().stream().map(CsvImportErrorDTO::getLine).toList());
+		assertEquals("salary: not a number: lots", report.getErrors().get(0).getMessage());
+		assertEquals("name: Name is mandatory", report.getErrors().get(1).getMessage());
+		// The duplicate is caught by the database lookup of its own chunk
+		assertEquals(BulkItemResultDTO.Status.DUPLICATE_EMAIL, report.getErrors().get(2).getStatus());
+		// Four parsed rows in chunks of two: one transaction per chunk
+		verify(transactionManager, times(2)).commit(any());
+	}
+
+	@Test
+	public void testImportEmployees_MalformedRowStopsImport() throws Exception {
+		when(employeeRepository.findExistingEmails(any())).thenReturn(List.of());
+		when(employeeRepository.saveAll(any())).thenAnswer(invocation -> new ArrayList<>(invocation.getArgument(0)));
+
+		CsvImportResultDTO report = employeeService.importEmployees(
+				new StringReader("name,email\nPratik Chavan,pratik@gmail.com\n\"Unterminated,amit@gmail.com\n"));
+
+		assertEquals(1, report.getCreated());
+		assertEquals(1, report.getFailed());
+		assertTrue(report.getErrors().get(0).getMessage().startsWith("Malformed CSV, import stopped"));
+	}
+
+	@Test
+	public void testImportEmployees_ErrorReportIsCapped() throws Exception {
+		ReflectionTestUtils.setField(employeeService, "maxReportedImportErrors", 1);
+
+		CsvImportResultDTO report = employeeService
+				.importEmployees(new StringReader("name,email\n,a@gmail.com\n,b@gmail.com\n,c@gmail.com\n"));
+
+		assertEquals(3, report.getFailed());
+		assertEquals(1, report.getErrors().size());
+		assertTrue(report.isErrorsTruncated());
+	}
+
+	@Test
+	public void testImportEmployees_MissingRequiredColumn() {
+		assertThrows(IllegalArgumentException.class,
+				() -> employeeService.importEmployees(new StringReader("name,department\nPratik Chavan,HR\n")));
+		verifyNoInteractions(employeeRepository);
+	}
+
+	@Test
+	public void testGetAllEmployees_UnknownField() {
+		assertThrows(IllegalArgumentException.class,
+				() -> employeeService.getAllEmployees(List.of("id", "password")));
+		verify(employeeRepository, never()).findAllProjected(any());
+	}
+
+	@Test
+	public void testSearchEmployees_InvalidSalaryRange() {
+		EmployeeFilterDTO filter = new EmployeeFilterDTO("Engineering", 90000.0, 50000.0, null, null);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> employeeService.searchEmployees(filter, org.springframework.data.domain.PageRequest.of(0, 10)));
+		verifyNoInteractions(employeeRepository);
 	}
 }
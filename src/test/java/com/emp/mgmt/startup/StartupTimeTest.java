@@ -0,0 +1,170 @@
+package com.emp.mgmt.startup;
+
+import com.emp.mgmt.EmpMgmtSystemApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures time-to-ready of the application in separate JVMs, from process
+ * launch until {@code /actuator/health/readiness} answers, for the default
+ * startup ({@code ddl-auto=update}), the {@code prod} profile (Flyway
+ * validation, {@code ddl-auto=validate}) and, when the classes were generated
+ * with {@code -Paot}, the {@code prod} profile on the AOT bean definitions.
+ * <p>
+ * All modes boot against the same file-based H2 database, which the first
+ * {@code prod} start migrates. Modes are interleaved and the median of
+ * {@code startup.runs} launches is reported. The class data sharing archive
+ * needs a jar classpath, so it is built and measured with the Docker image
+ * rather than here.
+ * <p>
+ * Tagged {@code startup} and excluded from the default build; run it with
+ * {@code mvn -Paot,startup-test test}.
+ */
+@Tag("startup")
+public class StartupTimeTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(StartupTimeTest.class);
+
+	private static final Duration READY_TIMEOUT = Duration.ofMinutes(3);
+
+	private static final String AOT_INITIALIZER = EmpMgmtSystemApplication.class.getName()
+			+ "__ApplicationContextInitializer";
+
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+	@TempDir
+	private Path databaseDirectory;
+
+	@Test
+	public void testTimeToReady() throws Exception {
+		int runs = Integer.getInteger("startup.runs", 3);
+		Map<String, List<String>> modes = new LinkedHashMap<>();
+		modes.put("update", List.of("--spring.jpa.hibernate.ddl-auto=update"));
+		modes.put("prod", List.of("--spring.profiles.active=prod"));
+		if (aotClassesPresent()) {
+			modes.put("prod-aot", List.of("-Dspring.aot.enabled=true", "--spring.profiles.active=prod"));
+		} else {
+			logger.info("No AOT classes on the classpath, skipping the prod-aot mode (build with -Paot)");
+		}
+
+		// Creates the schema, so every measured mode starts from the same database
+		timeToReady(modes.get("prod"));
+
+		Map<String, List<Double>> samples = new LinkedHashMap<>();
+		for (int run = 0; run < runs; run++) {
+			for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+				samples.computeIfAbsent(mode.getKey(), key -> new ArrayList<>()).add(timeToReady(mode.getValue()));
+			}
+		}
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("runs", runs);
+		report.put("cpus", Runtime.getRuntime().availableProcessors());
+		report.put("javaVersion", System.getProperty("java.version"));
+		Map<String, Object> results = new LinkedHashMap<>();
+		samples.forEach((mode, seconds) -> {
+			double median = median(seconds);
+			logger.info(String.format("%-9s median %6.2f s  samples %s", mode, median, seconds));
+			results.put(mode, Map.of("medianSeconds", median, "samplesSeconds", seconds));
+		});
+		report.put("timeToReady", results);
+		Path reportPath = Path.of(System.getProperty("startup.report", "target/startup-report.json"));
+		Files.createDirectories(reportPath.toAbsolutePath().getParent());
+		new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+
+		assertEquals(modes.keySet(), samples.keySet());
+	}
+
+	/** Launches one JVM with {@code arguments} ({@code -D} flags first) and returns seconds until ready. */
+	private double timeToReady(List<String> arguments) throws Exception {
+		int port = freePort();
+		List<String> command = new ArrayList<>();
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add("-Dspring.devtools.restart.enabled=false");
+		arguments.stream().filter(argument -> argument.startsWith("-D")).forEach(command::add);
+		command.add(EmpMgmtSystemApplication.class.getName());
+		command.add("--server.port=" + port);
+		command.add("--spring.datasource.url=jdbc:h2:file:" + databaseDirectory.resolve("employees"));
+		command.add("--spring.sql.init.mode=never");
+		command.add("--spring.jpa.defer-datasource-initialization=false");
+		command.add("--logging.level.com.emp.mgmt=WARN");
+		arguments.stream().filter(argument -> argument.startsWith("--")).forEach(command::add);
+
+		Path output = databaseDirectory.resolve("startup-" + port + ".log");
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(output.toFile())
+				.start();
+		try {
+			HttpRequest readiness = HttpRequest
+					.newBuilder(URI.create("http://localhost:" + port + "/actuator/health/readiness"))
+					.timeout(Duration.ofSeconds(1)).build();
+			long deadline = start + READY_TIMEOUT.toNanos();
+			while (System.nanoTime() < deadline) {
+				if (!process.isAlive()) {
+					throw new IllegalStateException("Application exited with " + process.exitValue() + ":\n"
+							+ tail(output));
+				}
+				try {
+					if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+						return (System.nanoTime() - start) / 1_000_000 / 1000.0;
+					}
+				} catch (IOException ex) {
+					// Not listening yet, or too busy starting to answer
+				}
+				Thread.sleep(50);
+			}
+			throw new IllegalStateException("Application not ready within " + READY_TIMEOUT + ":\n" + tail(output));
+		} finally {
+			process.destroy();
+			process.waitFor();
+		}
+	}
+
+	private static boolean aotClassesPresent() {
+		try {
+			Class.forName(AOT_INITIALIZER, false, StartupTimeTest.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException ex) {
+			return false;
+		}
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	private static double median(List<Double> values) {
+		List<Double> sorted = values.stream().sorted().toList();
+		int middle = sorted.size() / 2;
+		return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+	}
+
+	private static String tail(Path output) throws IOException {
+		List<String> lines = Files.readAllLines(output);
+		return String.join("\n", lines.subList(Math.max(0, lines.size() - 40), lines.size()));
+	}
+}
@@ -0,0 +1,257 @@
+package com.emp.mgmt.stats;
+
+import com.emp.mgmt.dto.DepartmentStatsDTO;
+import com.emp.mgmt.dto.EmployeeDTO;
+import com.emp.mgmt.event.EmployeeChangedEvent;
+import com.emp.mgmt.repository.DepartmentTotalsView;
+import com.emp.mgmt.repository.DepartmentYearCountView;
+import com.emp.mgmt.repository.EmployeeRepository;
+import com.emp.mgmt.repository.EmployeeStatsView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentStatsAggregatorTest {
+
+	@Mock
+	private EmployeeRepository employeeRepository;
+
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	@Spy
+	private TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+	@Spy
+	private TaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("application-task-");
+
+	@InjectMocks
+	private DepartmentStatsAggregator aggregator;
+
+	@BeforeEach
+	public void setUp() {
+		changed(EmployeeChangedEvent.Type.CREATED, 1L, "IT", 50000.0, LocalDate.of(2020, 1, 15));
+		changed(EmployeeChangedEvent.Type.CREATED, 2L, "IT", 70000.0, LocalDate.of(2021, 6, 1));
+		changed(EmployeeChangedEvent.Type.CREATED, 3L, "HR", 40000.0, LocalDate.of(2020, 3, 9));
+	}
+
+	@Test
+	public void testGetDepartmentStats() {
+		List<DepartmentStatsDTO> stats = aggregator.getDepartmentStats();
+
+		assertEquals(List.of("HR", "IT"), stats.stream().map(DepartmentStatsDTO::getDepartment).toList());
+		DepartmentStatsDTO it = stats.get(1);
+		assertEquals(2, it.getHeadcount());
+		assertEquals(120000.0, it.getTotalSalary());
+		assertEquals(60000.0, it.getAverageSalary());
+		assertEquals(50000.0, it.getMinSalary());
+		assertEquals(70000.0, it.getMaxSalary());
+		assertEquals(Map.of(2020, 1L, 2021, 1L), it.getJoiningYearHistogram());
+	}
+
+	@Test
+	public void testOnEmployeeChanged_UpdateMovesDepartmentAndDeleteRestoresMax() {
+		changed(EmployeeChangedEvent.Type.UPDATED, 1L, "HR", 45000.0, LocalDate.of(2020, 1, 15));
+		aggregator.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.Type.DELETED, 2L, null));
+
+		List<DepartmentStatsDTO> stats = aggregator.getDepartmentStats();
+
+		assertEquals(1, stats.size());
+		assertEquals("HR", stats.get(0).getDepartment());
+		assertEquals(2, stats.get(0).getHeadcount());
+		assertEquals(40000.0, stats.get(0).getMinSalary());
+		assertEquals(45000.0, stats.get(0).getMaxSalary());
+		assertEquals(Map.of(2020, 2L), stats.get(0).getJoiningYearHistogram());
+	}
+
+	@Test
+	public void testOnEmployeeChanged_ConcurrentSalaryUpdates() throws Exception {
+		int threads = 8;
+		int updatesPerThread = 2000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				long id = 100L + t;
+				tasks.add(() -> {
+					for (int i = 1; i <= updatesPerThread; i++) {
+						changed(EmployeeChangedEvent.Type.UPDATED, id, i % 2 == 0 ? "IT" : "Sales", (double) i,
+								LocalDate.of(2022, 1, 1));
+					}
+					return null;
+				});
+				// One row updated from every thread at once; whichever event lands last wins
+				tasks.add(() -> {
+					for (int i = 1; i <= updatesPerThread; i++) {
+						changed(EmployeeChangedEvent.Type.UPDATED, 999L, "IT", 1000.0, LocalDate.of(2023, 1, 1));
+					}
+					return null;
+				});
+			}
+			for (Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		// Each id ends on an even iteration, so all of them sit in IT with salary == updatesPerThread
+		DepartmentStatsDTO it = aggregator.getDepartmentStats().stream()
+				.filter(stats -> "IT".equals(stats.getDepartment())).findFirst().orElseThrow();
+		assertEquals(2 + threads + 1, it.getHeadcount());
+		assertEquals(120000.0 + threads * (double) updatesPerThread + 1000.0, it.getTotalSalary(), 0.001);
+		assertEquals(1000.0, it.getMinSalary());
+		assertEquals(70000.0, it.getMaxSalary());
+		assertEquals(Map.of(2020, 1L, 2021, 1L, 2022, (long) threads, 2023, 1L), it.getJoiningYearHistogram());
+		assertTrue(aggregator.getDepartmentStats().stream().noneMatch(stats -> "Sales".equals(stats.getDepartment())));
+	}
+
+	@Test
+	public void testReconcile_RebuildsDriftedDepartment() {
+		// The database says employee 2 was raised to 80000 and never told us
+		List<DepartmentTotalsView> totals = List.of(totals("IT", 2L, 130000.0, 50000.0, 80000.0),
+				totals("HR", 1L, 40000.0, 40000.0, 40000.0));
+		List<DepartmentYearCountView> yearCounts = List.of(yearCount("IT", 2020, 1L), yearCount("IT", 2021, 1L),
+				yearCount("HR", 2020, 1L));
+		List<EmployeeStatsView> rows = List.of(row(1L, "IT", 50000.0, LocalDate.of(2020, 1, 15)),
+				row(2L, "IT", 80000.0, LocalDate.of(2021, 6, 1)));
+		when(employeeRepository.findDepartmentTotals()).thenReturn(totals);
+		when(employeeRepository.findDepartmentJoiningYearCounts()).thenReturn(yearCounts);
+		when(employeeRepository.findStatsByDepartment("IT")).thenReturn(rows);
+
+		assertEquals(1, aggregator.reconcile());
+
+		DepartmentStatsDTO it = aggregator.getDepartmentStats().get(1);
+		assertEquals(130000.0, it.getTotalSalary());
+		assertEquals(80000.0, it.getMaxSalary());
+		verify(employeeRepository, never()).findStatsByDepartment("HR");
+		assertEquals(0, aggregator.reconcile());
+	}
+
+	@Test
+	public void testReconcile_DropsDepartmentMissingFromDatabase() {
+		List<DepartmentTotalsView> totals = List.of(totals("IT", 2L, 120000.0, 50000.0, 70000.0));
+		List<DepartmentYearCountView> yearCounts = List.of(yearCount("IT", 2020, 1L), yearCount("IT", 2021, 1L));
+		when(employeeRepository.findDepartmentTotals()).thenReturn(totals);
+		when(employeeRepository.findDepartmentJoiningYearCounts()).thenReturn(yearCounts);
+		when(employeeRepository.findStatsByDepartment("HR")).thenReturn(List.of());
+
+		assertEquals(1, aggregator.reconcile());
+
+		assertEquals(List.of("IT"),
+				aggregator.getDepartmentStats().stream().map(DepartmentStatsDTO::getDepartment).toList());
+	}
+
+	@Test
+	public void testReconcile_EventDuringRebuildNotOverwritten() throws Exception {
+		List<DepartmentTotalsView> totals = List.of(totals("IT", 2L, 130000.0, 50000.0, 80000.0),
+				totals("HR", 1L, 40000.0, 40000.0, 40000.0));
+		List<DepartmentYearCountView> yearCounts = List.of(yearCount("IT", 2020, 1L), yearCount("IT", 2021, 1L),
+				yearCount("HR", 2020, 1L));
+		when(employeeRepository.findDepartmentTotals()).thenReturn(totals);
+		when(employeeRepository.findDepartmentJoiningYearCounts()).thenReturn(yearCounts);
+		List<EmployeeStatsView> rows = List.of(row(1L, "IT", 50000.0, LocalDate.of(2020, 1, 15)),
+				row(2L, "IT", 80000.0, LocalDate.of(2021, 6, 1)));
+		CompletableFuture<Void> raise = new CompletableFuture<>();
+		when(employeeRepository.findStatsByDepartment("IT")).thenAnswer(invocation -> {
+			// Employee 2 is raised again and its event arrives while the rows are being read
+			CompletableFuture.runAsync(
+					() -> changed(EmployeeChangedEvent.Type.UPDATED, 2L, "IT", 90000.0, LocalDate.of(2021, 6, 1)))
+					.whenComplete((result, ex) -> raise.complete(null));
+			Thread.sleep(100);
+			return rows;
+		});
+
+		aggregator.reconcile();
+		raise.get(5, TimeUnit.SECONDS);
+
+		DepartmentStatsDTO it = aggregator.getDepartmentStats().get(1);
+		assertEquals(90000.0, it.getMaxSalary());
+		assertEquals(140000.0, it.getTotalSalary());
+	}
+
+	@Test
+	public void testOnEmployeeChanged_BulkUpdateReconciledInBackground() throws Exception {
+		CompletableFuture<String> reconciledOn = new CompletableFuture<>();
+		List<DepartmentTotalsView> totals = List.of(totals("IT", 2L, 132000.0, 55000.0, 77000.0),
+				totals("HR", 1L, 40000.0, 40000.0, 40000.0));
+		when(employeeRepository.findDepartmentTotals()).thenAnswer(invocation -> {
+			reconciledOn.complete(Thread.currentThread().getName());
+			return totals;
+		});
+		List<DepartmentYearCountView> yearCounts = List.of(yearCount("IT", 2020, 1L), yearCount("IT", 2021, 1L),
+				yearCount("HR", 2020, 1L));
+		List<EmployeeStatsView> rows = List.of(row(1L, "IT", 55000.0, LocalDate.of(2020, 1, 15)),
+				row(2L, "IT", 77000.0, LocalDate.of(2021, 6, 1)));
+		when(employeeRepository.findDepartmentJoiningYearCounts()).thenReturn(yearCounts);
+		when(employeeRepository.findStatsByDepartment("IT")).thenReturn(rows);
+
+		aggregator.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.Type.BULK_UPDATED, null, null));
+
+		assertTrue(reconciledOn.get(5, TimeUnit.SECONDS).startsWith("application-task-"));
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (aggregator.getDepartmentStats().get(1).getTotalSalary() != 132000.0 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(132000.0, aggregator.getDepartmentStats().get(1).getTotalSalary());
+	}
+
+	private void changed(EmployeeChangedEvent.Type type, Long id, String department, Double salary,
+			LocalDate joiningDate) {
+		EmployeeDTO employee = new EmployeeDTO();
+		employee.setId(id);
+		employee.setDepartment(department);
+		employee.setSalary(salary);
+		employee.setJoiningDate(joiningDate);
+		aggregator.onEmployeeChanged(new EmployeeChangedEvent(type, id, employee));
+	}
+
+	private static DepartmentTotalsView totals(String department, Long headcount, Double sum, Double min, Double max) {
+		DepartmentTotalsView view = mock(DepartmentTotalsView.class);
+		when(view.getDepartment()).thenReturn(department);
+		when(view.getHeadcount()).thenReturn(headcount);
+		when(view.getSalarySum()).thenReturn(sum);
+		when(view.getMinSalary()).thenReturn(min);
+		when(view.getMaxSalary()).thenReturn(max);
+		return view;
+	}
+
+	private static DepartmentYearCountView yearCount(String department, Integer year, Long headcount) {
+		DepartmentYearCountView view = mock(DepartmentYearCountView.class);
+		when(view.getDepartment()).thenReturn(department);
+		when(view.getJoiningYear()).thenReturn(year);
+		when(view.getHeadcount()).thenReturn(headcount);
+		return view;
+	}
+
+	private static EmployeeStatsView row(Long id, String department, Double salary, LocalDate joiningDate) {
+		EmployeeStatsView view = mock(EmployeeStatsView.class);
+		when(view.getId()).thenReturn(id);
+		when(view.getDepartment()).thenReturn(department);
+		when(view.getSalary()).thenReturn(salary);
+		when(view.getJoiningDate()).thenReturn(joiningDate);
+		return view;
+	}
+}
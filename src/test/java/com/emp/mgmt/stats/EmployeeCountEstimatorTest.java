@@ -0,0 +1,58 @@
+package com.emp.mgmt.stats;
+
+import com.emp.mgmt.event.EmployeeChangedEvent;
+import com.emp.mgmt.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCountEstimatorTest {
+
+	@Mock
+	private EmployeeRepository employeeRepository;
+
+	@InjectMocks
+	private EmployeeCountEstimator estimator;
+
+	@Test
+	public void testGetApproximateCount_WritesMoveTheTotal() {
+		when(employeeRepository.count()).thenReturn(10L);
+
+		assertEquals(10, estimator.getApproximateCount());
+		estimator.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.Type.CREATED, 11L, null));
+		estimator.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.Type.CREATED, 12L, null));
+		estimator.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.Type.DELETED, 3L, null));
+		estimator.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.Type.UPDATED, 4L, null));
+		estimator.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.Type.BULK_UPDATED, null, null));
+
+		assertEquals(11, estimator.getApproximateCount());
+		verify(employeeRepository, times(1)).count();
+	}
+
+	@Test
+	public void testGetApproximateCount_EventsBeforeFirstCountAreIgnored() {
+		estimator.onEmployeeChanged(new EmployeeChangedEvent(EmployeeChangedEvent.Type.DELETED, 3L, null));
+		when(employeeRepository.count()).thenReturn(5L);
+
+		assertEquals(5, estimator.getApproximateCount());
+	}
+
+	@Test
+	public void testGetApproximateCount_RecountsAfterMaxAge() {
+		estimator.setMaxAge(Duration.ZERO);
+		when(employeeRepository.count()).thenReturn(10L, 25L);
+
+		assertEquals(10, estimator.getApproximateCount());
+		// Rows added by another instance show up once the total is older than max-age
+		assertEquals(25, estimator.getApproximateCount());
+		verify(employeeRepository, times(2)).count();
+	}
+}
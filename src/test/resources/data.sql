@@ -1,3 +1,3 @@
-INSERT INTO employees (id, name, email) VALUES (1, 'Pratik Chavan', 'pratik@gmail.com');
-INSERT INTO employees (id, name, email) VALUES (2, 'Saurabh Patil', 'saurabh@gmail.com');
-INSERT INTO employees (id, name, email) VALUES (3, 'Amit Singh', 'amit@gmail.com');
+INSERT INTO employees (id, name, email) VALUES (NEXT VALUE FOR employees_seq, 'Pratik Chavan', 'pratik@gmail.com');
+INSERT INTO employees (id, name, email) VALUES (NEXT VALUE FOR employees_seq, 'Saurabh Patil', 'saurabh@gmail.com');
+INSERT INTO employees (id, name, email) VALUES (NEXT VALUE FOR employees_seq, 'Amit Singh', 'amit@gmail.com');
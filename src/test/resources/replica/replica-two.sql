@@ -0,0 +1,4 @@
+-- Stand-in read replica; runs on every connection (H2 INIT), so it must be idempotent
+CREATE TABLE IF NOT EXISTS employees (id BIGINT PRIMARY KEY, name VARCHAR(255), email VARCHAR(255),
+	department VARCHAR(255), salary DOUBLE PRECISION, joining_date DATE, version BIGINT DEFAULT 0 NOT NULL);
+MERGE INTO employees (id, name, email) KEY (id) VALUES (2000, 'Replica Two', 'replica.two@example.com');